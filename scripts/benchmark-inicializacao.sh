@@ -0,0 +1,58 @@
+#!/bin/sh
+# Mede a subida da API com e sem as otimizações de inicialização, em dois marcos:
+#
+#   pronta:         GET /actuator/health/readiness responde 200 (contexto de pé, Flyway e Hibernate já montados)
+#   primeira leitura: GET /actuator/health responde 200, o que inclui o indicador `db` (uma ida real ao banco,
+#                   com os beans preguiçosos do caminho criados na hora)
+#
+#   base:          sem arquivo CDS (-Xshare:off) e sem o perfil inicio-rapido
+#   inicio-rapido: arquivo CDS da imagem + perfil inicio-rapido (lazy init, sem validação do Hibernate, OpenAPI estático)
+#
+# Uso: DB_URL=jdbc:postgresql://host.docker.internal:5432/produtos DB_USER=... DB_PASSWORD=... \
+#      scripts/benchmark-inicializacao.sh [imagem] [execucoes]
+set -eu
+
+IMAGEM=${1:-gerenciador-de-produtos}
+EXECUCOES=${2:-5}
+PORTA=${PORTA:-18080}
+
+aguardar() {
+    until curl -fs "http://localhost:$PORTA$1" > /dev/null 2>&1; do
+        if ! docker ps -q --no-trunc | grep -q "$container"; then
+            echo "$modo: o container parou antes de responder em $1" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+}
+
+mediana() {
+    echo "$1" | tr ' ' '\n' | sed '/^$/d' | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+medir() {
+    modo=$1
+    shift
+    prontas=""
+    leituras=""
+    i=1
+    while [ "$i" -le "$EXECUCOES" ]; do
+        inicio=$(date +%s%3N)
+        container=$(docker run -d --rm -p "$PORTA:8080" \
+            -e DB_URL="$DB_URL" -e DB_USER="$DB_USER" -e DB_PASSWORD="$DB_PASSWORD" \
+            "$@" "$IMAGEM")
+        aguardar /actuator/health/readiness
+        pronta=$(date +%s%3N)
+        aguardar /actuator/health
+        leitura=$(date +%s%3N)
+        docker stop "$container" > /dev/null
+        prontas="$prontas $((pronta - inicio))"
+        leituras="$leituras $((leitura - inicio))"
+        i=$((i + 1))
+    done
+    echo "$modo: pronta em $(mediana "$prontas") ms (execuções:$prontas)"
+    echo "$modo: primeira leitura do banco em $(mediana "$leituras") ms (execuções:$leituras)"
+}
+
+medir base -e JAVA_OPTS=-Xshare:off
+medir inicio-rapido -e SPRING_PROFILES_ACTIVE=inicio-rapido
@@ -2,8 +2,12 @@ package br.com.gerenciador.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "br.com.gerenciador.api")
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class GerenciadorDeProdutosApplication {
 
 	public static void main(String[] args) {
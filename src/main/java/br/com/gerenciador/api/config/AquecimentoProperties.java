@@ -0,0 +1,26 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 📌 Configurações do aquecimento do JIT na subida (`app.aquecimento.*`).
+ *
+ * ✅ `tamanhoLote`: iterações entre uma verificação do compilador e a próxima.
+ * ✅ `iteracoesMinimas` / `iteracoesMaximas`: limites do aquecimento, qualquer que seja o ritmo do JIT.
+ * ✅ `compilacaoEstavel`: tempo de compilação do JIT por lote abaixo do qual o lote conta como estável.
+ * ✅ `lotesEstaveis`: lotes estáveis seguidos para encerrar o aquecimento.
+ * ✅ `tempoMaximo`: a aplicação fica pronta depois desse tempo mesmo que o JIT ainda esteja compilando.
+ */
+@ConfigurationProperties(prefix = "app.aquecimento")
+public record AquecimentoProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue("250") int tamanhoLote,
+        @DefaultValue("2000") int iteracoesMinimas,
+        @DefaultValue("50000") int iteracoesMaximas,
+        @DefaultValue("5ms") Duration compilacaoEstavel,
+        @DefaultValue("3") int lotesEstaveis,
+        @DefaultValue("30s") Duration tempoMaximo
+) {}
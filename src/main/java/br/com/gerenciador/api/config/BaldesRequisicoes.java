@@ -0,0 +1,184 @@
+package br.com.gerenciador.api.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 📌 Token buckets por cliente (usuário ou IP), sem locks no caminho da requisição.
+ *
+ * 🚀 **Como funciona:**
+ * ✅ Cada balde é um único `long`: o instante (em `System.nanoTime()`) em que ele estaria cheio de novo.
+ *    Consumir um token é adiantar esse instante em um intervalo (`1s / porSegundo`) com um CAS; o balde
+ *    recusa quando o instante passaria de `capacidade` intervalos à frente de agora. Nada é reposto por timer.
+ * ✅ Um cliente guarda todos os seus baldes (geral + um por rota) num `AtomicLongArray`: uma busca no mapa por requisição.
+ * ✅ Os clientes ficam em `faixas` mapas independentes, cada um com no máximo `maximoClientes / faixas` entradas
+ *    (aproximado: clientes novos chegando juntos podem passar um pouco).
+ * ✅ Faixa cheia: no máximo uma varredura de ociosos a cada `ociosidade / 10` por faixa; no resto do tempo (ou se
+ *    a varredura não liberou espaço) sai o cliente usado há mais tempo, escolhido por segunda chance (relógio):
+ *    custo constante amortizado por cliente novo, nunca uma varredura por requisição.
+ *
+ * 🔹 Um cliente descartado por ociosidade estava com todos os baldes cheios: recriá-lo não muda o resultado.
+ * 🔹 O descartado por falta de espaço volta com os baldes cheios; a memória fica limitada e nenhum cliente
+ *    passa a dividir balde com desconhecidos.
+ */
+final class BaldesRequisicoes {
+
+    private static final long NUNCA = Long.MIN_VALUE;
+
+    private final Faixa[] faixas;
+    private final int mascara;
+    private final int maximoPorFaixa;
+    private final int baldesPorCliente;
+    private final long ociosidadeNanos;
+    private final long intervaloVarreduraNanos;
+
+    BaldesRequisicoes(int faixas, int maximoClientes, int baldesPorCliente, Duration ociosidade) {
+        int quantidade = Integer.highestOneBit(Math.max(1, faixas) * 2 - 1); // arredonda para potência de 2
+        this.faixas = new Faixa[quantidade];
+        this.mascara = quantidade - 1;
+        this.maximoPorFaixa = Math.max(1, maximoClientes / quantidade);
+        this.baldesPorCliente = baldesPorCliente;
+        this.ociosidadeNanos = ociosidade.toNanos();
+        this.intervaloVarreduraNanos = Math.max(1, ociosidadeNanos / 10);
+        for (int i = 0; i < quantidade; i++) {
+            this.faixas[i] = new Faixa();
+        }
+    }
+
+    /**
+     * 📌 Tenta consumir um token do balde `balde` do cliente.
+     *
+     * @return quanto o balde fica "devendo" em nanos (`instante cheio - agora`): até `excessoMaximo`
+     *         o token foi consumido; acima disso a requisição foi recusada e nada mudou.
+     */
+    long consumir(String chave, int balde, long intervaloNanos, long excessoMaximo, long agora) {
+        AtomicLongArray baldes = cliente(chave, agora).baldes;
+        while (true) {
+            long cheioEm = baldes.get(balde);
+            long novo = (cheioEm - agora > 0 ? cheioEm : agora) + intervaloNanos;
+            long excesso = novo - agora;
+            if (excesso > excessoMaximo || baldes.compareAndSet(balde, cheioEm, novo)) {
+                return excesso;
+            }
+        }
+    }
+
+    /**
+     * 📌 Descarta os clientes ociosos de todas as faixas; devolve quantos saíram.
+     */
+    int removerOciosos(long agora) {
+        int removidos = 0;
+        for (Faixa faixa : faixas) {
+            removidos += removerOciosos(faixa, agora);
+        }
+        return removidos;
+    }
+
+    long quantidadeClientes() {
+        long total = 0;
+        for (Faixa faixa : faixas) {
+            total += faixa.clientes.mappingCount();
+        }
+        return total;
+    }
+
+    private Cliente cliente(String chave, long agora) {
+        int hash = chave.hashCode();
+        Faixa faixa = faixas[(hash ^ (hash >>> 16)) & mascara];
+        Cliente cliente = faixa.clientes.get(chave);
+        if (cliente != null) {
+            cliente.usar();
+            return cliente;
+        }
+        if (faixa.clientes.mappingCount() >= maximoPorFaixa) {
+            abrirEspaco(faixa, agora);
+        }
+        Cliente novo = new Cliente(baldesPorCliente, agora);
+        Cliente existente = faixa.clientes.putIfAbsent(chave, novo);
+        if (existente != null) {
+            existente.usar();
+            return existente;
+        }
+        faixa.ordem.offer(chave);
+        return novo;
+    }
+
+    // Varredura só se a faixa não foi varrida no último intervalo (e só uma thread por vez); senão, despejo do relógio
+    private void abrirEspaco(Faixa faixa, long agora) {
+        long ultima = faixa.ultimaVarredura.get();
+        if ((ultima == NUNCA || agora - ultima >= intervaloVarreduraNanos)
+                && faixa.ultimaVarredura.compareAndSet(ultima, agora)
+                && removerOciosos(faixa, agora) > 0) {
+            return;
+        }
+        despejarMenosUsado(faixa);
+    }
+
+    // Segunda chance: quem foi usado desde a última passada do relógio perde a marca e vai para o fim da fila
+    private void despejarMenosUsado(Faixa faixa) {
+        for (int passos = 0; passos <= 2 * maximoPorFaixa; passos++) {
+            String chave = faixa.ordem.poll();
+            if (chave == null) {
+                return;
+            }
+            Cliente cliente = faixa.clientes.get(chave);
+            if (cliente == null) {
+                continue; // já saiu numa varredura
+            }
+            if (cliente.usado) {
+                cliente.usado = false;
+                faixa.ordem.offer(chave);
+            } else if (faixa.clientes.remove(chave, cliente)) {
+                return;
+            }
+        }
+    }
+
+    private int removerOciosos(Faixa faixa, long agora) {
+        int antes = faixa.clientes.size();
+        faixa.clientes.values().removeIf(cliente -> cliente.ocioso(agora, ociosidadeNanos));
+        faixa.ordem.removeIf(chave -> !faixa.clientes.containsKey(chave));
+        return antes - faixa.clientes.size();
+    }
+
+    private static final class Faixa {
+
+        private final ConcurrentHashMap<String, Cliente> clientes = new ConcurrentHashMap<>();
+        // Chaves na ordem do relógio de segunda chance (uma entrada por cliente no mapa)
+        private final ConcurrentLinkedQueue<String> ordem = new ConcurrentLinkedQueue<>();
+        private final AtomicLong ultimaVarredura = new AtomicLong(NUNCA);
+    }
+
+    private static final class Cliente {
+
+        private final AtomicLongArray baldes;
+        // Usado desde que entrou ou desde a última passada do relógio; só é escrita quando muda,
+        // para não disputar a linha de cache a cada requisição
+        private volatile boolean usado;
+
+        Cliente(int quantidade, long agora) {
+            this.baldes = new AtomicLongArray(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                baldes.set(i, agora); // cheio
+            }
+        }
+
+        void usar() {
+            if (!usado) {
+                usado = true;
+            }
+        }
+
+        boolean ocioso(long agora, long ociosidadeNanos) {
+            for (int i = 0; i < baldes.length(); i++) {
+                if (agora - baldes.get(i) < ociosidadeNanos) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
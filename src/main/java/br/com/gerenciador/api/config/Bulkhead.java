@@ -0,0 +1,19 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+
+import java.lang.annotation.*;
+
+/**
+ * 📌 Indica a classe de carga de um serviço ou método; cada classe tem um limite de conexões fora do pool
+ * ao mesmo tempo (`BulkheadAspect` + `BulkheadConexoes`).
+ *
+ * 🔹 Na classe vale para todos os métodos públicos; no método, sobrepõe a da classe.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    CargaTrabalhoEnum value();
+}
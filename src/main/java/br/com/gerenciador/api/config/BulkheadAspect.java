@@ -0,0 +1,52 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 📌 Bulkheads por classe de carga: marca a thread com a `CargaTrabalhoEnum` do serviço chamado.
+ *
+ * ✅ A vaga em si é pedida pelo `BulkheadDataSource` ao abrir a conexão e devolvida ao fechá-la
+ *    (`BulkheadConexoes`), então o limite vale para as conexões fora do pool, não para a duração do método.
+ * ✅ Roda antes do `@Transactional` (ordem menor): a marca já está na thread quando a transação abre a conexão.
+ * ✅ Chamadas aninhadas na mesma thread mantêm a classe da chamada externa.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class BulkheadAspect {
+
+    private final BulkheadConexoes conexoes;
+
+    public BulkheadAspect(BulkheadConexoes conexoes) {
+        this.conexoes = conexoes;
+    }
+
+    @Around("@within(br.com.gerenciador.api.config.Bulkhead) || @annotation(br.com.gerenciador.api.config.Bulkhead)")
+    public Object limitar(ProceedingJoinPoint chamada) throws Throwable {
+        if (conexoes.cargaAtual() != null) {
+            return chamada.proceed();
+        }
+        return conexoes.executar(cargaDe(chamada), chamada::proceed);
+    }
+
+    private static CargaTrabalhoEnum cargaDe(ProceedingJoinPoint chamada) {
+        Class<?> alvo = AopUtils.getTargetClass(chamada.getTarget());
+        Method metodo = AopUtils.getMostSpecificMethod(((MethodSignature) chamada.getSignature()).getMethod(), alvo);
+        Bulkhead anotacao = AnnotatedElementUtils.findMergedAnnotation(metodo, Bulkhead.class);
+        if (anotacao == null) {
+            anotacao = AnnotatedElementUtils.findMergedAnnotation(alvo, Bulkhead.class);
+        }
+        return anotacao.value();
+    }
+}
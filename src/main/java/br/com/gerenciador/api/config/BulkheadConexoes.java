@@ -0,0 +1,214 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📌 Vagas de conexão por classe de carga: um semáforo por `CargaTrabalhoEnum` sobre o pool do Hikari.
+ *
+ * 🚀 **Como a vaga acompanha a conexão:**
+ * 1️⃣ O `BulkheadAspect` marca a thread com a classe de carga do serviço chamado (`executar`).
+ * 2️⃣ O `BulkheadDataSource` pede a vaga quando a conexão física é aberta (`abrir`) e a devolve
+ *    quando ela é fechada: a vaga dura exatamente o tempo em que a conexão está fora do pool.
+ * 3️⃣ Conexões abertas pela mesma thread enquanto ela já segura uma (ex: `REQUIRES_NEW`) usam a mesma vaga;
+ *    pedir outra faria a thread esperar por ela mesma quando `maximo = 1`.
+ *
+ * ✅ Sem vaga dentro do prazo, `abrir` lança `SQLTransientConnectionException` (a mesma do Hikari esgotado):
+ *    leituras caem no modo degradado e escritas recebem `503`.
+ * ✅ Tarefas que o serviço entrega a outras threads levam a marca junto (`propagar`); cada thread pede a sua vaga.
+ * 🔹 Conexões abertas fora de um serviço com `@Bulkhead` (Flyway, tarefas de infraestrutura) não pedem vaga.
+ *
+ * 📊 Métricas (tag `carga`): `bulkhead.em.uso`, `bulkhead.limite`, `bulkhead.espera`, `bulkhead.recusadas`.
+ */
+@Component
+public class BulkheadConexoes {
+
+    private static final ThreadLocal<CargaTrabalhoEnum> CARGA_ATUAL = new ThreadLocal<>();
+    private static final ThreadLocal<Reserva> RESERVA_ATUAL = new ThreadLocal<>();
+
+    private final Map<CargaTrabalhoEnum, Compartimento> compartimentos = new EnumMap<>(CargaTrabalhoEnum.class);
+
+    public BulkheadConexoes(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (CargaTrabalhoEnum carga : CargaTrabalhoEnum.values()) {
+            compartimentos.put(carga, new Compartimento(carga, properties.limite(carga), meterRegistry));
+        }
+    }
+
+    /**
+     * 📌 Classe de carga da thread atual (ou `null` fora de um serviço com `@Bulkhead`).
+     */
+    public CargaTrabalhoEnum cargaAtual() {
+        return CARGA_ATUAL.get();
+    }
+
+    /**
+     * 📌 Executa a chamada com a thread marcada com `carga`; chamadas aninhadas mantêm a marca da externa.
+     */
+    public Object executar(CargaTrabalhoEnum carga, Chamada chamada) throws Throwable {
+        if (CARGA_ATUAL.get() != null) {
+            return chamada.executar();
+        }
+        CARGA_ATUAL.set(carga);
+        try {
+            return chamada.executar();
+        } finally {
+            CARGA_ATUAL.remove();
+        }
+    }
+
+    /**
+     * 📌 Prepara `tarefa` para rodar em outra thread com a classe de carga da thread atual (se houver).
+     */
+    public <T> Callable<T> propagar(Callable<T> tarefa) {
+        CargaTrabalhoEnum carga = CARGA_ATUAL.get();
+        if (carga == null) {
+            return tarefa;
+        }
+        return () -> {
+            if (CARGA_ATUAL.get() != null) {
+                return tarefa.call();
+            }
+            CARGA_ATUAL.set(carga);
+            try {
+                return tarefa.call();
+            } finally {
+                CARGA_ATUAL.remove();
+            }
+        };
+    }
+
+    /**
+     * 📌 Abre uma conexão de `alvo` segurando a vaga da carga atual até o `close()` dela.
+     */
+    Connection abrir(DataSource alvo) throws SQLException {
+        CargaTrabalhoEnum carga = CARGA_ATUAL.get();
+        if (carga == null) {
+            return alvo.getConnection();
+        }
+
+        Reserva reserva = RESERVA_ATUAL.get();
+        if (reserva == null) {
+            Compartimento compartimento = compartimentos.get(carga);
+            compartimento.entrar();
+            reserva = new Reserva(compartimento);
+            RESERVA_ATUAL.set(reserva);
+        }
+        reserva.abertas.incrementAndGet();
+
+        Connection conexao;
+        try {
+            conexao = alvo.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            liberar(reserva);
+            throw e;
+        }
+        return vincular(conexao, reserva);
+    }
+
+    private Connection vincular(Connection conexao, Reserva reserva) {
+        AtomicBoolean fechada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    if ("close".equals(metodo.getName()) && metodo.getParameterCount() == 0) {
+                        try {
+                            conexao.close();
+                        } finally {
+                            if (fechada.compareAndSet(false, true)) {
+                                liberar(reserva);
+                            }
+                        }
+                        return null;
+                    }
+                    if ("unwrap".equals(metodo.getName()) || "isWrapperFor".equals(metodo.getName())) {
+                        if (((Class<?>) argumentos[0]).isInstance(proxy)) {
+                            return "unwrap".equals(metodo.getName()) ? proxy : true;
+                        }
+                    }
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private static void liberar(Reserva reserva) {
+        if (reserva.abertas.decrementAndGet() == 0) {
+            if (RESERVA_ATUAL.get() == reserva) {
+                RESERVA_ATUAL.remove();
+            }
+            reserva.compartimento.vagas.release();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Chamada {
+        Object executar() throws Throwable;
+    }
+
+    private record Reserva(Compartimento compartimento, AtomicInteger abertas) {
+
+        Reserva(Compartimento compartimento) {
+            this(compartimento, new AtomicInteger());
+        }
+    }
+
+    private static final class Compartimento {
+
+        private final CargaTrabalhoEnum carga;
+        private final BulkheadProperties.Limite limite;
+        private final Semaphore vagas;
+        private final Timer espera;
+        private final Counter recusadas;
+
+        private Compartimento(CargaTrabalhoEnum carga, BulkheadProperties.Limite limite, MeterRegistry meterRegistry) {
+            String tag = carga.name().toLowerCase();
+            this.carga = carga;
+            this.limite = limite;
+            this.vagas = new Semaphore(limite.maximo(), true);
+            this.espera = Timer.builder("bulkhead.espera").tag("carga", tag).register(meterRegistry);
+            this.recusadas = Counter.builder("bulkhead.recusadas").tag("carga", tag).register(meterRegistry);
+            Gauge.builder("bulkhead.em.uso", vagas, semaforo -> limite.maximo() - semaforo.availablePermits())
+                    .tag("carga", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.limite", limite, BulkheadProperties.Limite::maximo)
+                    .tag("carga", tag)
+                    .register(meterRegistry);
+        }
+
+        private void entrar() throws SQLTransientConnectionException {
+            long inicio = System.nanoTime();
+            boolean conseguiu;
+            try {
+                conseguiu = vagas.tryAcquire(limite.espera().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrompido aguardando vaga no bulkhead " + carga, e);
+            }
+            espera.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            if (!conseguiu) {
+                recusadas.increment();
+                throw new SQLTransientConnectionException(
+                        "Sem vaga no bulkhead " + carga + " após " + limite.espera().toMillis() + " ms");
+            }
+        }
+    }
+}
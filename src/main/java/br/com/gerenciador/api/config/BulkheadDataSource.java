@@ -0,0 +1,27 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 📌 Pool principal com a vaga do bulkhead presa a cada conexão (`BulkheadConexoes.abrir`).
+ *
+ * 🔹 `getConnection(usuario, senha)` não é usado pela aplicação e segue direto para o pool.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final BulkheadConexoes conexoes;
+
+    public BulkheadDataSource(DataSource alvo, BulkheadConexoes conexoes) {
+        super(alvo);
+        this.conexoes = conexoes;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conexoes.abrir(obtainTargetDataSource());
+    }
+}
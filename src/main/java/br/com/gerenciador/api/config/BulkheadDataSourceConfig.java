@@ -0,0 +1,34 @@
+package br.com.gerenciador.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * 📌 Envolve o pool Hikari principal com o `BulkheadDataSource`.
+ *
+ * ✅ `dataSource`: o pool do Spring Boot (sem réplicas); `dataSourcePrimario`: o primário com réplicas ligadas.
+ * 🔹 As réplicas têm pools próprios e não disputam as conexões do primário.
+ */
+@Configuration
+public class BulkheadDataSourceConfig {
+
+    private static final Set<String> POOLS_PRINCIPAIS = Set.of("dataSource", "dataSourcePrimario");
+
+    @Bean
+    static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<BulkheadConexoes> conexoes) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nome) {
+                if (bean instanceof HikariDataSource pool && POOLS_PRINCIPAIS.contains(nome)) {
+                    return new BulkheadDataSource(pool, conexoes.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 📌 Limites por classe de carga (`app.bulkheads.cargas.<classe>.*`).
+ *
+ * ✅ `maximo`: chamadas simultâneas da classe (cada uma segura no máximo uma conexão).
+ * ✅ `espera`: quanto tempo uma chamada aguarda vaga antes de ser recusada.
+ *
+ * 🔹 Com a soma dos máximos igual ao `maximum-pool-size`, nenhuma classe consegue tomar as conexões de outra.
+ */
+@ConfigurationProperties(prefix = "app.bulkheads")
+public record BulkheadProperties(Map<CargaTrabalhoEnum, Limite> cargas) {
+
+    private static final Limite PADRAO = new Limite(2, Duration.ofSeconds(1));
+
+    public BulkheadProperties {
+        cargas = cargas == null || cargas.isEmpty() ? Map.of() : new EnumMap<>(cargas);
+    }
+
+    public Limite limite(CargaTrabalhoEnum carga) {
+        return cargas.getOrDefault(carga, PADRAO);
+    }
+
+    public record Limite(int maximo, Duration espera) {}
+}
@@ -0,0 +1,157 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 📌 Os bancos que guardam os produtos particionados, cada um com seu `JdbcTemplate`.
+ *
+ * ✅ `jdbc(shard)` atende as operações de um shard só.
+ * ✅ `espalhar(...)` roda a mesma consulta em todos os shards ao mesmo tempo (scatter-gather) e junta os
+ *    resultados por shard; se algum passar de `tempoLimite`, os demais são cancelados e a chamada falha com
+ *    `QueryTimeoutException` (503).
+ * ✅ As consultas espalhadas levam a classe de carga de quem chamou (`BulkheadConexoes.propagar`): num shard
+ *    que reaproveita o banco principal, elas pedem vaga no mesmo bulkhead.
+ */
+public class ClusterShards implements Closeable {
+
+    private final Map<String, JdbcTemplate> shards = new LinkedHashMap<>();
+    private final List<DataSource> proprios;
+    private final Duration tempoLimite;
+    private final BulkheadConexoes bulkhead;
+    private final ExecutorService consultas;
+
+    /**
+     * @param shards   DataSource de cada shard, na ordem de configuração
+     * @param proprios pools criados só para os shards (fechados no `close`)
+     */
+    public ClusterShards(Map<String, DataSource> shards, List<DataSource> proprios, int paralelismo, Duration tempoLimite) {
+        this(shards, proprios, paralelismo, tempoLimite, null);
+    }
+
+    /**
+     * @param bulkhead classe de carga propagada para as consultas espalhadas (`null` = nenhuma)
+     */
+    public ClusterShards(Map<String, DataSource> shards, List<DataSource> proprios, int paralelismo, Duration tempoLimite,
+                         BulkheadConexoes bulkhead) {
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("Configure ao menos um shard em app.shards.nos");
+        }
+        int segundos = (int) Math.max(1, tempoLimite.toSeconds());
+        shards.forEach((nome, dataSource) -> {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.setQueryTimeout(segundos);
+            this.shards.put(nome, jdbc);
+        });
+        this.proprios = List.copyOf(proprios);
+        this.tempoLimite = tempoLimite;
+        this.bulkhead = bulkhead;
+        this.consultas = Executors.newFixedThreadPool(paralelismo, tarefa -> {
+            Thread thread = new Thread(tarefa, "consulta-shards");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<String> nomes() {
+        return List.copyOf(shards.keySet());
+    }
+
+    public JdbcTemplate jdbc(String shard) {
+        JdbcTemplate jdbc = shards.get(shard);
+        if (jdbc == null) {
+            throw new IllegalArgumentException("Shard desconhecido: " + shard);
+        }
+        return jdbc;
+    }
+
+    /**
+     * 📌 Executa `consulta` em todos os shards em paralelo; devolve o resultado de cada um, na ordem dos shards.
+     */
+    public <T> Map<String, T> espalhar(Function<JdbcTemplate, T> consulta) {
+        Map<String, Future<T>> pendentes = new LinkedHashMap<>();
+        shards.forEach((nome, jdbc) -> pendentes.put(nome, consultas.submit(tarefa(() -> consulta.apply(jdbc)))));
+
+        long prazo = System.nanoTime() + tempoLimite.toNanos();
+        Map<String, T> resultados = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Future<T>> pendente : pendentes.entrySet()) {
+                long restante = Math.max(0, prazo - System.nanoTime());
+                resultados.put(pendente.getKey(), pendente.getValue().get(restante, TimeUnit.NANOSECONDS));
+            }
+            return resultados;
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Consulta aos shards passou de " + tempoLimite.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException erro) {
+                throw erro;
+            }
+            throw new IllegalStateException("Falha ao consultar os shards", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Consulta aos shards interrompida");
+        } finally {
+            pendentes.values().forEach(futuro -> futuro.cancel(true));
+        }
+    }
+
+    private <T> Callable<T> tarefa(Callable<T> consulta) {
+        return bulkhead == null ? consulta : bulkhead.propagar(consulta);
+    }
+
+    /**
+     * 📌 Junta listas já ordenadas (uma por shard) numa só, mantendo a ordem (intercalação de k listas).
+     */
+    public static <T> List<T> intercalar(Iterable<List<T>> listas, Comparator<? super T> ordem) {
+        List<T> resultado = new ArrayList<>();
+        PriorityQueue<Cursor<T>> fila = new PriorityQueue<>((a, b) -> ordem.compare(a.atual(), b.atual()));
+        for (List<T> lista : listas) {
+            if (!lista.isEmpty()) {
+                fila.add(new Cursor<>(lista, 0));
+            }
+        }
+        while (!fila.isEmpty()) {
+            Cursor<T> cursor = fila.poll();
+            resultado.add(cursor.atual());
+            if (cursor.posicao() + 1 < cursor.lista().size()) {
+                fila.add(new Cursor<>(cursor.lista(), cursor.posicao() + 1));
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public void close() throws IOException {
+        consultas.shutdownNow();
+        for (DataSource dataSource : proprios) {
+            if (dataSource instanceof Closeable fechavel) {
+                fechavel.close();
+            }
+        }
+    }
+
+    private record Cursor<T>(List<T> lista, int posicao) {
+        T atual() {
+            return lista.get(posicao);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 📌 Configurações do monitor de consultas (`app.consultas.*`).
+ *
+ * ✅ `intervaloVerificacao`: de quanto em quanto tempo as consultas em andamento são conferidas.
+ * ✅ `cancelarAoDesconectar`: cancela a consulta em andamento e recusa novas transações de um cliente HTTP
+ *    que já foi embora.
+ *
+ * 🔹 Os prazos por endpoint (`app.consultas.tempo-limite.*`) não fazem parte deste record: são lidos
+ *    direto pelos placeholders de `@TempoLimiteConsulta`.
+ */
+@ConfigurationProperties(prefix = "app.consultas")
+public record ConsultasProperties(
+        @DefaultValue("200ms") Duration intervaloVerificacao,
+        @DefaultValue("true") boolean cancelarAoDesconectar
+) {}
@@ -0,0 +1,21 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 📌 Configurações do modo degradado de leitura (`app.degradacao.*`).
+ *
+ * ✅ `maximoItens`: peso total das últimas respostas boas guardadas para servir quando o pool esgota
+ *    (um por objeto; listas pesam o número de elementos).
+ * ✅ `idadeMaxima`: respostas mais velhas que isso não são servidas nem como desatualizadas.
+ *
+ * 🔹 O prazo para conseguir conexão é o `spring.datasource.hikari.connection-timeout`.
+ */
+@ConfigurationProperties(prefix = "app.degradacao")
+public record DegradacaoProperties(
+        @DefaultValue("50000") long maximoItens,
+        @DefaultValue("1h") Duration idadeMaxima
+) {}
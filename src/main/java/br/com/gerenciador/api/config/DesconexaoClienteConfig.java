@@ -0,0 +1,54 @@
+package br.com.gerenciador.api.config;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.coyote.ActionCode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * 📌 Detecção de cliente desconectado no Tomcat, para cancelar consultas de requisições abandonadas.
+ *
+ * ✅ Um valve guarda a requisição interna do Tomcat (coyote) como atributo da requisição.
+ * ✅ `clienteDesconectado` faz uma leitura não bloqueante do socket: com o corpo já consumido,
+ *    qualquer coisa disponível ali é o fim da conexão (o Tomcat sinaliza EOF como 1 byte disponível).
+ *
+ * ⚠️ O processador do Coyote não é thread-safe: fora da thread da requisição, só chame enquanto ela
+ *    garantidamente não faz I/O no socket. O `MonitorConsultasService` sonda da thread de verificação apenas
+ *    dentro do método com `@TempoLimiteConsulta` (corpo já lido, resposta ainda não escrita), sob a mesma
+ *    trava que `finalizar` pega antes de a requisição voltar a usar o socket.
+ * ⚠️ Um cliente que faz pipelining de HTTP/1.1 seria visto como desconectado; nenhum navegador faz isso.
+ */
+@Configuration
+@ConditionalOnClass(name = "org.apache.catalina.Valve")
+public class DesconexaoClienteConfig {
+
+    private static final String ATRIBUTO_COYOTE = DesconexaoClienteConfig.class.getName() + ".coyote";
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> valveDesconexaoCliente() {
+        return fabrica -> fabrica.addContextValves(new ValveBase(true) {
+            @Override
+            public void invoke(Request request, Response response) throws IOException, ServletException {
+                request.setAttribute(ATRIBUTO_COYOTE, request.getCoyoteRequest());
+                getNext().invoke(request, response);
+            }
+        });
+    }
+
+    public static boolean clienteDesconectado(HttpServletRequest request) {
+        if (!(request.getAttribute(ATRIBUTO_COYOTE) instanceof org.apache.coyote.Request coyote)) {
+            return false;
+        }
+        coyote.action(ActionCode.AVAILABLE, Boolean.TRUE);
+        return coyote.getAvailable() > 0;
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.service.RegistroAssincronoService;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📌 TurboFilter do Logback que controla o log de SQL (`org.hibernate.SQL`) e de parâmetros
+ * (`org.hibernate.orm.jdbc.bind`) sem ligar esses loggers globalmente.
+ *
+ * ✅ Na checagem de nível (`isDebugEnabled`/`isTraceEnabled`) libera o SQL quando a categoria `sql` tem
+ *    amostragem maior que zero, e libera SQL + parâmetros quando a requisição atual está em depuração.
+ * ✅ Na escrita, sorteia a amostra (uma vez por statement) e desvia a mensagem para o {@link RegistroAssincronoService};
+ *    o appender síncrono é sempre negado.
+ * 🔹 O sorteio não fica na checagem de nível: o Hibernate checa duas vezes por statement (`SqlStatementLogger` e o
+ *    `isEnabled` do JBoss Logging), e sortear nas duas faria a taxa efetiva ser p² em vez de p.
+ */
+@Component
+public class FiltroSqlTurbo extends TurboFilter {
+
+    private static final String LOGGER_SQL = "org.hibernate.SQL";
+    private static final String LOGGER_BIND = "org.hibernate.orm.jdbc.bind";
+
+    private final RegistroAssincronoService registro;
+
+    public FiltroSqlTurbo(RegistroAssincronoService registro) {
+        this.registro = registro;
+        setName("filtro-sql-assincrono");
+    }
+
+    @PostConstruct
+    void instalar() {
+        LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+        setContext(contexto);
+        start();
+        contexto.addTurboFilter(this);
+    }
+
+    @PreDestroy
+    void remover() {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).getTurboFilterList().remove(this);
+        stop();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        String nome = logger.getName();
+        boolean sql = LOGGER_SQL.equals(nome);
+        if (!sql && !LOGGER_BIND.equals(nome)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (format == null) {
+            if ((sql && registro.amostravel("sql")) || registro.depuracaoAtiva()) {
+                return FilterReply.ACCEPT;
+            }
+            return FilterReply.NEUTRAL;
+        }
+
+        if (sql && !registro.depuracaoAtiva() && !registro.amostrar("sql")) {
+            return FilterReply.DENY;
+        }
+        String mensagem = params == null ? format : MessageFormatter.arrayFormat(format, params).getMessage();
+        registro.registrar(sql ? "sql" : "sql.parametros", mensagem, null);
+        return FilterReply.DENY;
+    }
+}
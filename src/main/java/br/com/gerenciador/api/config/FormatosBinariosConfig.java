@@ -0,0 +1,32 @@
+package br.com.gerenciador.api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 📌 Formatos binários para os endpoints, escolhidos pelo `Accept` (respostas) e `Content-Type` (corpos).
+ *
+ * ✅ `application/cbor` e `application/x-jackson-smile`, além do JSON padrão.
+ * ✅ Mesmos DTOs (records) e mesmas configurações do ObjectMapper do JSON: o formato muda, o contrato não.
+ * 🚀 Preços (`BigDecimal`) saem como decimal binário e, no Smile, nomes de campo repetidos viram referências curtas.
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.gerenciador.api.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 📌 Beans que continuam sendo criados na subida quando `spring.main.lazy-initialization=true` (perfil `inicio-rapido`).
+ *
+ * ✅ Migrações do Flyway: o esquema precisa estar em dia antes da primeira requisição, não só quando o
+ *    primeiro repositório for usado.
+ * ✅ `EntityManagerFactory` do JPA: montar o Hibernate leva segundos; preguiçoso, esse custo cairia na primeira
+ *    requisição que usa o banco (e em quem estiver esperando por ela), depois de a instância já estar pronta.
+ * 🔹 Beans com `@Scheduled` já ficam de fora da inicialização preguiçosa pelo próprio Spring Boot.
+ * 🔹 O resto (controllers, mappers, repositórios, springdoc...) é criado no primeiro uso.
+ */
+@Configuration
+public class InicializacaoRapidaConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter migracoesEJpaNaSubida() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class, EntityManagerFactory.class);
+    }
+}
@@ -1,11 +1,13 @@
 package br.com.gerenciador.api.config;
 
 import br.com.gerenciador.api.service.JwtService;
+import br.com.gerenciador.api.service.RegistroAssincronoService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.*;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final RegistroAssincronoService registro;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,10 +36,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 🔓 Ignora caminhos públicos (login, registro, Swagger)
         if (path.startsWith("/auth/login")
                 || path.startsWith("/auth/register")
+                || path.startsWith("/actuator/health")
                 || path.startsWith("/v3/api-docs")
                 || path.startsWith("/swagger-ui")
                 || path.equals("/swagger-ui.html")) {
-            System.out.println("🔓 Caminho público, seguindo sem autenticação.");
+            if (registro.deveRegistrar("publico")) {
+                registro.registrar("publico", "🔓 Caminho público, seguindo sem autenticação.", Map.of("caminho", path));
+            }
             filterChain.doFilter(request, response);
             return;
         }
@@ -58,8 +65,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-            } else {
-                System.out.println("❌ Token inválido para o usuário: " + username);
+                MDC.put(RegistroAssincronoService.MDC_USUARIO, username);
+            } else if (registro.deveRegistrar("seguranca")) {
+                registro.registrar("seguranca", "❌ Token inválido para o usuário", Map.of("usuario", username));
             }
         }
 
@@ -0,0 +1,204 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 📌 Limite de requisições por usuário e rota (`app.limite-requisicoes.*`), logo depois do `JwtAuthenticationFilter`.
+ *
+ * 🚀 **Fluxo:**
+ * 1️⃣ Identifica o cliente: o usuário autenticado pelo JWT (limite do seu `Role`) ou, sem usuário, o IP (limite `anonimo`).
+ * 2️⃣ Escolhe o balde: o da primeira rota configurada que casar (se ela tiver limite para o papel) ou o geral do cliente.
+ * 3️⃣ Consome um token em `BaldesRequisicoes`; sem token, responde 429 sem chegar ao controller nem ao banco.
+ *
+ * ✅ Toda resposta limitada leva `RateLimit-Limit`, `RateLimit-Remaining`, `RateLimit-Reset` e `RateLimit-Policy`
+ *    (rascunho IETF de cabeçalhos de rate limit); a 429 leva também `Retry-After`.
+ * 🔹 Regras, textos dos cabeçalhos e contadores são montados na subida: por requisição só há a busca do cliente e um CAS.
+ *
+ * 📊 Métricas: `limite.requisicoes.rejeitadas` (tag `papel`) e `limite.requisicoes.clientes`.
+ */
+@Component
+public class LimiteRequisicoesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_LIMITE = "RateLimit-Limit";
+    public static final String HEADER_RESTANTE = "RateLimit-Remaining";
+    public static final String HEADER_RESET = "RateLimit-Reset";
+    public static final String HEADER_POLITICA = "RateLimit-Policy";
+
+    private static final String ANONIMO = "anonimo";
+    private static final String AUTORIDADE_ADMIN = "ROLE_" + Role.ADMIN.name();
+    private static final long NANOS_POR_SEGUNDO = 1_000_000_000L;
+    private static final byte[] CORPO_RECUSA =
+            "{\"status\":429,\"erro\":\"Limite de requisições excedido\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final boolean habilitado;
+    private final List<PathPattern> ignorados;
+    private final Regra[] regras;
+    private final Politica[] geralPorPapel;
+    private final Politica anonimo;
+    private final BaldesRequisicoes baldes;
+    private final Counter[] rejeitadasPorPapel;
+    private final Counter rejeitadasAnonimo;
+
+    public LimiteRequisicoesFilter(LimiteRequisicoesProperties properties, MeterRegistry meterRegistry) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        Role[] papeis = Role.values();
+        this.habilitado = properties.habilitado();
+        this.ignorados = properties.ignorados().stream().map(parser::parse).toList();
+
+        // Balde 0: geral do cliente; balde i + 1: rota i
+        this.geralPorPapel = new Politica[papeis.length];
+        this.rejeitadasPorPapel = new Counter[papeis.length];
+        for (Role papel : papeis) {
+            geralPorPapel[papel.ordinal()] = Politica.de(0, properties.limite(papel));
+            rejeitadasPorPapel[papel.ordinal()] = Counter.builder("limite.requisicoes.rejeitadas")
+                    .tag("papel", papel.name())
+                    .register(meterRegistry);
+        }
+        this.anonimo = Politica.de(0, properties.anonimo());
+        this.rejeitadasAnonimo = Counter.builder("limite.requisicoes.rejeitadas").tag("papel", ANONIMO).register(meterRegistry);
+
+        List<LimiteRequisicoesProperties.Rota> rotas = properties.rotas();
+        this.regras = new Regra[rotas.size()];
+        for (int i = 0; i < rotas.size(); i++) {
+            LimiteRequisicoesProperties.Rota rota = rotas.get(i);
+            Politica[] porPapel = new Politica[papeis.length];
+            for (Role papel : papeis) {
+                LimiteRequisicoesProperties.Limite limite = rota.limites().get(papel);
+                porPapel[papel.ordinal()] = limite == null ? null : Politica.de(i + 1, limite);
+            }
+            String metodo = rota.metodo() == null || rota.metodo().isBlank() ? null : rota.metodo().toUpperCase();
+            regras[i] = new Regra(metodo, parser.parse(rota.caminho()), porPapel);
+        }
+
+        this.baldes = new BaldesRequisicoes(properties.faixas(), properties.maximoClientes(), rotas.size() + 1,
+                properties.ociosidade());
+        Gauge.builder("limite.requisicoes.clientes", baldes, BaldesRequisicoes::quantidadeClientes).register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!habilitado) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        PathContainer caminho = (ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : ServletRequestPathUtils.parseAndCache(request)).pathWithinApplication();
+        for (PathPattern ignorado : ignorados) {
+            if (ignorado.matches(caminho)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        boolean autenticado = autenticacao != null && autenticacao.isAuthenticated()
+                && !(autenticacao instanceof AnonymousAuthenticationToken);
+        Role papel = autenticado ? papel(autenticacao) : null;
+        // Atrás do proxy, `getRemoteAddr` já é o IP do cliente (RemoteIpValve, `server.forward-headers-strategy`)
+        String chave = autenticado ? autenticacao.getName() : "ip:" + request.getRemoteAddr();
+        Politica politica = politica(request.getMethod(), caminho, papel);
+
+        long excesso = baldes.consumir(chave, politica.balde(), politica.intervaloNanos(), politica.excessoMaximo(),
+                System.nanoTime());
+        response.setHeader(HEADER_LIMITE, politica.limite());
+        response.setHeader(HEADER_POLITICA, politica.descricao());
+
+        if (excesso <= politica.excessoMaximo()) {
+            response.setHeader(HEADER_RESTANTE, Long.toString((politica.excessoMaximo() - excesso) / politica.intervaloNanos()));
+            response.setHeader(HEADER_RESET, Long.toString(segundos(excesso)));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String espera = Long.toString(segundos(excesso - politica.excessoMaximo()));
+        (papel == null ? rejeitadasAnonimo : rejeitadasPorPapel[papel.ordinal()]).increment();
+        response.setHeader(HEADER_RESTANTE, "0");
+        response.setHeader(HEADER_RESET, espera);
+        response.setHeader("Retry-After", espera);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(CORPO_RECUSA.length);
+        response.getOutputStream().write(CORPO_RECUSA);
+    }
+
+    /**
+     * 📌 Descarta os clientes que não fazem requisições há mais que `ociosidade` (baldes já cheios).
+     */
+    @Scheduled(initialDelayString = "${app.limite-requisicoes.ociosidade:10m}",
+            fixedDelayString = "${app.limite-requisicoes.ociosidade:10m}")
+    public void removerOciosos() {
+        baldes.removerOciosos(System.nanoTime());
+    }
+
+    private Politica politica(String metodo, PathContainer caminho, Role papel) {
+        if (papel == null) {
+            return anonimo;
+        }
+        for (Regra regra : regras) {
+            if ((regra.metodo() == null || regra.metodo().equals(metodo)) && regra.caminho().matches(caminho)) {
+                Politica daRota = regra.porPapel()[papel.ordinal()];
+                return daRota != null ? daRota : geralPorPapel[papel.ordinal()];
+            }
+        }
+        return geralPorPapel[papel.ordinal()];
+    }
+
+    /**
+     * 📌 Papel mais alto do usuário (ADMIN antes de USER); sem papel reconhecido, vale o limite de USER.
+     */
+    private static Role papel(Authentication autenticacao) {
+        for (GrantedAuthority autoridade : autenticacao.getAuthorities()) {
+            if (AUTORIDADE_ADMIN.equals(autoridade.getAuthority())) {
+                return Role.ADMIN;
+            }
+        }
+        return Role.USER;
+    }
+
+    private static long segundos(long nanos) {
+        return (nanos + NANOS_POR_SEGUNDO - 1) / NANOS_POR_SEGUNDO;
+    }
+
+    private record Regra(String metodo, PathPattern caminho, Politica[] porPapel) {}
+
+    /**
+     * 📌 Limite já convertido para o balde: intervalo entre tokens, folga máxima e os textos dos cabeçalhos.
+     */
+    private record Politica(int balde, long intervaloNanos, long excessoMaximo, String limite, String descricao) {
+
+        static Politica de(int balde, LimiteRequisicoesProperties.Limite limite) {
+            int capacidade = Math.max(1, limite.capacidade());
+            long intervalo = Math.max(1, Math.round(NANOS_POR_SEGUNDO / limite.porSegundo()));
+            long excessoMaximo = intervalo * capacidade;
+            return new Politica(balde, intervalo, excessoMaximo, Integer.toString(capacidade),
+                    capacidade + ";w=" + segundos(excessoMaximo));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.Role;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📌 Limite de requisições por usuário (`app.limite-requisicoes.*`), em token bucket.
+ *
+ * ✅ `papeis.<papel>`: balde geral de cada usuário, conforme o `Role`.
+ * ✅ `rotas[n]`: balde próprio por usuário para um método + caminho (padrão do `PathPattern`);
+ *    papéis sem limite na rota usam o balde geral. Vale a primeira rota que casar.
+ * ✅ `anonimo`: requisições sem usuário autenticado (login, registro), contadas por IP. Atrás de um proxy, o IP
+ *    é o do `X-Forwarded-For` aceito de proxies confiáveis (`server.forward-headers-strategy`).
+ * ✅ `ignorados`: caminhos fora do limite (sondas do Kubernetes).
+ * ✅ `faixas` / `maximoClientes`: memória limitada; com uma faixa cheia, sai o cliente usado há mais tempo.
+ * ✅ `ociosidade`: clientes com todos os baldes cheios há mais que isso são descartados.
+ *
+ * 🔹 `capacidade` é a rajada permitida; `porSegundo`, o ritmo em que os tokens voltam.
+ */
+@ConfigurationProperties(prefix = "app.limite-requisicoes")
+public record LimiteRequisicoesProperties(
+        @DefaultValue("true") boolean habilitado,
+        Map<Role, Limite> papeis,
+        Limite anonimo,
+        List<Rota> rotas,
+        @DefaultValue("/actuator/health/**") List<String> ignorados,
+        @DefaultValue("16") int faixas,
+        @DefaultValue("100000") int maximoClientes,
+        @DefaultValue("10m") Duration ociosidade
+) {
+
+    private static final Limite PADRAO = new Limite(60, 20);
+    private static final Limite ANONIMO = new Limite(20, 2);
+
+    public LimiteRequisicoesProperties {
+        papeis = papeis == null || papeis.isEmpty() ? Map.of() : new EnumMap<>(papeis);
+        anonimo = anonimo == null ? ANONIMO : anonimo;
+        rotas = rotas == null ? List.of() : List.copyOf(rotas);
+    }
+
+    public Limite limite(Role papel) {
+        return papeis.getOrDefault(papel, PADRAO);
+    }
+
+    public record Limite(int capacidade, double porSegundo) {}
+
+    /**
+     * 📌 `metodo` vazio vale para qualquer método HTTP.
+     */
+    public record Rota(String metodo, String caminho, Map<Role, Limite> limites) {
+
+        public Rota {
+            limites = limites == null || limites.isEmpty() ? Map.of() : new EnumMap<>(limites);
+        }
+    }
+}
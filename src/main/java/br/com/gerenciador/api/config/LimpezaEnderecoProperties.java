@@ -0,0 +1,21 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 📌 Configurações da limpeza de endereços órfãos (`app.limpeza-enderecos.*`).
+ *
+ * ✅ `intervalo`: tempo entre uma execução e a próxima.
+ * ✅ `tamanhoLote`: quantos endereços cada transação remove.
+ * ✅ `maximoLotes`: limite de lotes por execução, para não segurar o banco de uma vez só.
+ */
+@ConfigurationProperties(prefix = "app.limpeza-enderecos")
+public record LimpezaEnderecoProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue("1h") Duration intervalo,
+        @DefaultValue("500") int tamanhoLote,
+        @DefaultValue("100") int maximoLotes
+) {}
@@ -0,0 +1,29 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 📌 Configurações do push de estoque/preço via SSE (`app.notificacao-estoque.*`).
+ *
+ * ✅ `intervaloEnvio`: janela de coalescência; várias mudanças do mesmo produto nela viram um único evento.
+ * ✅ `capacidadePorAssinante`: produtos distintos pendentes por conexão; acima disso o cliente é lento e é desconectado.
+ * ✅ `tempoMaximoEnvio`: um envio travado por mais que isso (rede do cliente parada) também desconecta;
+ *    a thread presa no `send()` só é liberada pelo tempo limite de escrita (`server.tomcat.connection-timeout`).
+ * ✅ `heartbeat`: comentário SSE periódico para manter a conexão viva e detectar clientes que sumiram.
+ * ✅ `maximoAssinantes` / `maximoProdutosPorAssinatura`: limites por instância e por conexão.
+ * ✅ `threadsEnvio`: threads que escrevem nas conexões (o despacho em si é uma thread só).
+ */
+@ConfigurationProperties(prefix = "app.notificacao-estoque")
+public record NotificacaoEstoqueProperties(
+        @DefaultValue("100ms") Duration intervaloEnvio,
+        @DefaultValue("256") int capacidadePorAssinante,
+        @DefaultValue("5s") Duration tempoMaximoEnvio,
+        @DefaultValue("15s") Duration heartbeat,
+        @DefaultValue("30m") Duration duracaoConexao,
+        @DefaultValue("10000") int maximoAssinantes,
+        @DefaultValue("500") int maximoProdutosPorAssinatura,
+        @DefaultValue("4") int threadsEnvio
+) {}
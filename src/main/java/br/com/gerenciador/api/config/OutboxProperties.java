@@ -0,0 +1,34 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 📌 Configurações do outbox de eventos de domínio (`app.outbox.*`).
+ *
+ * ✅ `habilitado`: liga o relay nesta instância (a gravação no outbox acontece sempre).
+ * ✅ `intervalo`: pausa entre uma drenagem e a próxima.
+ * ✅ `paralelismo`: partições drenadas em paralelo; eventos do mesmo registro caem sempre na mesma e saem em ordem.
+ * ✅ `tamanhoLote` / `maximoLotes`: eventos por entrega e lotes por partição em cada drenagem.
+ * ✅ `tempoReserva`: quanto tempo um lote separado fica com o relay que o pegou; precisa cobrir a entrega
+ *    (maior que `webhookTempoLimite`), senão outro relay entrega o mesmo lote de novo.
+ * ✅ `destino`: `memoria`, `arquivo` ou `webhook`, com as opções de cada um logo abaixo.
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean habilitado,
+        @DefaultValue("1s") Duration intervalo,
+        @DefaultValue("2") int paralelismo,
+        @DefaultValue("100") int tamanhoLote,
+        @DefaultValue("50") int maximoLotes,
+        @DefaultValue("30s") Duration tempoReserva,
+        @DefaultValue("memoria") String destino,
+        @DefaultValue("10000") int capacidadeMemoria,
+        @DefaultValue("outbox-eventos.jsonl") Path arquivo,
+        URI webhookUrl,
+        @DefaultValue("5s") Duration webhookTempoLimite
+) {}
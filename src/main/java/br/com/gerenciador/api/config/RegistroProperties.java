@@ -0,0 +1,24 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 📌 Configurações do registro assíncrono de logs (`app.registro.*`).
+ *
+ * ✅ `capacidadeBuffer`: tamanho máximo do buffer circular; eventos excedentes são descartados e contados.
+ * ✅ `tamanhoLote`: quantos eventos o worker escreve por vez.
+ * ✅ `amostragem`: taxa (0.0 a 1.0) por categoria, por exemplo `requisicao`, `sql` e `seguranca`.
+ */
+@ConfigurationProperties(prefix = "app.registro")
+public record RegistroProperties(
+        @DefaultValue("8192") int capacidadeBuffer,
+        @DefaultValue("256") int tamanhoLote,
+        Map<String, Double> amostragem
+) {
+    public RegistroProperties {
+        amostragem = amostragem == null ? Map.of() : Map.copyOf(amostragem);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.service.RegistroAssincronoService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 📌 Primeiro filtro da cadeia: define o request id (MDC + header `X-Request-Id`) e registra,
+ * de forma amostrada e assíncrona, o resumo de cada requisição.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RegistroRequisicaoFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_REQUEST_ID = "X-Request-Id";
+    private static final String CATEGORIA = "requisicao";
+
+    private final RegistroAssincronoService registro;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = request.getHeader(HEADER_REQUEST_ID);
+        if (requestId == null || requestId.isBlank() || requestId.length() > 64) {
+            requestId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        }
+        MDC.put(RegistroAssincronoService.MDC_REQUEST_ID, requestId);
+        response.setHeader(HEADER_REQUEST_ID, requestId);
+
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (registro.deveRegistrar(CATEGORIA)) {
+                Map<String, Object> campos = new LinkedHashMap<>();
+                campos.put("metodo", request.getMethod());
+                campos.put("caminho", request.getRequestURI());
+                campos.put("status", response.getStatus());
+                campos.put("duracaoMs", (System.nanoTime() - inicio) / 1_000_000);
+                registro.registrar(CATEGORIA, "Requisição concluída", campos);
+            }
+            MDC.remove(RegistroAssincronoService.MDC_REQUEST_ID);
+            MDC.remove(RegistroAssincronoService.MDC_USUARIO);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.gerenciador.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📌 Liga o roteamento de leituras para réplicas quando `app.replicas.habilitado=true`.
+ *
+ * 🔄 O primário continua sendo configurado por `spring.datasource.*` / `spring.datasource.hikari.*`;
+ *    cada réplica ganha seu próprio pool Hikari somente leitura.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.replicas", name = "habilitado", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    @Bean
+    public RoteadorLeituraDataSource roteadorLeituraDataSource(@Qualifier("dataSourcePrimario") DataSource primario,
+                                                               DataSourceProperties dataSourceProperties,
+                                                               ReplicaProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaProperties.No no : properties.nos()) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(no.nome());
+            replica.setJdbcUrl(no.url());
+            replica.setUsername(no.username() != null ? no.username() : dataSourceProperties.determineUsername());
+            replica.setPassword(no.password() != null ? no.password() : dataSourceProperties.determinePassword());
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setMaximumPoolSize(properties.tamanhoPool());
+            replica.setReadOnly(true);
+            replicas.put(no.nome(), replica);
+        }
+        RoteadorLeituraDataSource roteador = new RoteadorLeituraDataSource(primario, replicas, properties);
+        roteador.iniciarMonitoramento();
+        return roteador;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteadorLeituraDataSource roteador) {
+        return new LazyConnectionDataSourceProxy(roteador);
+    }
+}
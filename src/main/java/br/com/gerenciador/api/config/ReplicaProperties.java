@@ -0,0 +1,43 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 📌 Configurações das réplicas de leitura (`app.replicas.*`).
+ *
+ * ✅ `nos`: réplicas que recebem as transações `@Transactional(readOnly = true)`.
+ * ✅ `atrasoMaximo`: atraso de replicação tolerado; réplicas acima dele saem do rodízio.
+ * ✅ `janelaLeituraAposEscrita`: por quanto tempo, após uma escrita, as leituras do mesmo usuário vão ao primário.
+ * ✅ `consultaAtraso`: SQL que devolve o atraso da réplica em segundos.
+ */
+@ConfigurationProperties(prefix = "app.replicas")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean habilitado,
+        List<No> nos,
+        @DefaultValue("5s") Duration atrasoMaximo,
+        @DefaultValue("5s") Duration janelaLeituraAposEscrita,
+        @DefaultValue("10s") Duration intervaloVerificacao,
+        String consultaAtraso,
+        @DefaultValue("5") int tamanhoPool
+) {
+
+    /**
+     * 📌 Atraso = 0 quando a réplica já aplicou tudo que recebeu; senão, idade da última transação aplicada.
+     */
+    public static final String CONSULTA_ATRASO_POSTGRES =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    public ReplicaProperties {
+        nos = nos == null ? List.of() : List.copyOf(nos);
+        if (consultaAtraso == null || consultaAtraso.isBlank()) {
+            consultaAtraso = CONSULTA_ATRASO_POSTGRES;
+        }
+    }
+
+    public record No(String nome, String url, String username, String password) {}
+}
@@ -0,0 +1,171 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📌 DataSource que envia transações somente leitura para as réplicas e todo o resto para o primário.
+ *
+ * ✅ Deve ficar atrás de um `LazyConnectionDataSourceProxy`, para que a conexão real só seja escolhida
+ *    depois que a transação já marcou `readOnly`.
+ * ✅ Réplicas com atraso acima do tolerado (ou fora do ar) saem do rodízio até a próxima verificação.
+ * ✅ Leitura após escrita: depois que um usuário escreve, as leituras dele vão ao primário durante a janela configurada.
+ */
+public class RoteadorLeituraDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARIO = "primario";
+
+    private final Map<String, DataSource> replicas;
+    private final ReplicaProperties properties;
+    private final Map<String, Long> ultimaEscritaPorUsuario = new ConcurrentHashMap<>();
+    private final AtomicInteger rodizio = new AtomicInteger();
+    private volatile List<String> replicasSaudaveis;
+    private ScheduledExecutorService monitor;
+
+    public RoteadorLeituraDataSource(DataSource primario, Map<String, DataSource> replicas, ReplicaProperties properties) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.properties = properties;
+        this.replicasSaudaveis = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> destinos = new HashMap<>(replicas);
+        destinos.put(PRIMARIO, primario);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String usuario = usuarioAtual();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                registrarEscrita(usuario);
+            }
+            return PRIMARIO;
+        }
+
+        if (usuario != null && escreveuRecentemente(usuario)) {
+            return PRIMARIO;
+        }
+
+        List<String> saudaveis = replicasSaudaveis;
+        if (saudaveis.isEmpty()) {
+            return PRIMARIO;
+        }
+        return saudaveis.get(Math.floorMod(rodizio.getAndIncrement(), saudaveis.size()));
+    }
+
+    /**
+     * 📌 Agenda a verificação periódica de atraso das réplicas (`app.replicas.intervalo-verificacao`).
+     */
+    public void iniciarMonitoramento() {
+        monitor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "monitor-replicas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = properties.intervaloVerificacao().toMillis();
+        monitor.scheduleWithFixedDelay(this::verificarAtraso, 0, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 📌 Mede o atraso de cada réplica e recalcula o rodízio.
+     */
+    public void verificarAtraso() {
+        double toleranciaSegundos = properties.atrasoMaximo().toMillis() / 1000.0;
+        List<String> saudaveis = replicas.entrySet().stream()
+                .filter(replica -> atrasoEmSegundos(replica.getValue()) <= toleranciaSegundos)
+                .map(Map.Entry::getKey)
+                .toList();
+        replicasSaudaveis = saudaveis;
+
+        long limite = System.nanoTime() - properties.janelaLeituraAposEscrita().toNanos();
+        ultimaEscritaPorUsuario.values().removeIf(instante -> instante < limite);
+    }
+
+    /**
+     * 📌 Se uma leitura do usuário atual iria agora ao primário por estar na janela de leitura após escrita.
+     */
+    public boolean leituraVaiAoPrimario() {
+        String usuario = usuarioAtual();
+        return usuario != null && escreveuRecentemente(usuario);
+    }
+
+    public List<String> getReplicasSaudaveis() {
+        return replicasSaudaveis;
+    }
+
+    /**
+     * 📌 Encerra o monitor e os pools das réplicas (o primário é um bean próprio e fecha sozinho).
+     */
+    @Override
+    public void close() throws IOException {
+        if (monitor != null) {
+            monitor.shutdownNow();
+        }
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof Closeable fechavel) {
+                fechavel.close();
+            }
+        }
+    }
+
+    private double atrasoEmSegundos(DataSource replica) {
+        try (Connection conexao = replica.getConnection();
+             Statement statement = conexao.createStatement();
+             ResultSet resultado = statement.executeQuery(properties.consultaAtraso())) {
+            return resultado.next() ? resultado.getDouble(1) : Double.MAX_VALUE;
+        } catch (Exception e) {
+            return Double.MAX_VALUE;
+        }
+    }
+
+    private void registrarEscrita(String usuario) {
+        if (usuario == null) {
+            return;
+        }
+        ultimaEscritaPorUsuario.put(usuario, System.nanoTime());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A janela conta a partir do commit, não do início da transação
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ultimaEscritaPorUsuario.put(usuario, System.nanoTime());
+                }
+            });
+        }
+    }
+
+    private boolean escreveuRecentemente(String usuario) {
+        Long instante = ultimaEscritaPorUsuario.get(usuario);
+        return instante != null && System.nanoTime() - instante < properties.janelaLeituraAposEscrita().toNanos();
+    }
+
+    private static String usuarioAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        // Anônimos não têm escritas próprias a seguir: sem isso todos dividiriam a chave "anonymousUser"
+        return autenticacao == null || !autenticacao.isAuthenticated()
+                || autenticacao instanceof AnonymousAuthenticationToken ? null : autenticacao.getName();
+    }
+}
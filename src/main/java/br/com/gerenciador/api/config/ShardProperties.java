@@ -0,0 +1,41 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 📌 Configurações do particionamento horizontal de produtos (`app.shards.*`).
+ *
+ * ✅ `nos`: bancos que guardam a tabela `produto`; um nó sem `url` usa o próprio banco principal.
+ * ✅ `mapa`: `diretorio` (posição de cada fornecedor gravada em `shard_fornecedor`, permite rebalancear)
+ *    ou `hash` (anel de hash consistente fixo).
+ * ✅ `paralelismo` / `tempoLimite`: threads e prazo das consultas espalhadas por todos os shards.
+ * ✅ `intervaloAtualizacaoMapa`: de quanto em quanto tempo cada instância relê o diretório;
+ *    o rebalanceamento espera o dobro disso entre as fases.
+ */
+@ConfigurationProperties(prefix = "app.shards")
+public record ShardProperties(
+        @DefaultValue("false") boolean habilitado,
+        List<No> nos,
+        @DefaultValue("diretorio") String mapa,
+        @DefaultValue("5") int tamanhoPool,
+        @DefaultValue("4") int paralelismo,
+        @DefaultValue("5s") Duration tempoLimite,
+        @DefaultValue("5s") Duration intervaloAtualizacaoMapa,
+        @DefaultValue("500") int tamanhoLoteMigracao,
+        @DefaultValue("64") int nosVirtuais
+) {
+
+    public ShardProperties {
+        nos = nos == null ? List.of() : List.copyOf(nos);
+    }
+
+    public Duration esperaPropagacao() {
+        return intervaloAtualizacaoMapa.multipliedBy(2);
+    }
+
+    public record No(String nome, String url, String username, String password) {}
+}
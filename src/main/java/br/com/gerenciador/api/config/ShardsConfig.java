@@ -0,0 +1,81 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.service.MapaShards;
+import br.com.gerenciador.api.service.MapaShardsDiretorio;
+import br.com.gerenciador.api.service.MapaShardsHash;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📌 Liga o particionamento de produtos entre vários bancos quando `app.shards.habilitado=true`.
+ *
+ * 🔄 Cada shard ganha seu próprio pool Hikari (um nó sem `url` reaproveita o banco principal) e recebe as
+ *    migrações de `db/shard`, com histórico próprio (`flyway_schema_history_shard`).
+ * 🔄 O mapa de shards é escolhido por `app.shards.mapa`.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.shards", name = "habilitado", havingValue = "true")
+public class ShardsConfig {
+
+    @Bean
+    public ClusterShards clusterShards(ShardProperties properties, DataSource dataSource,
+                                       DataSourceProperties dataSourceProperties, BulkheadConexoes bulkhead) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        List<DataSource> proprios = new ArrayList<>();
+        for (ShardProperties.No no : properties.nos()) {
+            DataSource shard = dataSource;
+            if (no.url() != null && !no.url().isBlank()) {
+                HikariDataSource pool = new HikariDataSource();
+                pool.setPoolName("shard-" + no.nome());
+                pool.setJdbcUrl(no.url());
+                pool.setUsername(no.username() != null ? no.username() : dataSourceProperties.determineUsername());
+                pool.setPassword(no.password() != null ? no.password() : dataSourceProperties.determinePassword());
+                pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+                pool.setMaximumPoolSize(properties.tamanhoPool());
+                proprios.add(pool);
+                shard = pool;
+            }
+            migrar(shard);
+            shards.put(no.nome(), shard);
+        }
+        return new ClusterShards(shards, proprios, properties.paralelismo(), properties.tempoLimite(), bulkhead);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.shards", name = "mapa", havingValue = "diretorio", matchIfMissing = true)
+    public MapaShards mapaShardsDiretorio(ClusterShards clusterShards, ShardProperties properties, JdbcTemplate jdbcTemplate) {
+        MapaShardsDiretorio mapa = new MapaShardsDiretorio(jdbcTemplate,
+                new MapaShardsHash(clusterShards.nomes(), properties.nosVirtuais()));
+        mapa.atualizar();
+        return mapa;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.shards", name = "mapa", havingValue = "hash")
+    public MapaShards mapaShardsHash(ClusterShards clusterShards, ShardProperties properties) {
+        return new MapaShardsHash(clusterShards.nomes(), properties.nosVirtuais());
+    }
+
+    // Baseline na versão 0: o banco principal já tem outras tabelas, e mesmo assim a V1 do shard precisa rodar
+    private static void migrar(DataSource shard) {
+        Flyway.configure()
+                .dataSource(shard)
+                .locations("classpath:db/shard")
+                .table("flyway_schema_history_shard")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.gerenciador.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 📌 Configurações do snapshot do catálogo em arquivo mapeado em memória (`app.snapshot-catalogo.*`).
+ *
+ * ✅ `arquivo`: onde o snapshot fica; pode ser um volume compartilhado entre instâncias.
+ * ✅ `exportar`: esta instância gera o arquivo e o mantém em dia pelo feed de alterações; as demais só releem o arquivo.
+ *    Desligado por padrão: ligue em exatamente uma instância por arquivo (duas exportadoras regravariam o mesmo
+ *    arquivo com estados diferentes, cada uma a partir do próprio snapshot).
+ * ✅ `servirLeituras`: `GET /produtos` e `GET /produtos/{id}` saem do snapshot sem tocar no banco;
+ *    desligado, o snapshot só é usado quando o banco está fora do ar.
+ * ✅ `intervalo`: pausa entre uma atualização (ou verificação do arquivo) e a próxima.
+ */
+@ConfigurationProperties(prefix = "app.snapshot-catalogo")
+public record SnapshotCatalogoProperties(
+        @DefaultValue("false") boolean habilitado,
+        @DefaultValue("catalogo.snapshot") Path arquivo,
+        @DefaultValue("false") boolean exportar,
+        @DefaultValue("false") boolean servirLeituras,
+        @DefaultValue("10s") Duration intervalo
+) {}
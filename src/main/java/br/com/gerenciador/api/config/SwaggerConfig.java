@@ -4,10 +4,20 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.*;
 import io.swagger.v3.oas.models.Components;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
+/**
+ * 📌 Metadados do documento OpenAPI gerado pelo springdoc.
+ *
+ * ✅ `@Lazy`: só é montado na primeira requisição a `/v3/api-docs`, fora do caminho da subida.
+ * ✅ No perfil `inicio-rapido` o springdoc fica desligado e o documento gerado no build é servido em `/openapi.json`.
+ */
+@Lazy
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class SwaggerConfig {
 
     private static final String SCHEME_NAME = "BearerAuth";
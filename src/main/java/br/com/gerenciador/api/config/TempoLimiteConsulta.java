@@ -0,0 +1,18 @@
+package br.com.gerenciador.api.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 📌 Tempo limite das consultas feitas durante a execução do método (endpoint ou serviço).
+ *
+ * 🔹 Aceita duração (`"5s"`, `"500ms"`) ou placeholder de configuração (`"${app.consultas.tempo-limite.listagem:5s}"`).
+ * 🔹 Aplicado como hint JPA `jakarta.persistence.query.timeout` em cada transação aberta dentro do método; o
+ *    `MonitorConsultasService` cancela a consulta em andamento quando o prazo estoura.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TempoLimiteConsulta {
+
+    String value();
+}
@@ -0,0 +1,63 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.service.MonitorConsultasService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 📌 Aplica `@TempoLimiteConsulta`: registra o prazo da execução no `MonitorConsultasService`.
+ *
+ * 🔹 Não depende de sessão aberta: as transações iniciadas dentro do método se ligam ao prazo
+ *    quando abrem (`MonitorConsultasService.vincular`), já com o hint `jakarta.persistence.query.timeout`.
+ */
+@Aspect
+@Component
+public class TempoLimiteConsultaAspect {
+
+    private final MonitorConsultasService monitor;
+    private final Environment environment;
+    private final Map<String, Long> tempos = new ConcurrentHashMap<>();
+
+    public TempoLimiteConsultaAspect(MonitorConsultasService monitor, Environment environment) {
+        this.monitor = monitor;
+        this.environment = environment;
+    }
+
+    @Around("@annotation(tempoLimite)")
+    public Object aplicar(ProceedingJoinPoint chamada, TempoLimiteConsulta tempoLimite) throws Throwable {
+        if (monitor.atual() != null) {
+            return chamada.proceed();
+        }
+
+        long millis = tempos.computeIfAbsent(tempoLimite.value(), this::converter);
+        MonitorConsultasService.ConsultaMonitorada consulta = monitor.iniciar(millis, detectorDesconexao());
+        try {
+            return chamada.proceed();
+        } finally {
+            monitor.finalizar(consulta);
+        }
+    }
+
+    private long converter(String valor) {
+        return DurationStyle.detectAndParse(environment.resolveRequiredPlaceholders(valor)).toMillis();
+    }
+
+    private static BooleanSupplier detectorDesconexao() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+            return () -> false;
+        }
+        HttpServletRequest request = atributos.getRequest();
+        return () -> DesconexaoClienteConfig.clienteDesconectado(request);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.service.MonitorConsultasService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * 📌 Liga cada transação JPA ao prazo de `@TempoLimiteConsulta` da thread que a abriu.
+ *
+ * ✅ O inicializador roda para o `EntityManager` criado por transação (não para as que só participam da externa).
+ * 🔹 Cobre `@Transactional` e `TransactionTemplate`, sem precisar de open-in-view.
+ */
+@Configuration
+public class TempoLimiteConsultaConfig {
+
+    @Bean
+    public TransactionManagerCustomizer<JpaTransactionManager> tempoLimiteNasTransacoes(ObjectProvider<MonitorConsultasService> monitor) {
+        return transactionManager -> transactionManager.setEntityManagerInitializer(
+                entityManager -> monitor.getObject().vincular(entityManager));
+    }
+}
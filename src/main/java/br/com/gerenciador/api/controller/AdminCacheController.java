@@ -0,0 +1,31 @@
+package br.com.gerenciador.api.controller;
+
+import br.com.gerenciador.api.dto.CacheEstatisticasDTO;
+import br.com.gerenciador.api.service.CacheSegundoNivelService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 📌 Endpoints administrativos do cache de segundo nível (estatísticas e limpeza).
+ */
+@RestController
+@RequestMapping("/admin/cache")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheSegundoNivelService cacheService;
+
+    @GetMapping
+    public ResponseEntity<CacheEstatisticasDTO> estatisticas() {
+        return ResponseEntity.ok(cacheService.estatisticas());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> limpar() {
+        cacheService.limpar();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.gerenciador.api.controller;
+
+import br.com.gerenciador.api.dto.AmostragemRequestDTO;
+import br.com.gerenciador.api.dto.DepuracaoRequestDTO;
+import br.com.gerenciador.api.dto.RegistroMetricasDTO;
+import br.com.gerenciador.api.service.RegistroAssincronoService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 📌 Endpoints administrativos do registro assíncrono de logs.
+ *
+ * ✅ Consulta ocupação do buffer, eventos aceitos e descartados por categoria.
+ * ✅ Ajusta a amostragem de uma categoria em tempo de execução.
+ * ✅ Liga o log de SQL e parâmetros apenas para um usuário ou request id, por tempo limitado.
+ */
+@RestController
+@RequestMapping("/admin/logs")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminLogController {
+
+    private final RegistroAssincronoService registro;
+
+    @GetMapping
+    public ResponseEntity<RegistroMetricasDTO> metricas() {
+        return ResponseEntity.ok(registro.metricas());
+    }
+
+    @PutMapping("/amostragem/{categoria}")
+    public ResponseEntity<RegistroMetricasDTO> definirAmostragem(@PathVariable String categoria,
+                                                                 @Valid @RequestBody AmostragemRequestDTO dto) {
+        registro.definirAmostragem(categoria, dto.taxa());
+        return ResponseEntity.ok(registro.metricas());
+    }
+
+    @PostMapping("/depuracao")
+    public ResponseEntity<RegistroMetricasDTO> ativarDepuracao(@Valid @RequestBody DepuracaoRequestDTO dto) {
+        registro.ativarDepuracao(dto);
+        return ResponseEntity.ok(registro.metricas());
+    }
+
+    @DeleteMapping("/depuracao")
+    public ResponseEntity<Void> desativarDepuracoes() {
+        registro.desativarDepuracoes();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.gerenciador.api.controller;
+
+import br.com.gerenciador.api.dto.RebalanceamentoResponseDTO;
+import br.com.gerenciador.api.service.RebalanceamentoShardsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 📌 Endpoints administrativos dos shards de produtos: distribuição atual e rebalanceamento por fornecedor.
+ */
+@RestController
+@RequestMapping("/admin/shards")
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnProperty(prefix = "app.shards", name = "habilitado", havingValue = "true")
+@RequiredArgsConstructor
+public class AdminShardController {
+
+    private final RebalanceamentoShardsService rebalanceamento;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Long>> distribuicao() {
+        return ResponseEntity.ok(rebalanceamento.distribuicao());
+    }
+
+    @PostMapping("/fornecedores/{fornecedorId}/mover")
+    public ResponseEntity<RebalanceamentoResponseDTO> mover(@PathVariable Long fornecedorId, @RequestParam String destino) {
+        return ResponseEntity.ok(rebalanceamento.moverFornecedor(fornecedorId, destino));
+    }
+}
@@ -1,14 +1,22 @@
 package br.com.gerenciador.api.controller;
 
+import br.com.gerenciador.api.config.TempoLimiteConsulta;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
 import br.com.gerenciador.api.dto.ClienteRequestDTO;
 import br.com.gerenciador.api.dto.ClienteResponseDTO;
+import br.com.gerenciador.api.mapper.MergePatchMapper;
+import br.com.gerenciador.api.model.Cliente;
 import br.com.gerenciador.api.service.ClienteService;
+import br.com.gerenciador.api.service.ProjecaoService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 📌 Controller responsável pelos endpoints da entidade Cliente.
@@ -19,6 +27,7 @@ import java.util.List;
 public class ClienteController {
 
     private final ClienteService clienteService;
+    private final ProjecaoService projecaoService;
 
     @PostMapping
     public ResponseEntity<ClienteResponseDTO> criarCliente(@Valid @RequestBody ClienteRequestDTO dto) {
@@ -26,20 +35,53 @@ public class ClienteController {
     }
 
     @GetMapping
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
     public ResponseEntity<List<ClienteResponseDTO>> listarTodosClientes() {
         return ResponseEntity.ok(clienteService.listarTodosClientes());
     }
 
     @GetMapping("/{id}")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
     public ResponseEntity<ClienteResponseDTO> buscarClientePeloId(@PathVariable Long id) {
         return ResponseEntity.ok(clienteService.buscarClientePeloId(id));
     }
 
+    @GetMapping("/changes")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<AlteracoesResponseDTO<ClienteResponseDTO>> listarAlteracoesClientes(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(clienteService.listarAlteracoesClientes(since, limite));
+    }
+
+    @GetMapping(params = "ids")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<BuscaMultiplaResponseDTO<ClienteResponseDTO>> buscarClientesPelosIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(clienteService.buscarClientesPelosIds(ids));
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<List<Map<String, Object>>> listarCamposClientes(@RequestParam String fields) {
+        return ResponseEntity.ok(projecaoService.listar(Cliente.class, ClienteResponseDTO.class, fields));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
+    public ResponseEntity<Map<String, Object>> buscarCamposClientePeloId(@PathVariable Long id, @RequestParam String fields) {
+        return ResponseEntity.ok(projecaoService.buscarPorId(Cliente.class, ClienteResponseDTO.class, id, fields));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ClienteResponseDTO> atualizarClientePeloId(@PathVariable Long id, @Valid @RequestBody ClienteRequestDTO dto) {
         return ResponseEntity.ok(clienteService.atualizarClientePeloId(id, dto));
     }
 
+    @PatchMapping(value = "/{id}", consumes = MergePatchMapper.MEDIA_TYPE)
+    public ResponseEntity<ClienteResponseDTO> atualizarParcialmenteClientePeloId(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(clienteService.atualizarParcialmenteClientePeloId(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletarClientePeloId(@PathVariable Long id) {
         clienteService.deletarClientePeloId(id);
@@ -1,9 +1,9 @@
 package br.com.gerenciador.api.controller;
 
+import br.com.gerenciador.api.config.TempoLimiteConsulta;
 import br.com.gerenciador.api.dto.EstatisticasResponseDTO;
-import br.com.gerenciador.api.repository.ClienteRepository;
-import br.com.gerenciador.api.repository.FornecedorRepository;
-import br.com.gerenciador.api.repository.ProdutoRepository;
+import br.com.gerenciador.api.service.EstatisticasService;
+import br.com.gerenciador.api.service.LeituraResilienteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,22 +13,12 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class EstatisticasController {
 
-    private final FornecedorRepository fornecedorRepository;
-    private final ProdutoRepository produtoRepository;
-    private final ClienteRepository clienteRepository;
+    private final EstatisticasService estatisticasService;
+    private final LeituraResilienteService leituraResiliente;
 
     @GetMapping
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.estatisticas:3s}")
     public ResponseEntity<EstatisticasResponseDTO> obterEstatisticas() {
-        long totalFornecedores = fornecedorRepository.count();
-        long totalProdutos = produtoRepository.count();
-        long totalClientes = clienteRepository.count();
-
-        EstatisticasResponseDTO response = new EstatisticasResponseDTO(
-                totalFornecedores,
-                totalProdutos,
-                totalClientes
-        );
-
-        return ResponseEntity.ok(response);
+        return leituraResiliente.ler("estatisticas", "geral", estatisticasService::obterEstatisticas);
     }
 }
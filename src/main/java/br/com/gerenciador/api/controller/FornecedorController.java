@@ -1,11 +1,19 @@
 package br.com.gerenciador.api.controller;
 
 // Importação dos DTOs (Data Transfer Objects), usados para transferir dados entre cliente e servidor
+import br.com.gerenciador.api.config.TempoLimiteConsulta;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
 import br.com.gerenciador.api.dto.FornecedorRequestDTO;
 import br.com.gerenciador.api.dto.FornecedorResponseDTO;
 
 // Importação do serviço que contém a lógica de negócio
+import br.com.gerenciador.api.mapper.MergePatchMapper;
+import br.com.gerenciador.api.model.Fornecedor;
 import br.com.gerenciador.api.service.FornecedorService;
+import br.com.gerenciador.api.service.LeituraResilienteService;
+import br.com.gerenciador.api.service.ProjecaoService;
+import com.fasterxml.jackson.databind.JsonNode;
 
 // Importação para validação dos dados recebidos no corpo das requisições
 import jakarta.validation.Valid;
@@ -19,6 +27,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Classe responsável por expor os endpoints da API relacionados aos fornecedores.
@@ -40,6 +49,8 @@ public class FornecedorController {
      *   ✅ Evita a necessidade de usar `@Autowired`, que era mais comum em versões antigas do Spring.
      */
     private final FornecedorService fornecedorService;
+    private final LeituraResilienteService leituraResiliente; // Última resposta boa quando o pool esgota
+    private final ProjecaoService projecaoService; // Campos esparsos (?fields=)
 
     /**
      * Endpoint para criar um novo fornecedor.
@@ -77,8 +88,9 @@ public class FornecedorController {
      * @return Lista de fornecedores cadastrados
      */
     @GetMapping // Mapeia requisições HTTP GET para este método
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
     public ResponseEntity<List<FornecedorResponseDTO>> listarTodosFornecedores() {
-        return ResponseEntity.ok(fornecedorService.listarTodosFornecedores());
+        return leituraResiliente.ler("fornecedores", "todos", fornecedorService::listarTodosFornecedores);
     }
 
     /**
@@ -88,9 +100,62 @@ public class FornecedorController {
      * @return Dados do fornecedor correspondente
      */
     @GetMapping("/{id}") // Define um parâmetro dinâmico na URL (exemplo: /fornecedores/5)
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
     public ResponseEntity<FornecedorResponseDTO> buscarFornecedorPeloId(@PathVariable Long id) {
         // `@PathVariable` extrai o ID da URL e o passa como argumento para o método
-        return ResponseEntity.ok(fornecedorService.buscarFornecedorPeloId(id));
+        return leituraResiliente.ler("fornecedor", id, () -> fornecedorService.buscarFornecedorPeloId(id));
+    }
+
+    /**
+     * Endpoint do feed incremental (ex: `/fornecedores/changes?since=120`), para espelhar o cadastro sem baixar tudo.
+     *
+     * @param since  Token `proximo` da página anterior (vazio = desde o início)
+     * @param limite Máximo de alterações por página (padrão 500, máximo 1000)
+     * @return Alterações em ordem de commit, com lápides para os excluídos, e o token da próxima página
+     */
+    @GetMapping("/changes")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<AlteracoesResponseDTO<FornecedorResponseDTO>> listarAlteracoesFornecedores(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(fornecedorService.listarAlteracoesFornecedores(since, limite));
+    }
+
+    /**
+     * Endpoint para buscar vários fornecedores de uma vez (ex: `?ids=3,1,7`), numa única consulta.
+     *
+     * @param ids Identificadores separados por vírgula (máximo de 1000)
+     * @return Fornecedores na ordem pedida e os IDs que não existem
+     */
+    @GetMapping(params = "ids")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<BuscaMultiplaResponseDTO<FornecedorResponseDTO>> buscarFornecedoresPelosIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(fornecedorService.buscarFornecedoresPelosIds(ids));
+    }
+
+    /**
+     * Endpoint para listar fornecedores trazendo só os campos pedidos (ex: `?fields=id,nome,endereco.cidade`).
+     *
+     * @param fields Campos separados por vírgula, com `.` para os do endereço
+     * @return Lista de objetos contendo apenas os campos pedidos
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<List<Map<String, Object>>> listarCamposFornecedores(@RequestParam String fields) {
+        return ResponseEntity.ok(projecaoService.listar(Fornecedor.class, FornecedorResponseDTO.class, fields));
+    }
+
+    /**
+     * Endpoint para buscar um fornecedor pelo ID trazendo só os campos pedidos.
+     *
+     * @param id     Identificador do fornecedor
+     * @param fields Campos separados por vírgula
+     * @return Objeto contendo apenas os campos pedidos
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
+    public ResponseEntity<Map<String, Object>> buscarCamposFornecedorPeloId(@PathVariable Long id, @RequestParam String fields) {
+        return ResponseEntity.ok(projecaoService.buscarPorId(Fornecedor.class, FornecedorResponseDTO.class, id, fields));
     }
 
     /**
@@ -107,6 +172,20 @@ public class FornecedorController {
         return ResponseEntity.ok(fornecedorService.atualizarFornecedorPeloId(id, dto));
     }
 
+    /**
+     * Endpoint para atualizar apenas alguns campos de um fornecedor (JSON Merge Patch).
+     *
+     * @param id    ID do fornecedor a ser atualizado (extraído da URL)
+     * @param patch Campos a alterar; `null` remove o valor
+     * @return Fornecedor atualizado
+     */
+    @PatchMapping(value = "/{id}", consumes = MergePatchMapper.MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<FornecedorResponseDTO> atualizarParcialmenteFornecedorPeloId(
+            @PathVariable Long id, @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(fornecedorService.atualizarParcialmenteFornecedorPeloId(id, patch));
+    }
+
     /**
      * Endpoint para deletar um fornecedor pelo ID.
      *
@@ -1,14 +1,28 @@
 package br.com.gerenciador.api.controller;
 
+import br.com.gerenciador.api.config.TempoLimiteConsulta;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
+import br.com.gerenciador.api.dto.ExclusaoEmLoteResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoLoteRequestDTO;
 import br.com.gerenciador.api.dto.ProdutoRequestDTO;
 import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import br.com.gerenciador.api.mapper.MergePatchMapper;
+import br.com.gerenciador.api.service.LeituraResilienteService;
+import br.com.gerenciador.api.service.NotificacaoEstoqueService;
 import br.com.gerenciador.api.service.ProdutoService;
+import br.com.gerenciador.api.service.SnapshotCatalogoService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/produtos")
@@ -16,20 +30,87 @@ import java.util.List;
 public class ProdutoController {
 
     private final ProdutoService produtoService;
+    private final LeituraResilienteService leituraResiliente;
+    private final NotificacaoEstoqueService notificacaoEstoqueService;
+    private final SnapshotCatalogoService snapshotCatalogo; // Leituras do arquivo mapeado (direto ou quando o banco cai)
 
     @PostMapping
     public ResponseEntity<ProdutoResponseDTO> criar(@Valid @RequestBody ProdutoRequestDTO dto) {
         return ResponseEntity.status(201).body(produtoService.criarProduto(dto));
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<ProdutoResponseDTO>> criarEmLote(@Valid @RequestBody ProdutoLoteRequestDTO dto) {
+        return ResponseEntity.status(201).body(produtoService.criarEmLote(dto.produtos()));
+    }
+
     @GetMapping
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
     public ResponseEntity<List<ProdutoResponseDTO>> listar() {
-        return ResponseEntity.ok(produtoService.listarTodos());
+        return snapshotCatalogo.listarTodos(() -> leituraResiliente.ler("produtos", "todos", produtoService::listarTodos));
+    }
+
+    /**
+     * 📌 Quem pede `application/json` recebe os documentos já renderizados de `produto_view`, sem passar pelo Jackson.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<String> listarJson() {
+        return snapshotCatalogo.listarJson(() -> leituraResiliente.ler("produtos-json", "todos", produtoService::listarTodosJson));
     }
 
     @GetMapping("/{id}")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
     public ResponseEntity<ProdutoResponseDTO> buscar(@PathVariable Long id) {
-        return ResponseEntity.ok(produtoService.buscarPorId(id));
+        return snapshotCatalogo.buscarPorId(id, () -> leituraResiliente.ler("produto", id, () -> produtoService.buscarPorId(id)));
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
+    public ResponseEntity<String> buscarJson(@PathVariable Long id) {
+        return snapshotCatalogo.buscarJson(id, () -> leituraResiliente.ler("produto-json", id, () -> produtoService.buscarPorIdJson(id)));
+    }
+
+    @GetMapping(params = "formato=normalizado")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<ProdutosNormalizadosResponseDTO> listarNormalizado() {
+        return leituraResiliente.ler("produtos", "normalizado", produtoService::listarTodosNormalizado);
+    }
+
+    @GetMapping("/changes")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<AlteracoesResponseDTO<ProdutoResponseDTO>> listarAlteracoes(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(produtoService.listarAlteracoes(since, limite));
+    }
+
+    /**
+     * 📌 Stream SSE (evento `estoque`) com preço e quantidade dos produtos em `ids` ou de um fornecedor inteiro.
+     */
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter assinarEventos(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) Long fornecedorId) {
+        return notificacaoEstoqueService.inscrever(ids, fornecedorId);
+    }
+
+    @GetMapping(params = "ids")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<BuscaMultiplaResponseDTO<ProdutoResponseDTO>> buscarVarios(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(produtoService.buscarPorIds(ids));
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.listagem:5s}")
+    public ResponseEntity<List<Map<String, Object>>> listarCampos(@RequestParam String fields) {
+        return ResponseEntity.ok(produtoService.listarCampos(fields));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @TempoLimiteConsulta("${app.consultas.tempo-limite.busca:2s}")
+    public ResponseEntity<Map<String, Object>> buscarCampos(@PathVariable Long id, @RequestParam String fields) {
+        return ResponseEntity.ok(produtoService.buscarCampos(id, fields));
     }
 
     @PutMapping("/{id}")
@@ -37,9 +118,19 @@ public class ProdutoController {
         return ResponseEntity.ok(produtoService.atualizar(id, dto));
     }
 
+    @PatchMapping(value = "/{id}", consumes = MergePatchMapper.MEDIA_TYPE)
+    public ResponseEntity<ProdutoResponseDTO> atualizarParcialmente(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return ResponseEntity.ok(produtoService.atualizarParcialmente(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletar(@PathVariable Long id) {
         produtoService.deletar(id);
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ExclusaoEmLoteResponseDTO> deletarEmLote(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(produtoService.deletarEmLote(ids));
+    }
 }
@@ -0,0 +1,10 @@
+package br.com.gerenciador.api.dto;
+
+/**
+ * 📌 Uma entrada do feed de alterações: o estado atual do registro ou, se `removido`, só o ID (lápide).
+ */
+public record AlteracaoDTO<T>(
+        Long id,
+        boolean removido,
+        T dados
+) {}
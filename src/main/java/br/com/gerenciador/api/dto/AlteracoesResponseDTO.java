@@ -0,0 +1,16 @@
+package br.com.gerenciador.api.dto;
+
+import java.util.List;
+
+/**
+ * 📌 Página do feed de alterações (`GET /{recurso}/changes?since=`).
+ *
+ * ✅ `alteracoes` em ordem de commit; cada registro aparece no máximo uma vez, com o estado mais recente.
+ * ✅ `proximo` é o token para a próxima chamada (`since`); guardá-lo permite retomar de onde parou.
+ * ✅ `temMais = true` indica que há outra página disponível imediatamente.
+ */
+public record AlteracoesResponseDTO<T>(
+        List<AlteracaoDTO<T>> alteracoes,
+        String proximo,
+        boolean temMais
+) {}
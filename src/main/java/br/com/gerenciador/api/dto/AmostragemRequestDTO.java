@@ -0,0 +1,15 @@
+package br.com.gerenciador.api.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 📌 DTO para alterar a taxa de amostragem de uma categoria de log.
+ */
+public record AmostragemRequestDTO(
+        @NotNull(message = "Taxa é obrigatória")
+        @DecimalMin(value = "0.0", message = "Taxa deve estar entre 0 e 1")
+        @DecimalMax(value = "1.0", message = "Taxa deve estar entre 0 e 1")
+        Double taxa
+) {}
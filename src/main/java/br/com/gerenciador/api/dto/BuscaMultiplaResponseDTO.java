@@ -0,0 +1,14 @@
+package br.com.gerenciador.api.dto;
+
+import java.util.List;
+
+/**
+ * 📌 DTO de resposta da busca de vários IDs de uma vez (`?ids=1,2,3`).
+ *
+ * ✅ `itens` vem na ordem dos IDs pedidos (sem repetições).
+ * ✅ `naoEncontrados` lista os IDs que não existem, em vez de simplesmente omiti-los.
+ */
+public record BuscaMultiplaResponseDTO<T>(
+        List<T> itens,
+        List<Long> naoEncontrados
+) {}
@@ -0,0 +1,13 @@
+package br.com.gerenciador.api.dto;
+
+import java.util.List;
+
+/**
+ * 📌 DTO com a taxa de acerto do cache de segundo nível (por região) e do cache de consultas.
+ */
+public record CacheEstatisticasDTO(
+        List<RegiaoCacheDTO> regioes,
+        long consultasAcertos,
+        long consultasFalhas,
+        double consultasTaxaAcerto
+) {}
@@ -0,0 +1,18 @@
+package br.com.gerenciador.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 📌 DTO para ligar o log detalhado de SQL e parâmetros para um usuário ou um request id.
+ */
+public record DepuracaoRequestDTO(
+        String usuario,
+        String requestId,
+
+        @NotNull(message = "Duração é obrigatória")
+        @Min(value = 1, message = "Duração mínima de 1 segundo")
+        @Max(value = 3600, message = "Duração máxima de 1 hora")
+        Long duracaoSegundos
+) {}
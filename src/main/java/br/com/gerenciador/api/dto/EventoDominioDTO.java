@@ -0,0 +1,20 @@
+package br.com.gerenciador.api.dto;
+
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import br.com.gerenciador.api.enums.TipoEventoDominioEnum;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📌 Evento de domínio como é entregue aos destinos do outbox.
+ * 🔹 `id` é único por evento: o consumidor usa para descartar entregas repetidas.
+ */
+public record EventoDominioDTO(
+        Long id,
+        RecursoCatalogoEnum recurso,
+        Long registroId,
+        TipoEventoDominioEnum tipo,
+        JsonNode dados,
+        LocalDateTime ocorridoEm
+) {}
@@ -0,0 +1,13 @@
+package br.com.gerenciador.api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 📌 Evento SSE `estoque`: preço e quantidade atuais de um produto, enviados após o commit da alteração.
+ */
+public record EventoEstoqueDTO(
+        Long produtoId,
+        Long fornecedorId,
+        BigDecimal preco,
+        Integer quantidadeEstoque
+) {}
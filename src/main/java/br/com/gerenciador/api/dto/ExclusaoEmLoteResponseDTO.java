@@ -0,0 +1,9 @@
+package br.com.gerenciador.api.dto;
+
+/**
+ * 📌 DTO de resposta da exclusão em lote: quantos IDs distintos foram pedidos e quantos existiam e foram removidos.
+ */
+public record ExclusaoEmLoteResponseDTO(
+        int solicitados,
+        int removidos
+) {}
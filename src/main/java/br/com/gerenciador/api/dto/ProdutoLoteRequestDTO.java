@@ -0,0 +1,16 @@
+package br.com.gerenciador.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 📌 DTO da criação de produtos em lote (`POST /produtos/lote`), aceito em JSON, CBOR ou Smile.
+ */
+public record ProdutoLoteRequestDTO(
+        @NotEmpty(message = "Informe ao menos um produto")
+        @Size(max = 1000, message = "Máximo de 1000 produtos por lote")
+        List<@Valid ProdutoRequestDTO> produtos
+) {}
@@ -0,0 +1,15 @@
+package br.com.gerenciador.api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 📌 Produto na resposta normalizada: o fornecedor vem só pelo ID (os dados dele ficam em `fornecedores`).
+ */
+public record ProdutoNormalizadoDTO(
+        Long id,
+        String nome,
+        BigDecimal preco,
+        String descricao,
+        Integer quantidadeEstoque,
+        Long fornecedorId
+) {}
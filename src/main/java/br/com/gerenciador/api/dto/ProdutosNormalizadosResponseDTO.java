@@ -0,0 +1,15 @@
+package br.com.gerenciador.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📌 Listagem normalizada de produtos (`GET /produtos?formato=normalizado`).
+ *
+ * ✅ `produtos` referenciam o fornecedor por `fornecedorId`.
+ * ✅ `fornecedores` traz cada fornecedor (com endereço) uma única vez, indexado pelo ID.
+ */
+public record ProdutosNormalizadosResponseDTO(
+        List<ProdutoNormalizadoDTO> produtos,
+        Map<Long, FornecedorResponseDTO> fornecedores
+) {}
@@ -0,0 +1,11 @@
+package br.com.gerenciador.api.dto;
+
+/**
+ * 📌 Resultado da mudança de shard dos produtos de um fornecedor.
+ */
+public record RebalanceamentoResponseDTO(
+        Long fornecedorId,
+        String origem,
+        String destino,
+        int produtosMovidos
+) {}
@@ -0,0 +1,13 @@
+package br.com.gerenciador.api.dto;
+
+/**
+ * 📌 Estatísticas de uma região do cache de segundo nível do Hibernate.
+ */
+public record RegiaoCacheDTO(
+        String regiao,
+        long acertos,
+        long falhas,
+        long insercoes,
+        double taxaAcerto,
+        Long elementosEmMemoria
+) {}
@@ -0,0 +1,17 @@
+package br.com.gerenciador.api.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 📌 DTO com o estado do registro assíncrono de logs (buffer, contadores e depurações ativas).
+ */
+public record RegistroMetricasDTO(
+        int capacidadeBuffer,
+        int ocupacaoBuffer,
+        Map<String, Long> aceitos,
+        Map<String, Long> descartados,
+        Map<String, Double> amostragem,
+        Map<String, Instant> depuracaoPorUsuario,
+        Map<String, Instant> depuracaoPorRequisicao
+) {}
@@ -0,0 +1,12 @@
+package br.com.gerenciador.api.enums;
+
+/**
+ * 📌 Classes de carga que disputam o pool de conexões; cada uma tem o seu bulkhead (`app.bulkheads.*`).
+ */
+public enum CargaTrabalhoEnum {
+    AUTENTICACAO,
+    CATALOGO_LEITURA,
+    CATALOGO_ESCRITA,
+    ESTATISTICAS,
+    MANUTENCAO
+}
@@ -0,0 +1,11 @@
+package br.com.gerenciador.api.enums;
+
+/**
+ * 📌 Recursos do catálogo que têm feed de alterações (`GET /{recurso}/changes`).
+ */
+public enum RecursoCatalogoEnum {
+
+    PRODUTO,
+    CLIENTE,
+    FORNECEDOR
+}
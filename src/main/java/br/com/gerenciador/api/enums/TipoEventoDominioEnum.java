@@ -0,0 +1,11 @@
+package br.com.gerenciador.api.enums;
+
+/**
+ * 📌 Tipos de evento de domínio gravados no outbox.
+ */
+public enum TipoEventoDominioEnum {
+
+    CRIADO,
+    ALTERADO,
+    REMOVIDO
+}
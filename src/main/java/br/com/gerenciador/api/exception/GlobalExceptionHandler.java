@@ -1,6 +1,11 @@
 package br.com.gerenciador.api.exception;
 
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,6 +41,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    // 📌 Trata erros de validação disparados fora do binding (ex: resultado de um PATCH)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleConstraintViolation(ConstraintViolationException ex) {
+        Map<String, Object> errors = new HashMap<>();
+        errors.put("status", HttpStatus.BAD_REQUEST.value());
+
+        List<String> mensagens = ex.getConstraintViolations()
+                .stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .collect(Collectors.toList());
+
+        errors.put("erros", mensagens);
+        return ResponseEntity.badRequest().body(errors);
+    }
+
     // 📌 Trata erro de conversão de tipo na URL (ex: String em vez de Long no PathVariable)
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
@@ -45,6 +65,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    // 📌 Trata violação de integridade no banco (ex: excluir fornecedor que ainda tem produtos)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("status", HttpStatus.CONFLICT.value());
+        error.put("erro", "Operação viola a integridade dos dados");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // 📌 Sem conexão do pool dentro do prazo (ex: escrita com o banco saturado): falha rápido com 503
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public ResponseEntity<Map<String, Object>> handleCannotCreateTransaction(RuntimeException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        error.put("erro", "Banco de dados indisponível no momento, tente novamente");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
+    // 📌 Consulta cancelada por tempo limite (`@TempoLimiteConsulta`): 503 em vez de erro genérico
+    @ExceptionHandler({QueryTimeoutException.class, jakarta.persistence.QueryTimeoutException.class})
+    public ResponseEntity<Map<String, Object>> handleQueryTimeout(RuntimeException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        error.put("erro", "Consulta excedeu o tempo limite, tente novamente");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
     // 📌 Trata qualquer outra exceção não mapeada
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
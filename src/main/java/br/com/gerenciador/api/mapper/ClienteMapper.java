@@ -16,4 +16,6 @@ public interface ClienteMapper {
     Cliente toEntity(ClienteRequestDTO dto);
 
     ClienteResponseDTO toDTO(Cliente cliente);
+
+    ClienteRequestDTO toRequestDTO(Cliente cliente);
 }
@@ -3,6 +3,8 @@ package br.com.gerenciador.api.mapper;
 import br.com.gerenciador.api.dto.EnderecoDTO;
 import br.com.gerenciador.api.model.Endereco;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * 📌 Interface de mapeamento entre `EnderecoDTO` e `Endereco` usando MapStruct.
@@ -15,6 +17,7 @@ import org.mapstruct.Mapper;
  * 🎯 **Objetivo desse mapper:**
  * 🔄 Converter um `EnderecoDTO` (usado na API) para `Endereco` (usado na entidade do banco).
  * 🔄 Converter um `Endereco` do banco para um `EnderecoDTO` (para responder na API).
+ * 🔄 Aplicar um `EnderecoDTO` sobre o `Endereco` já existente, sem criar uma nova linha no banco.
  */
 @Mapper(componentModel = "spring") // Indica que este Mapper será gerenciado pelo Spring como um Bean
 public interface EnderecoMapper {
@@ -30,4 +33,31 @@ public interface EnderecoMapper {
      * 🔄 Útil quando pegamos dados do banco e queremos devolver como resposta na API.
      */
     EnderecoDTO toDTO(Endereco endereco);
+
+    /**
+     * 📌 Copia os dados do `EnderecoDTO` para um `Endereco` já existente (o ID é preservado).
+     */
+    @Mapping(target = "id", ignore = true)
+    void atualizar(EnderecoDTO dto, @MappingTarget Endereco endereco);
+
+    /**
+     * 📌 Decide o endereço que a entidade dona deve ter depois de uma atualização.
+     *
+     * 🔹 Sem endereço no DTO: devolve `null` (o antigo é removido pelo `orphanRemoval`).
+     * 🔹 Sem endereço atual: cria um novo.
+     * 🔹 Nada mudou: devolve o atual intacto, sem nenhum UPDATE.
+     * 🔹 Caso contrário: altera o endereço atual no lugar, mantendo a mesma linha.
+     */
+    default Endereco aplicar(EnderecoDTO dto, Endereco atual) {
+        if (dto == null) {
+            return null;
+        }
+        if (atual == null) {
+            return toEntity(dto);
+        }
+        if (!dto.equals(toDTO(atual))) {
+            atualizar(dto, atual);
+        }
+        return atual;
+    }
 }
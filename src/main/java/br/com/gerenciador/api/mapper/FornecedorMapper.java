@@ -41,4 +41,11 @@ public interface FornecedorMapper {
      * ✅ Ele mantém apenas os dados necessários para resposta, sem expor detalhes internos da entidade.
      */
     FornecedorResponseDTO toDTO(Fornecedor fornecedor);
+
+    /**
+     * 📌 Converte uma entidade `Fornecedor` de volta para `FornecedorRequestDTO`.
+     *
+     * 🔄 Usado no PATCH: o estado atual vira o DTO sobre o qual o merge patch é aplicado.
+     */
+    FornecedorRequestDTO toRequestDTO(Fornecedor fornecedor);
 }
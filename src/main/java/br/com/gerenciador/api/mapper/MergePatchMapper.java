@@ -0,0 +1,67 @@
+package br.com.gerenciador.api.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
+
+/**
+ * 📌 Aplica um JSON Merge Patch (RFC 7396) sobre um DTO de requisição.
+ *
+ * 🚀 **Como funciona:**
+ * 1️⃣ O DTO com o estado atual vira uma árvore JSON.
+ * 2️⃣ O patch é mesclado: campos presentes substituem, `null` remove e objetos aninhados são mesclados recursivamente.
+ * 3️⃣ O resultado volta a ser o DTO e passa pelas mesmas validações do PUT.
+ */
+@Component
+@RequiredArgsConstructor
+public class MergePatchMapper {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T aplicar(T atual, JsonNode patch, Class<T> tipo) {
+        if (patch == null || !patch.isObject()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O corpo do PATCH deve ser um objeto JSON");
+        }
+
+        T resultado;
+        try {
+            resultado = objectMapper.treeToValue(mesclar(objectMapper.valueToTree(atual), patch), tipo);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Valor inválido no PATCH: " + e.getOriginalMessage());
+        }
+
+        Set<ConstraintViolation<T>> violacoes = validator.validate(resultado);
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
+        }
+        return resultado;
+    }
+
+    private static JsonNode mesclar(JsonNode alvo, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode resultado = alvo != null && alvo.isObject() ? ((ObjectNode) alvo).deepCopy() : ((ObjectNode) patch).objectNode();
+        patch.fields().forEachRemaining(campo -> {
+            if (campo.getValue().isNull()) {
+                resultado.remove(campo.getKey());
+            } else {
+                resultado.set(campo.getKey(), mesclar(resultado.get(campo.getKey()), campo.getValue()));
+            }
+        });
+        return resultado;
+    }
+}
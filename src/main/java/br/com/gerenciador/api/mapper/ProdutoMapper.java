@@ -1,7 +1,12 @@
 package br.com.gerenciador.api.mapper;
 
+import br.com.gerenciador.api.dto.EnderecoDTO;
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoNormalizadoDTO;
+import br.com.gerenciador.api.dto.ProdutoRequestDTO;
 import br.com.gerenciador.api.dto.ProdutoResponseDTO;
 import br.com.gerenciador.api.model.Produto;
+import br.com.gerenciador.api.model.ProdutoVisao;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -11,5 +16,72 @@ public interface ProdutoMapper {
     @Mapping(target = "fornecedor", ignore = true) // será setado manualmente
     Produto toEntity(br.com.gerenciador.api.dto.ProdutoRequestDTO dto);
 
+    @Mapping(target = "fornecedorId", source = "fornecedor.id")
+    ProdutoRequestDTO toRequestDTO(Produto produto);
+
     ProdutoResponseDTO toDTO(Produto produto);
+
+    @Mapping(target = "fornecedorId", source = "fornecedor.id")
+    ProdutoNormalizadoDTO toNormalizadoDTO(Produto produto);
+
+    /**
+     * 📌 Monta o DTO com um fornecedor já convertido (reaproveitado entre os produtos do mesmo fornecedor).
+     */
+    default ProdutoResponseDTO toDTO(Produto produto, FornecedorResponseDTO fornecedor) {
+        return new ProdutoResponseDTO(
+                produto.getId(),
+                produto.getNome(),
+                produto.getPreco(),
+                produto.getDescricao(),
+                produto.getQuantidadeEstoque(),
+                fornecedor
+        );
+    }
+
+    // Modelo de leitura (`produto_view`): as colunas achatadas voltam para o formato da resposta
+    default ProdutoResponseDTO toDTO(ProdutoVisao visao) {
+        return toDTO(visao, toFornecedorDTO(visao));
+    }
+
+    default ProdutoResponseDTO toDTO(ProdutoVisao visao, FornecedorResponseDTO fornecedor) {
+        return new ProdutoResponseDTO(
+                visao.getId(),
+                visao.getNome(),
+                visao.getPreco(),
+                visao.getDescricao(),
+                visao.getQuantidadeEstoque(),
+                fornecedor
+        );
+    }
+
+    default FornecedorResponseDTO toFornecedorDTO(ProdutoVisao visao) {
+        EnderecoDTO endereco = visao.getEnderecoLogradouro() == null ? null : new EnderecoDTO(
+                visao.getEnderecoLogradouro(),
+                visao.getEnderecoNumero(),
+                visao.getEnderecoComplemento(),
+                visao.getEnderecoBairro(),
+                visao.getEnderecoCidade(),
+                visao.getEnderecoEstado(),
+                visao.getEnderecoPais(),
+                visao.getEnderecoCep()
+        );
+        return new FornecedorResponseDTO(
+                visao.getFornecedorId(),
+                visao.getFornecedorNome(),
+                visao.getFornecedorCnpj(),
+                visao.getFornecedorTipo(),
+                endereco
+        );
+    }
+
+    default ProdutoNormalizadoDTO toNormalizadoDTO(ProdutoVisao visao) {
+        return new ProdutoNormalizadoDTO(
+                visao.getId(),
+                visao.getNome(),
+                visao.getPreco(),
+                visao.getDescricao(),
+                visao.getQuantidadeEstoque(),
+                visao.getFornecedorId()
+        );
+    }
 }
@@ -0,0 +1,53 @@
+package br.com.gerenciador.api.model;
+
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 📌 Última alteração de cada registro do catálogo, para o feed incremental (`/changes?since=`).
+ *
+ * ✅ Uma linha por registro (recurso + ID): cada nova escrita só avança a `sequencia`, então a tabela não cresce com o histórico.
+ * ✅ `removido = true` é a lápide (tombstone) de um registro excluído.
+ * ✅ `sequencia` é gravada na mesma transação da escrita e cresce na ordem dos commits (ver `AlteracaoCatalogoService`).
+ */
+@Entity
+@Table(name = "alteracao_catalogo", indexes =
+        @Index(name = "uk_alteracao_catalogo_recurso_sequencia", columnList = "recurso, sequencia", unique = true))
+@IdClass(AlteracaoCatalogo.Chave.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracaoCatalogo {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private RecursoCatalogoEnum recurso;
+
+    @Id
+    @Column(name = "registro_id")
+    private Long registroId;
+
+    @Column(nullable = false)
+    private Long sequencia;
+
+    @Column(nullable = false)
+    private boolean removido;
+
+    @Column(name = "alterado_em", nullable = false)
+    private LocalDateTime alteradoEm;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private RecursoCatalogoEnum recurso;
+        private Long registroId;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,11 +17,15 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "cliente")
+@NamedEntityGraph(name = Cliente.GRAFO_COMPLETO, attributeNodes = @NamedAttributeNode("endereco"))
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class Cliente {
 
+    public static final String GRAFO_COMPLETO = "Cliente.completo";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,7 +39,7 @@ public class Cliente {
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "endereco_id", referencedColumnName = "id")
     private Endereco endereco;
 
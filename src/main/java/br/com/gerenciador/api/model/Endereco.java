@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.io.Serializable;
 
 /**
@@ -17,6 +21,9 @@ import java.io.Serializable;
  */
 @Entity // Indica que esta classe é uma entidade JPA e será mapeada para uma tabela no banco de dados
 @Table(name = "endereco") // Define o nome da tabela no banco de dados
+@DynamicUpdate // UPDATE apenas com as colunas que mudaram
+@Cacheable // Carregado junto com o fornecedor em toda leitura de produto: fica no cache de segundo nível
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "endereco")
 @NoArgsConstructor // Gera automaticamente um construtor vazio (necessário para o JPA)
 @AllArgsConstructor // Gera automaticamente um construtor com todos os atributos
 @Data // Lombok: gera automaticamente `getters`, `setters`, `toString`, `equals` e `hashCode`
@@ -0,0 +1,62 @@
+package br.com.gerenciador.api.model;
+
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import br.com.gerenciador.api.enums.TipoEventoDominioEnum;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📌 Evento de domínio aguardando publicação (padrão transactional outbox).
+ *
+ * ✅ Gravado na mesma transação da escrita: se ela for desfeita, o evento some junto.
+ * ✅ O ID vem de uma sequence com `allocationSize` alto, então vários eventos viram um único INSERT em lote.
+ * ✅ `ordem` segue a ordem dos commits (contador `outbox`, ver `EventoOutboxService`); é por ela que o relay entrega.
+ * ✅ `reservadoAte`: lote separado por um relay e ainda em entrega (a partição fica com ele até essa hora).
+ * ✅ A linha é apagada assim que o relay entrega o evento (ver `RelayOutboxService`).
+ */
+@Entity
+@Table(name = "evento_outbox")
+@Data
+@NoArgsConstructor
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evento_outbox_seq")
+    @SequenceGenerator(name = "evento_outbox_seq", sequenceName = "evento_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecursoCatalogoEnum recurso;
+
+    @Column(name = "registro_id", nullable = false)
+    private Long registroId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoEventoDominioEnum tipo;
+
+    // Estado do registro após a escrita, em JSON (nulo na remoção)
+    @Column(columnDefinition = "text")
+    private String dados;
+
+    @Column(name = "ocorrido_em", nullable = false)
+    private LocalDateTime ocorridoEm;
+
+    @Column(nullable = false)
+    private Long ordem;
+
+    @Column(name = "reservado_ate")
+    private LocalDateTime reservadoAte;
+
+    public EventoOutbox(RecursoCatalogoEnum recurso, Long registroId, TipoEventoDominioEnum tipo, String dados, LocalDateTime ocorridoEm) {
+        this.recurso = recurso;
+        this.registroId = registroId;
+        this.tipo = tipo;
+        this.dados = dados;
+        this.ocorridoEm = ocorridoEm;
+    }
+}
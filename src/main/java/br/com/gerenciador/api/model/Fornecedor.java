@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -20,11 +23,17 @@ import java.time.LocalDateTime;
  */
 @Entity // Indica que esta classe será uma entidade gerenciada pelo JPA
 @Table(name = "fornecedor") // Define o nome da tabela no banco
+@NamedEntityGraph(name = Fornecedor.GRAFO_COMPLETO, attributeNodes = @NamedAttributeNode("endereco")) // Endereço junto nas buscas por vários IDs
+@DynamicUpdate // UPDATE apenas com as colunas que mudaram
+@Cacheable // Fornecedores mudam pouco: ficam no cache de segundo nível (JCache/Caffeine)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fornecedor") // Atualizações e exclusões invalidam a entrada no commit
 @AllArgsConstructor // Lombok: gera automaticamente um construtor com todos os atributos
 @NoArgsConstructor // Lombok: gera automaticamente um construtor vazio (necessário para o JPA)
 @Data // Lombok: gera `getters`, `setters`, `toString`, `equals` e `hashCode`
 public class Fornecedor {
 
+    public static final String GRAFO_COMPLETO = "Fornecedor.completo";
+
     /**
      * 📌 Chave primária da tabela `fornecedor`.
      *
@@ -76,11 +85,14 @@ public class Fornecedor {
      *    - Garante que qualquer operação (inserção, atualização ou remoção) no fornecedor **afete o endereço automaticamente**.
      *    - Por exemplo, se deletarmos um fornecedor, o endereço dele também será deletado.
      *
+     * 🔹 `orphanRemoval = true`:
+     *    - Se o endereço for trocado ou removido, a linha antiga é apagada em vez de ficar órfã na tabela.
+     *
      * 🔹 `@JoinColumn(name = "endereco_id", referencedColumnName = "id")`:
      *    - Define a chave estrangeira (`endereco_id`) que relaciona essa tabela com a tabela `endereco`.
      *    - `referencedColumnName = "id"` indica que o campo `id` da tabela `endereco` é a referência.
      */
-    @OneToOne(cascade = CascadeType.ALL) // Define a relação 1-para-1 e propaga operações entre as entidades
+    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true) // Define a relação 1-para-1 e propaga operações entre as entidades
     @JoinColumn(name = "endereco_id", referencedColumnName = "id") // Define a chave estrangeira
     private Endereco endereco;
 
@@ -2,16 +2,28 @@ package br.com.gerenciador.api.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "produto")
+@NamedEntityGraph( // Plano de carga das buscas por vários IDs: fornecedor e endereço na mesma consulta
+        name = Produto.GRAFO_COMPLETO,
+        attributeNodes = @NamedAttributeNode(value = "fornecedor", subgraph = "fornecedor"),
+        subgraphs = @NamedSubgraph(name = "fornecedor", attributeNodes = @NamedAttributeNode("endereco"))
+)
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Produto {
 
+    public static final String GRAFO_COMPLETO = "Produto.completo";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,6 +41,7 @@ public class Produto {
     private Integer quantidadeEstoque;
 
     @ManyToOne
+    @Fetch(FetchMode.SELECT) // Resolve o fornecedor pelo cache de segundo nível em vez de JOIN
     @JoinColumn(name = "fornecedor_id", nullable = false)
     private Fornecedor fornecedor;
 }
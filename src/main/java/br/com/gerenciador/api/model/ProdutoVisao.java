@@ -0,0 +1,80 @@
+package br.com.gerenciador.api.model;
+
+import br.com.gerenciador.api.enums.TipoFornecedorEnum;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * 📌 Modelo de leitura de produtos (tabela `produto_view`): produto, fornecedor e endereço numa única linha.
+ *
+ * ✅ As leituras do catálogo viram uma busca por índice numa tabela só, sem JOIN nem cache de segundo nível.
+ * ✅ `documento` guarda o `ProdutoResponseDTO` já renderizado em JSON, devolvido sem passar pelo Jackson.
+ * ✅ Somente leitura para o Hibernate: as linhas são regravadas por `ProdutoVisaoRepository` na transação da escrita.
+ */
+@Entity
+@Immutable
+@Table(name = "produto_view")
+@Data
+@NoArgsConstructor
+public class ProdutoVisao {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 150)
+    private String nome;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal preco;
+
+    @Column(length = 500)
+    private String descricao;
+
+    @Column(name = "quantidade_estoque", nullable = false)
+    private Integer quantidadeEstoque;
+
+    @Column(name = "fornecedor_id", nullable = false)
+    private Long fornecedorId;
+
+    @Column(name = "fornecedor_nome", nullable = false, length = 100)
+    private String fornecedorNome;
+
+    @Column(name = "fornecedor_cnpj", nullable = false, length = 14)
+    private String fornecedorCnpj;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fornecedor_tipo", nullable = false)
+    private TipoFornecedorEnum fornecedorTipo;
+
+    // Colunas do endereço ficam nulas quando o fornecedor não tem endereço
+    @Column(name = "endereco_logradouro", length = 150)
+    private String enderecoLogradouro;
+
+    @Column(name = "endereco_numero", length = 10)
+    private String enderecoNumero;
+
+    @Column(name = "endereco_complemento", length = 50)
+    private String enderecoComplemento;
+
+    @Column(name = "endereco_bairro", length = 50)
+    private String enderecoBairro;
+
+    @Column(name = "endereco_cidade", length = 50)
+    private String enderecoCidade;
+
+    @Column(name = "endereco_estado", length = 50)
+    private String enderecoEstado;
+
+    @Column(name = "endereco_pais", length = 50)
+    private String enderecoPais;
+
+    @Column(name = "endereco_cep", length = 20)
+    private String enderecoCep;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String documento;
+}
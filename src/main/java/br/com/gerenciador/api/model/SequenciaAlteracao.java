@@ -0,0 +1,28 @@
+package br.com.gerenciador.api.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 📌 Contadores travados até o commit: `catalogo` (sequências do feed de alterações) e `outbox` (ordem dos eventos).
+ * 🔹 Incrementados no fim de cada transação de escrita do catálogo: o lock da linha dura até o commit.
+ */
+@Entity
+@Table(name = "sequencia_alteracao")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SequenciaAlteracao {
+
+    public static final String CATALOGO = "catalogo";
+    public static final String OUTBOX = "outbox";
+
+    @Id
+    @Column(length = 30)
+    private String nome;
+
+    @Column(nullable = false)
+    private Long valor;
+}
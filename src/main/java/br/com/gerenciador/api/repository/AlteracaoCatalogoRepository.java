@@ -0,0 +1,18 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import br.com.gerenciador.api.model.AlteracaoCatalogo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AlteracaoCatalogoRepository extends JpaRepository<AlteracaoCatalogo, AlteracaoCatalogo.Chave> {
+
+    /**
+     * 📌 Próxima página do feed: alterações do recurso depois da sequência informada, em ordem.
+     */
+    List<AlteracaoCatalogo> findByRecursoAndSequenciaGreaterThanOrderBySequencia(RecursoCatalogoEnum recurso, long sequencia, Limit limite);
+}
@@ -1,12 +1,35 @@
 package br.com.gerenciador.api.repository;
 
 import br.com.gerenciador.api.model.Cliente;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 📌 Repositório responsável por acessar os dados da entidade `Cliente`.
  */
 @Repository
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+
+    /**
+     * 📌 Vários clientes num único `SELECT ... WHERE id IN (...)`, com o plano de carga `Cliente.GRAFO_COMPLETO`.
+     */
+    @EntityGraph(Cliente.GRAFO_COMPLETO)
+    @Query("select x from Cliente x where x.id in :ids")
+    List<Cliente> buscarPelosIds(Collection<Long> ids);
+
+    /**
+     * 📌 Exclui o cliente e o endereço dele num único statement (CTE de escrita do PostgreSQL).
+     * 🔹 Retorna quantos clientes foram removidos (0 = não existia).
+     */
+    @Query(value = """
+            WITH removido AS (DELETE FROM cliente WHERE id = :id RETURNING endereco_id),
+                 endereco_removido AS (DELETE FROM endereco WHERE id IN (SELECT endereco_id FROM removido))
+            SELECT count(*) FROM removido
+            """, nativeQuery = true)
+    long deletarComEndereco(Long id);
 }
@@ -0,0 +1,43 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.model.Endereco;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 📌 Repositório da entidade `Endereco`, usado na limpeza de endereços órfãos.
+ *
+ * 🔹 Órfão = endereço que nenhum cliente nem fornecedor referencia mais.
+ */
+@Repository
+public interface EnderecoRepository extends JpaRepository<Endereco, Long> {
+
+    /**
+     * 📌 Próximos IDs de endereços órfãos, em ordem crescente.
+     */
+    @Query("""
+            select e.id from Endereco e
+            where not exists (select 1 from Cliente c where c.endereco = e)
+              and not exists (select 1 from Fornecedor f where f.endereco = e)
+            order by e.id
+            """)
+    List<Long> buscarIdsOrfaos(Limit limite);
+
+    /**
+     * 📌 Exclui os endereços informados, conferindo de novo que continuam órfãos no momento do DELETE.
+     */
+    @Modifying
+    @Query("""
+            delete from Endereco e
+            where e.id in :ids
+              and not exists (select 1 from Cliente c where c.endereco = e)
+              and not exists (select 1 from Fornecedor f where f.endereco = e)
+            """)
+    int deletarOrfaos(Collection<Long> ids);
+}
@@ -0,0 +1,45 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.model.EventoOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    /**
+     * 📌 Trava a partição até o fim da transação; `false` se outro relay já está reservando nela.
+     */
+    @Query(value = "select pg_try_advisory_xact_lock(:classe, :particao)", nativeQuery = true)
+    boolean travarParticao(int classe, int particao);
+
+    /**
+     * 📌 Se a partição tem um lote reservado ainda em entrega (de outra instância ou de uma volta anterior).
+     */
+    @Query(value = """
+            select exists(select 1 from evento_outbox
+                          where mod(registro_id, :particoes) = :particao and reservado_ate > now())
+            """, nativeQuery = true)
+    boolean particaoReservada(int particoes, int particao);
+
+    /**
+     * 📌 Próximo lote de uma partição (`registro_id mod particoes`), na ordem dos commits.
+     */
+    @Query("select e from EventoOutbox e where mod(e.registroId, :particoes) = :particao order by e.ordem")
+    List<EventoOutbox> proximoLote(int particoes, int particao, Limit limite);
+
+    @Modifying
+    @Query(value = "update evento_outbox set reservado_ate = now() + make_interval(secs => :segundos) where id in (:ids)",
+            nativeQuery = true)
+    int reservar(Collection<Long> ids, double segundos);
+
+    @Modifying
+    @Query("update EventoOutbox e set e.reservadoAte = null where e.id in :ids")
+    int liberar(Collection<Long> ids);
+}
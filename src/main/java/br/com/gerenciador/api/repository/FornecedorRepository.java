@@ -1,9 +1,19 @@
 package br.com.gerenciador.api.repository;
 
 import br.com.gerenciador.api.model.Fornecedor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * 📌 Repositório responsável por acessar os dados da entidade `Fornecedor` no banco de dados.
  *
@@ -14,4 +24,53 @@ import org.springframework.stereotype.Repository;
  */
 @Repository // Indica que esta interface é um componente do Spring responsável pelo acesso ao banco de dados.
 public interface FornecedorRepository extends JpaRepository<Fornecedor, Long> {
+
+    /**
+     * 📌 Lista todos os fornecedores usando o cache de consultas do Hibernate.
+     * 🔹 O resultado guarda apenas os IDs; as entidades vêm do cache de segundo nível.
+     * 🔹 Qualquer escrita na tabela `fornecedor` invalida a consulta automaticamente.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Fornecedor> findAll();
+
+    /**
+     * 📌 Vários fornecedores num único `SELECT ... WHERE id IN (...)`, com o plano de carga `Fornecedor.GRAFO_COMPLETO`.
+     */
+    @EntityGraph(Fornecedor.GRAFO_COMPLETO)
+    @Query("select x from Fornecedor x where x.id in :ids")
+    List<Fornecedor> buscarPelosIds(Collection<Long> ids);
+
+    /**
+     * 📌 Apenas os IDs, sem carregar entidades (usado para montar o conjunto de fornecedores existentes).
+     */
+    @Query("select f.id from Fornecedor f")
+    Stream<Long> streamIds();
+
+    /**
+     * 📌 Trava os fornecedores informados contra exclusão (`FOR KEY SHARE`, em ordem de ID) e devolve os que existem.
+     * 🔹 Faz o papel da FK para produtos em shards: chame antes de gravar o produto no shard.
+     * 🔹 Não conflita com alterações do fornecedor (`FOR NO KEY UPDATE`); só com `travarParaExclusao`.
+     */
+    @Query(value = "select id from fornecedor where id in :ids order by id for key share", nativeQuery = true)
+    List<Long> travarContraExclusao(Collection<Long> ids);
+
+    /**
+     * 📌 Trava o fornecedor para exclusão (`FOR UPDATE`) antes de conferir se ainda tem produtos.
+     * 🔹 Gravações de produtos dele em andamento (`travarContraExclusao`) terminam antes, e as novas esperam este commit.
+     */
+    @Query(value = "select id from fornecedor where id = :id for update", nativeQuery = true)
+    Optional<Long> travarParaExclusao(Long id);
+
+    /**
+     * 📌 Exclui o fornecedor e o endereço dele num único statement (CTE de escrita do PostgreSQL).
+     * 🔹 Retorna quantos fornecedores foram removidos (0 = não existia).
+     * 🔹 Por ser SQL nativo, não passa pelo cache de segundo nível: o serviço remove a entrada após o commit.
+     */
+    @Query(value = """
+            WITH removido AS (DELETE FROM fornecedor WHERE id = :id RETURNING endereco_id),
+                 endereco_removido AS (DELETE FROM endereco WHERE id IN (SELECT endereco_id FROM removido))
+            SELECT count(*) FROM removido
+            """, nativeQuery = true)
+    long deletarComEndereco(Long id);
 }
@@ -1,9 +1,47 @@
 package br.com.gerenciador.api.repository;
 
 import br.com.gerenciador.api.model.Produto;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface ProdutoRepository extends JpaRepository<Produto, Long> {
+public interface ProdutoRepository extends JpaRepository<Produto, Long>, ProdutoRepositoryCustom {
+
+    /**
+     * 📌 Vários produtos num único `SELECT ... WHERE id IN (...)`, com o plano de carga `Produto.GRAFO_COMPLETO`.
+     */
+    @EntityGraph(Produto.GRAFO_COMPLETO)
+    @Query("select x from Produto x where x.id in :ids")
+    List<Produto> buscarPelosIds(Collection<Long> ids);
+
+    /**
+     * 📌 Quais dos IDs informados existem (usado antes da exclusão em lote, para registrar as lápides do feed).
+     */
+    @Query("select p.id from Produto p where p.id in :ids")
+    List<Long> buscarIdsExistentes(Collection<Long> ids);
+
+    /**
+     * 📌 Se o fornecedor ainda tem produtos (conferido antes de excluir o fornecedor; usa `idx_produto_fornecedor`).
+     */
+    boolean existsByFornecedorId(Long fornecedorId);
+
+    /**
+     * 📌 Exclui com um único `DELETE ... WHERE id = ?`; retorna quantas linhas foram removidas (0 = não existia).
+     */
+    @Modifying
+    @Query("delete from Produto p where p.id = :id")
+    int deletarPeloId(Long id);
+
+    /**
+     * 📌 Exclusão em conjunto (`DELETE ... WHERE id IN (...)`); retorna quantas linhas foram removidas.
+     */
+    @Modifying
+    @Query("delete from Produto p where p.id in :ids")
+    int deletarPelosIds(Collection<Long> ids);
 }
@@ -0,0 +1,20 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.model.Produto;
+
+import java.util.List;
+
+/**
+ * 📌 Operações de `ProdutoRepository` feitas direto em JDBC.
+ */
+public interface ProdutoRepositoryCustom {
+
+    /**
+     * 📌 Insere os produtos em lotes JDBC e preenche o `id` de cada um.
+     * 🔹 O `id` é `IDENTITY`: pelo `saveAll` o Hibernate precisa de um INSERT por linha para ler a chave gerada,
+     *    e o `hibernate.jdbc.batch_size` não vale. Aqui os IDs são reservados antes, numa consulta só, na
+     *    mesma sequência da coluna, e os INSERTs vão em lote.
+     * ⚠️ Os produtos não entram na sessão JPA: use só para criar e devolver, sem alterar depois na mesma transação.
+     */
+    List<Produto> inserirEmLote(List<Produto> produtos);
+}
@@ -0,0 +1,41 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.model.Produto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class ProdutoRepositoryCustomImpl implements ProdutoRepositoryCustom {
+
+    private static final int TAMANHO_LOTE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Produto> inserirEmLote(List<Produto> produtos) {
+        if (produtos.isEmpty()) {
+            return produtos;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('produto', 'id')) FROM generate_series(1, ?)",
+                Long.class, produtos.size());
+        for (int i = 0; i < produtos.size(); i++) {
+            produtos.get(i).setId(ids.get(i));
+        }
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO produto (id, nome, preco, descricao, quantidade_estoque, fornecedor_id)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """, produtos, TAMANHO_LOTE, (ps, produto) -> {
+                    ps.setLong(1, produto.getId());
+                    ps.setString(2, produto.getNome());
+                    ps.setBigDecimal(3, produto.getPreco());
+                    ps.setString(4, produto.getDescricao());
+                    ps.setInt(5, produto.getQuantidadeEstoque());
+                    ps.setLong(6, produto.getFornecedor().getId());
+                });
+        return produtos;
+    }
+}
@@ -0,0 +1,369 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.config.ClusterShards;
+import br.com.gerenciador.api.model.Produto;
+import br.com.gerenciador.api.service.MapaShards;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 📌 Acesso à tabela `produto` particionada por fornecedor entre os shards (`app.shards.habilitado=true`).
+ *
+ * ✅ Escritas vão só ao shard do fornecedor (`MapaShards.shardParaEscrita`).
+ * ✅ Busca por ID: o shard de cada ID fica num cache; na falta (ou se o produto mudou de shard),
+ *    o ID é procurado em todos os shards em paralelo, uma busca pela chave primária em cada.
+ * ✅ Listagens, buscas por vários IDs e contagens são espalhadas por todos os shards e intercaladas por ID.
+ * ✅ Cada linha só vale no shard de leitura do fornecedor dela (`MapaShards.shardParaLeitura`): durante um
+ *    rebalanceamento os produtos existem na origem e no destino, e a cópia do outro shard é ignorada.
+ * ✅ As compensações (`apagarSeInalterados`, `reverter`, `restaurarAusentes`) são condicionais: só mexem na linha
+ *    que ainda está como a transação desfeita deixou, sem sobrescrever escritas já confirmadas.
+ * ✅ IDs vêm da sequence `produto_shard_seq` do banco principal, reservados em blocos de 50: são únicos entre os shards
+ *    e não mudam quando o produto muda de shard.
+ * 🔹 Os produtos devolvidos trazem o fornecedor como referência JPA (`getReferenceById`): use dentro de uma transação.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "app.shards", name = "habilitado", havingValue = "true")
+public class ProdutoShardRepository {
+
+    static final int TAMANHO_BLOCO_IDS = 50;
+    static final int TAMANHO_LOTE_IN = 1_000;
+
+    private static final String COLUNAS = "id, nome, preco, descricao, quantidade_estoque, fornecedor_id";
+    private static final String INSERIR = "INSERT INTO produto (" + COLUNAS + ") VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERIR_SE_AUSENTE = "INSERT INTO produto (" + COLUNAS + ") SELECT ?, ?, ?, ?, ?, ?"
+            + " WHERE NOT EXISTS (SELECT 1 FROM produto WHERE id = ?)";
+    // A linha ainda tem exatamente os valores de `parametrosCondicao`
+    private static final String INALTERADA = "id = ? AND nome = ? AND preco = ? AND COALESCE(descricao, '') = ?"
+            + " AND quantidade_estoque = ? AND fornecedor_id = ?";
+    private static final String REVERTER = "UPDATE produto SET nome = ?, preco = ?, descricao = ?, quantidade_estoque = ?,"
+            + " fornecedor_id = ? WHERE " + INALTERADA;
+    private static final RowMapper<Linha> LINHA = (resultado, numero) -> new Linha(
+            resultado.getLong("id"),
+            resultado.getString("nome"),
+            resultado.getBigDecimal("preco"),
+            resultado.getString("descricao"),
+            resultado.getInt("quantidade_estoque"),
+            resultado.getLong("fornecedor_id"));
+
+    private final ClusterShards shards;
+    private final MapaShards mapa;
+    private final JdbcTemplate primario;
+    private final FornecedorRepository fornecedorRepository;
+    private final Cache<Long, String> shardPorProduto = Caffeine.newBuilder().maximumSize(100_000).build();
+    private long proximoId;
+    private long fimBloco = -1;
+
+    public ProdutoShardRepository(ClusterShards shards, MapaShards mapa, JdbcTemplate primario,
+                                  FornecedorRepository fornecedorRepository) {
+        this.shards = shards;
+        this.mapa = mapa;
+        this.primario = primario;
+        this.fornecedorRepository = fornecedorRepository;
+    }
+
+    /**
+     * 📌 Garante que a sequence comece depois do maior ID já gravado em qualquer shard
+     *    (shards que já tinham produtos, como o próprio banco principal).
+     */
+    @PostConstruct
+    void sincronizarSequencia() {
+        long maior = shards.espalhar(jdbc -> jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM produto", Long.class))
+                .values().stream().mapToLong(Long::longValue).max().orElse(0);
+        primario.queryForObject("SELECT setval('produto_shard_seq', GREATEST(?, (SELECT last_value FROM produto_shard_seq)))",
+                Long.class, maior + 1);
+    }
+
+    public Produto inserir(Produto produto) {
+        String shard = mapa.shardParaEscrita(produto.getFornecedor().getId());
+        produto.setId(reservarId());
+        shards.jdbc(shard).update(INSERIR, parametros(produto));
+        shardPorProduto.put(produto.getId(), shard);
+        return produto;
+    }
+
+    /**
+     * 📌 Insere vários produtos com um `batchUpdate` por shard.
+     */
+    public List<Produto> inserirTodos(List<Produto> produtos) {
+        Map<String, List<Object[]>> porShard = new LinkedHashMap<>();
+        for (Produto produto : produtos) {
+            String shard = mapa.shardParaEscrita(produto.getFornecedor().getId());
+            produto.setId(reservarId());
+            porShard.computeIfAbsent(shard, s -> new ArrayList<>()).add(parametros(produto));
+            shardPorProduto.put(produto.getId(), shard);
+        }
+        porShard.forEach((shard, linhas) -> shards.jdbc(shard).batchUpdate(INSERIR, linhas));
+        return produtos;
+    }
+
+    public Optional<Produto> buscarPorId(Long id) {
+        return localizar(id).map(this::paraProduto);
+    }
+
+    public List<Produto> buscarPelosIds(Collection<Long> ids) {
+        return paraProdutos(buscarLinhas(ids));
+    }
+
+    public List<Produto> listarTodos() {
+        Map<String, List<Linha>> porShard = shards.espalhar(jdbc ->
+                jdbc.query("SELECT " + COLUNAS + " FROM produto ORDER BY id", LINHA));
+        return paraProdutos(ClusterShards.intercalar(doDono(porShard).values(), Comparator.comparingLong(Linha::id)));
+    }
+
+    public long contar() {
+        return contarPorShard().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 📌 Produtos por shard, contando em cada um só os fornecedores que ele serve para leitura.
+     */
+    public Map<String, Long> contarPorShard() {
+        Map<String, List<long[]>> porShard = shards.espalhar(jdbc -> jdbc.query(
+                "SELECT fornecedor_id, count(*) FROM produto GROUP BY fornecedor_id",
+                (resultado, numero) -> new long[]{resultado.getLong(1), resultado.getLong(2)}));
+        Map<String, Long> totais = new LinkedHashMap<>();
+        porShard.forEach((shard, grupos) -> totais.put(shard, grupos.stream()
+                .filter(grupo -> mapa.shardParaLeitura(grupo[0]).equals(shard))
+                .mapToLong(grupo -> grupo[1])
+                .sum()));
+        return totais;
+    }
+
+    public boolean existeDoFornecedor(Long fornecedorId) {
+        return Boolean.TRUE.equals(shards.jdbc(mapa.shardParaLeitura(fornecedorId)).queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM produto WHERE fornecedor_id = ?)", Boolean.class, fornecedorId));
+    }
+
+    /**
+     * 📌 Grava o produto alterado; se o novo fornecedor está em outro shard, a linha muda de banco (insere lá, apaga aqui).
+     *
+     * @param fornecedorAnterior fornecedor antes da alteração (define onde a linha está hoje)
+     */
+    public void atualizar(Produto produto, Long fornecedorAnterior) {
+        String origem = mapa.shardParaEscrita(fornecedorAnterior);
+        String destino = mapa.shardParaEscrita(produto.getFornecedor().getId());
+        if (origem.equals(destino)) {
+            shards.jdbc(destino).update("""
+                            UPDATE produto SET nome = ?, preco = ?, descricao = ?, quantidade_estoque = ?, fornecedor_id = ?
+                            WHERE id = ?""",
+                    produto.getNome(), produto.getPreco(), produto.getDescricao(), produto.getQuantidadeEstoque(),
+                    produto.getFornecedor().getId(), produto.getId());
+        } else {
+            shards.jdbc(destino).update(INSERIR, parametros(produto));
+            shards.jdbc(origem).update("DELETE FROM produto WHERE id = ?", produto.getId());
+        }
+        shardPorProduto.put(produto.getId(), destino);
+    }
+
+    /**
+     * 📌 Exclui os IDs informados em todos os shards; devolve os produtos que existiam (para feed e desfazer).
+     * 🔹 Antes de apagar, confere se nenhum dos fornecedores envolvidos está mudando de shard.
+     */
+    public List<Produto> deletar(Collection<Long> ids) {
+        List<Linha> existentes = buscarLinhas(ids);
+        Map<String, List<Long>> porShard = new LinkedHashMap<>();
+        for (Linha linha : existentes) {
+            porShard.computeIfAbsent(mapa.shardParaEscrita(linha.fornecedorId()), s -> new ArrayList<>()).add(linha.id());
+        }
+        porShard.forEach((shard, idsDoShard) -> {
+            for (List<Long> lote : lotes(idsDoShard)) {
+                shards.jdbc(shard).update("DELETE FROM produto WHERE id IN (" + marcadores(lote.size()) + ")", lote.toArray());
+            }
+        });
+        existentes.forEach(linha -> shardPorProduto.invalidate(linha.id()));
+        return paraProdutos(existentes);
+    }
+
+    /**
+     * 📌 Apaga produtos inseridos por uma transação que não chegou ao commit, se ainda estão como ela gravou.
+     */
+    public void apagarSeInalterados(List<Produto> produtos) {
+        List<Object[]> condicoes = produtos.stream().map(ProdutoShardRepository::parametrosCondicao).toList();
+        shards.espalhar(jdbc -> jdbc.batchUpdate("DELETE FROM produto WHERE " + INALTERADA, condicoes));
+        shardPorProduto.invalidateAll(produtos.stream().map(Produto::getId).toList());
+    }
+
+    /**
+     * 📌 Desfaz uma alteração que não chegou ao commit, se a linha ainda está como ela gravou.
+     *
+     * @param gravado  produto como a alteração gravou
+     * @param anterior produto como estava antes da alteração
+     * @return se a linha foi revertida (`false`: outra escrita já mudou ou apagou o produto)
+     */
+    public boolean reverter(Produto gravado, Produto anterior) {
+        String origem = mapa.shardParaLeitura(anterior.getFornecedor().getId());
+        String destino = mapa.shardParaLeitura(gravado.getFornecedor().getId());
+        shardPorProduto.invalidate(gravado.getId());
+        if (origem.equals(destino)) {
+            Object[] parametros = concatenar(new Object[]{anterior.getNome(), anterior.getPreco(), anterior.getDescricao(),
+                    anterior.getQuantidadeEstoque(), anterior.getFornecedor().getId()}, parametrosCondicao(gravado));
+            return somar(shards.espalhar(jdbc -> jdbc.update(REVERTER, parametros))) > 0;
+        }
+        Object[] condicao = parametrosCondicao(gravado);
+        if (somar(shards.espalhar(jdbc -> jdbc.update("DELETE FROM produto WHERE " + INALTERADA, condicao))) == 0) {
+            return false;
+        }
+        restaurarAusentes(List.of(anterior));
+        return true;
+    }
+
+    /**
+     * 📌 Regrava produtos apagados por uma transação que não chegou ao commit, só os que continuam ausentes
+     *    (IDs nunca são reaproveitados: se a linha existe, veio de uma escrita posterior).
+     */
+    public void restaurarAusentes(List<Produto> produtos) {
+        Map<String, List<Object[]>> porShard = new LinkedHashMap<>();
+        for (Produto produto : produtos) {
+            porShard.computeIfAbsent(mapa.shardParaLeitura(produto.getFornecedor().getId()), s -> new ArrayList<>())
+                    .add(concatenar(parametros(produto), new Object[]{produto.getId()}));
+        }
+        porShard.forEach((shard, linhas) -> shards.jdbc(shard).batchUpdate(INSERIR_SE_AUSENTE, linhas));
+        shardPorProduto.invalidateAll(produtos.stream().map(Produto::getId).toList());
+    }
+
+    /**
+     * 📌 Copia os produtos de um fornecedor para outro shard, em lotes pela chave primária (rebalanceamento).
+     * @return quantos produtos foram copiados
+     */
+    public int copiarFornecedor(Long fornecedorId, String origem, String destino, int tamanhoLote) {
+        int copiados = 0;
+        long ultimoId = 0;
+        while (true) {
+            List<Linha> lote = shards.jdbc(origem).query(
+                    "SELECT " + COLUNAS + " FROM produto WHERE fornecedor_id = ? AND id > ? ORDER BY id LIMIT ?",
+                    LINHA, fornecedorId, ultimoId, tamanhoLote);
+            if (lote.isEmpty()) {
+                return copiados;
+            }
+            shards.jdbc(destino).batchUpdate(INSERIR, lote.stream().map(Linha::parametros).toList());
+            copiados += lote.size();
+            ultimoId = lote.get(lote.size() - 1).id();
+        }
+    }
+
+    public int removerFornecedor(Long fornecedorId, String shard) {
+        int removidos = shards.jdbc(shard).update("DELETE FROM produto WHERE fornecedor_id = ?", fornecedorId);
+        shardPorProduto.invalidateAll();
+        return removidos;
+    }
+
+    private Optional<Linha> localizar(Long id) {
+        String conhecido = shardPorProduto.getIfPresent(id);
+        if (conhecido != null) {
+            List<Linha> linhas = doDono(conhecido, shards.jdbc(conhecido).query(
+                    "SELECT " + COLUNAS + " FROM produto WHERE id = ?", LINHA, id));
+            if (!linhas.isEmpty()) {
+                return Optional.of(linhas.get(0));
+            }
+            shardPorProduto.invalidate(id);
+        }
+        Map<String, List<Linha>> porShard = doDono(shards.espalhar(jdbc ->
+                jdbc.query("SELECT " + COLUNAS + " FROM produto WHERE id = ?", LINHA, id)));
+        for (Map.Entry<String, List<Linha>> encontrado : porShard.entrySet()) {
+            if (!encontrado.getValue().isEmpty()) {
+                shardPorProduto.put(id, encontrado.getKey());
+                return Optional.of(encontrado.getValue().get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<Linha> buscarLinhas(Collection<Long> ids) {
+        List<Long> distintos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distintos.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<Linha>> porShard = doDono(shards.espalhar(jdbc -> {
+            List<Linha> linhas = new ArrayList<>();
+            for (List<Long> lote : lotes(distintos)) {
+                linhas.addAll(jdbc.query("SELECT " + COLUNAS + " FROM produto WHERE id IN (" + marcadores(lote.size()) + ") ORDER BY id",
+                        LINHA, lote.toArray()));
+            }
+            linhas.sort(Comparator.comparingLong(Linha::id));
+            return linhas;
+        }));
+        porShard.forEach((shard, linhas) -> linhas.forEach(linha -> shardPorProduto.put(linha.id(), shard)));
+        return ClusterShards.intercalar(porShard.values(), Comparator.comparingLong(Linha::id));
+    }
+
+    // Só as linhas que o shard serve para leitura; a cópia de um rebalanceamento em andamento fica de fora
+    private Map<String, List<Linha>> doDono(Map<String, List<Linha>> porShard) {
+        Map<String, List<Linha>> filtrado = new LinkedHashMap<>();
+        porShard.forEach((shard, linhas) -> filtrado.put(shard, doDono(shard, linhas)));
+        return filtrado;
+    }
+
+    private List<Linha> doDono(String shard, List<Linha> linhas) {
+        return linhas.stream().filter(linha -> mapa.shardParaLeitura(linha.fornecedorId()).equals(shard)).toList();
+    }
+
+    private synchronized long reservarId() {
+        if (proximoId > fimBloco) {
+            proximoId = primario.queryForObject("SELECT nextval('produto_shard_seq')", Long.class);
+            fimBloco = proximoId + TAMANHO_BLOCO_IDS - 1;
+        }
+        return proximoId++;
+    }
+
+    // Na thread de quem chamou: a referência do fornecedor precisa do EntityManager da transação atual
+    private List<Produto> paraProdutos(List<Linha> linhas) {
+        return linhas.stream().map(this::paraProduto).toList();
+    }
+
+    private Produto paraProduto(Linha linha) {
+        return Produto.builder()
+                .id(linha.id())
+                .nome(linha.nome())
+                .preco(linha.preco())
+                .descricao(linha.descricao())
+                .quantidadeEstoque(linha.quantidadeEstoque())
+                .fornecedor(fornecedorRepository.getReferenceById(linha.fornecedorId()))
+                .build();
+    }
+
+    private static Object[] parametros(Produto produto) {
+        return new Object[]{produto.getId(), produto.getNome(), produto.getPreco(), produto.getDescricao(),
+                produto.getQuantidadeEstoque(), produto.getFornecedor().getId()};
+    }
+
+    private static Object[] parametrosCondicao(Produto produto) {
+        return new Object[]{produto.getId(), produto.getNome(), produto.getPreco(), Objects.toString(produto.getDescricao(), ""),
+                produto.getQuantidadeEstoque(), produto.getFornecedor().getId()};
+    }
+
+    private static Object[] concatenar(Object[] primeiros, Object[] ultimos) {
+        Object[] todos = Arrays.copyOf(primeiros, primeiros.length + ultimos.length);
+        System.arraycopy(ultimos, 0, todos, primeiros.length, ultimos.length);
+        return todos;
+    }
+
+    private static int somar(Map<String, Integer> porShard) {
+        return porShard.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static List<List<Long>> lotes(List<Long> ids) {
+        List<List<Long>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IN) {
+            lotes.add(ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IN, ids.size())));
+        }
+        return lotes;
+    }
+
+    private static String marcadores(int quantidade) {
+        return String.join(",", Collections.nCopies(quantidade, "?"));
+    }
+
+    private record Linha(long id, String nome, BigDecimal preco, String descricao, int quantidadeEstoque, long fornecedorId) {
+        Object[] parametros() {
+            return new Object[]{id, nome, preco, descricao, quantidadeEstoque, fornecedorId};
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.model.ProdutoVisao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProdutoVisaoRepository extends JpaRepository<ProdutoVisao, Long> {
+
+    /**
+     * 📌 Linhas da visão em ordem de ID (a mesma ordem da listagem completa).
+     */
+    @Query("select v from ProdutoVisao v order by v.id")
+    List<ProdutoVisao> listarTodos();
+
+    /**
+     * 📌 Vários produtos num único `SELECT ... WHERE id IN (...)` na visão.
+     */
+    @Query("select v from ProdutoVisao v where v.id in :ids")
+    List<ProdutoVisao> buscarPelosIds(Collection<Long> ids);
+
+    /**
+     * 📌 Só o JSON já renderizado de um produto (busca pela PK, sem carregar as demais colunas).
+     */
+    @Query("select v.documento from ProdutoVisao v where v.id = :id")
+    Optional<String> buscarDocumento(Long id);
+
+    @Query("select v.documento from ProdutoVisao v order by v.id")
+    List<String> listarDocumentos();
+
+    /**
+     * 📌 Trava os fornecedores informados (`FOR SHARE`, em ordem de ID) antes de regravar produtos deles na visão.
+     * 🔹 Espera uma alteração de fornecedor em andamento (`travarParaAlteracao`): o `atualizarProdutos` seguinte
+     *    já lê o fornecedor confirmado, em vez de regravar a linha com os dados antigos dele.
+     */
+    @Query(value = "select id from fornecedor where id in :fornecedorIds order by id for share", nativeQuery = true)
+    List<Long> travarFornecedores(Collection<Long> fornecedorIds);
+
+    /**
+     * 📌 Trava o fornecedor para alteração (`FOR NO KEY UPDATE`) antes de `atualizarDoFornecedor`.
+     * 🔹 Regravações de produtos dele em andamento terminam antes, e as novas esperam este commit.
+     * 🔹 Não conflita com o `FOR KEY SHARE` da FK de produtos novos; só com `travarFornecedores`.
+     */
+    @Query(value = "select id from fornecedor where id = :fornecedorId for no key update", nativeQuery = true)
+    Optional<Long> travarParaAlteracao(Long fornecedorId);
+
+    /**
+     * 📌 Regrava as linhas dos produtos informados a partir das tabelas normalizadas (`INSERT ... ON CONFLICT`).
+     * 🔹 O flush antes garante que o INSERT/UPDATE pendente do produto já esteja visível para o SELECT.
+     * ⚠️ Chame depois de `travarFornecedores`: sem a trava, uma alteração de fornecedor concorrente e esta regravação
+     *    podem sobrescrever uma à outra com o lado alheio ainda antigo.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into produto_view
+            select * from produto_view_origem o where o.id in :ids
+            on conflict (id) do update set
+                nome = excluded.nome,
+                preco = excluded.preco,
+                descricao = excluded.descricao,
+                quantidade_estoque = excluded.quantidade_estoque,
+                fornecedor_id = excluded.fornecedor_id,
+                fornecedor_nome = excluded.fornecedor_nome,
+                fornecedor_cnpj = excluded.fornecedor_cnpj,
+                fornecedor_tipo = excluded.fornecedor_tipo,
+                endereco_logradouro = excluded.endereco_logradouro,
+                endereco_numero = excluded.endereco_numero,
+                endereco_complemento = excluded.endereco_complemento,
+                endereco_bairro = excluded.endereco_bairro,
+                endereco_cidade = excluded.endereco_cidade,
+                endereco_estado = excluded.endereco_estado,
+                endereco_pais = excluded.endereco_pais,
+                endereco_cep = excluded.endereco_cep,
+                documento = excluded.documento
+            """, nativeQuery = true)
+    int atualizarProdutos(Collection<Long> ids);
+
+    /**
+     * 📌 Propaga a alteração de um fornecedor (nome, tipo, endereço) para todos os produtos dele num único UPDATE.
+     * ⚠️ Chame depois de `travarParaAlteracao` (mesmo motivo de `atualizarProdutos`).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            update produto_view v set
+                fornecedor_nome = o.fornecedor_nome,
+                fornecedor_cnpj = o.fornecedor_cnpj,
+                fornecedor_tipo = o.fornecedor_tipo,
+                endereco_logradouro = o.endereco_logradouro,
+                endereco_numero = o.endereco_numero,
+                endereco_complemento = o.endereco_complemento,
+                endereco_bairro = o.endereco_bairro,
+                endereco_cidade = o.endereco_cidade,
+                endereco_estado = o.endereco_estado,
+                endereco_pais = o.endereco_pais,
+                endereco_cep = o.endereco_cep,
+                documento = o.documento
+            from produto_view_origem o
+            where v.fornecedor_id = :fornecedorId and o.fornecedor_id = :fornecedorId and o.id = v.id
+            """, nativeQuery = true)
+    int atualizarDoFornecedor(Long fornecedorId);
+}
@@ -0,0 +1,259 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.dto.AlteracaoDTO;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import br.com.gerenciador.api.model.AlteracaoCatalogo;
+import br.com.gerenciador.api.model.SequenciaAlteracao;
+import br.com.gerenciador.api.repository.AlteracaoCatalogoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 📌 Feed incremental de alterações do catálogo (produtos, clientes e fornecedores).
+ *
+ * ✅ Os serviços de escrita chamam `registrarCriacao/Alteracao/Remocao` dentro da própria transação.
+ * ✅ No fim da transação (antes do commit), a linha do contador `sequencia_alteracao` é travada
+ *    (UPDATE) e cada registro alterado recebe a próxima sequência. Como o lock dura até o commit,
+ *    a ordem das sequências é a ordem dos commits: quem lê `sequencia > token` nunca pula uma transação atrasada.
+ * ✅ O lock fica só no trecho final da transação, então as escritas concorrentes praticamente não esperam.
+ * ✅ A leitura devolve o estado atual de cada registro (ou a lápide, se excluído) e o token da próxima página.
+ * ✅ Depois do commit, `sequenciaDaTransacao` informa a sequência que cada registro recebeu (versão na ordem dos commits).
+ */
+@Service
+@RequiredArgsConstructor
+public class AlteracaoCatalogoService {
+
+    // Antes do contador do outbox no commit: as duas linhas são sempre travadas na mesma ordem (sem deadlock)
+    static final int ORDEM_CONTADOR = Ordered.LOWEST_PRECEDENCE - 1;
+
+    static final int LIMITE_PADRAO = 500;
+    static final int LIMITE_MAXIMO = 1_000;
+
+    private final AlteracaoCatalogoRepository alteracaoCatalogoRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Object sequenciasAtribuidas = new Object();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 📌 Cria a linha do contador na primeira subida do banco (outra instância pode ter criado ao mesmo tempo).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Bulkhead(CargaTrabalhoEnum.MANUTENCAO)
+    public void inicializarSequencia() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (entityManager.find(SequenciaAlteracao.class, SequenciaAlteracao.CATALOGO) == null) {
+                    entityManager.persist(new SequenciaAlteracao(SequenciaAlteracao.CATALOGO, 0L));
+                }
+            });
+        } catch (DataIntegrityViolationException jaCriada) {
+            // Criada por outra instância
+        }
+    }
+
+    public void registrarCriacao(RecursoCatalogoEnum recurso, Long id) {
+        registrar(recurso, id, TipoAlteracao.CRIADO);
+    }
+
+    public void registrarAlteracao(RecursoCatalogoEnum recurso, Long id) {
+        registrar(recurso, id, TipoAlteracao.ALTERADO);
+    }
+
+    public void registrarRemocao(RecursoCatalogoEnum recurso, Long id) {
+        registrar(recurso, id, TipoAlteracao.REMOVIDO);
+    }
+
+    /**
+     * 📌 Monta uma página do feed; deve rodar numa transação somente leitura do serviço do recurso.
+     *
+     * @param since  token recebido na página anterior (`null` = desde o início)
+     * @param limite máximo de alterações na página (padrão 500, máximo 1000)
+     * @param carga  busca os registros atuais pelos IDs (uma consulta `IN`)
+     */
+    public <E, D> AlteracoesResponseDTO<D> listar(RecursoCatalogoEnum recurso, String since, Integer limite,
+                                                 Function<List<Long>, List<E>> carga,
+                                                 Function<E, Long> idDaEntidade,
+                                                 Function<E, D> mapper) {
+        long desde = lerToken(since);
+        int tamanho = limite == null ? LIMITE_PADRAO : limite;
+        if (tamanho < 1 || tamanho > LIMITE_MAXIMO) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+
+        List<AlteracaoCatalogo> pagina = alteracaoCatalogoRepository
+                .findByRecursoAndSequenciaGreaterThanOrderBySequencia(recurso, desde, Limit.of(tamanho + 1));
+        boolean temMais = pagina.size() > tamanho;
+        if (temMais) {
+            pagina = pagina.subList(0, tamanho);
+        }
+
+        List<Long> existentes = pagina.stream().filter(a -> !a.isRemovido()).map(AlteracaoCatalogo::getRegistroId).toList();
+        Map<Long, E> atuais = new HashMap<>();
+        if (!existentes.isEmpty()) {
+            for (E entidade : carga.apply(existentes)) {
+                atuais.put(idDaEntidade.apply(entidade), entidade);
+            }
+        }
+
+        List<AlteracaoDTO<D>> alteracoes = new ArrayList<>(pagina.size());
+        for (AlteracaoCatalogo alteracao : pagina) {
+            // Excluído depois que a página foi lida: vira lápide agora (a remoção também aparecerá adiante)
+            E atual = atuais.get(alteracao.getRegistroId());
+            alteracoes.add(atual == null
+                    ? new AlteracaoDTO<>(alteracao.getRegistroId(), true, null)
+                    : new AlteracaoDTO<>(alteracao.getRegistroId(), false, mapper.apply(atual)));
+        }
+
+        long proximo = pagina.isEmpty() ? desde : pagina.get(pagina.size() - 1).getSequencia();
+        return new AlteracoesResponseDTO<>(alteracoes, Long.toString(proximo), temMais);
+    }
+
+    /**
+     * 📌 Última sequência já commitada: usada como token de quem copia o catálogo inteiro e depois segue pelo feed.
+     * 🔹 Deve rodar na mesma transação da cópia; o que for commitado no meio aparece de novo no feed (reaplicar é inofensivo).
+     */
+    public long sequenciaAtual() {
+        return entityManager.createQuery("select s.valor from SequenciaAlteracao s where s.nome = :nome", Long.class)
+                .setParameter("nome", SequenciaAlteracao.CATALOGO)
+                .getResultStream()
+                .findFirst()
+                .orElse(0L);
+    }
+
+    /**
+     * 📌 Sequência que o registro recebeu no commit da transação atual; só existe a partir do `beforeCommit`
+     *    (em `afterCommit`, por exemplo) e é `null` se ele não foi registrado nela.
+     */
+    @SuppressWarnings("unchecked")
+    public Long sequenciaDaTransacao(RecursoCatalogoEnum recurso, Long id) {
+        Map<AlteracaoCatalogo.Chave, Long> atribuidas =
+                (Map<AlteracaoCatalogo.Chave, Long>) TransactionSynchronizationManager.getResource(sequenciasAtribuidas);
+        return atribuidas == null ? null : atribuidas.get(new AlteracaoCatalogo.Chave(recurso, id));
+    }
+
+    private static long lerToken(String since) {
+        if (since == null || since.isBlank()) {
+            return 0;
+        }
+        try {
+            long valor = Long.parseLong(since.trim());
+            if (valor >= 0) {
+                return valor;
+            }
+        } catch (NumberFormatException e) {
+            // cai no erro abaixo
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Token inválido: " + since);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registrar(RecursoCatalogoEnum recurso, Long id, TipoAlteracao tipo) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Alterações do catálogo só podem ser registradas dentro de uma transação");
+        }
+        Map<AlteracaoCatalogo.Chave, TipoAlteracao> pendentes =
+                (Map<AlteracaoCatalogo.Chave, TipoAlteracao>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            Map<AlteracaoCatalogo.Chave, TipoAlteracao> novas = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, novas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return ORDEM_CONTADOR;
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    gravar(novas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AlteracaoCatalogoService.this);
+                    TransactionSynchronizationManager.unbindResourceIfPossible(sequenciasAtribuidas);
+                }
+            });
+            pendentes = novas;
+        }
+        pendentes.merge(new AlteracaoCatalogo.Chave(recurso, id), tipo, TipoAlteracao::combinar);
+    }
+
+    private void gravar(Map<AlteracaoCatalogo.Chave, TipoAlteracao> pendentes) {
+        // Escritas pendentes vão antes: com a trava do contador na mão, o resto da transação é só o feed
+        // (o flush do commit pegaria as travas das linhas de negócio segurando o contador, e esperaria por elas)
+        entityManager.flush();
+        long valor = reservarSequencias(pendentes.size()) - pendentes.size();
+        LocalDateTime agora = LocalDateTime.now();
+        Map<AlteracaoCatalogo.Chave, Long> atribuidas = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(sequenciasAtribuidas, atribuidas);
+        for (Map.Entry<AlteracaoCatalogo.Chave, TipoAlteracao> pendente : pendentes.entrySet()) {
+            AlteracaoCatalogo.Chave chave = pendente.getKey();
+            atribuidas.put(chave, valor + 1);
+            boolean removido = pendente.getValue() == TipoAlteracao.REMOVIDO;
+            // Registro recém-criado ainda não tem linha no feed: dispensa a busca
+            AlteracaoCatalogo alteracao = pendente.getValue() == TipoAlteracao.CRIADO
+                    ? null
+                    : entityManager.find(AlteracaoCatalogo.class, chave);
+            if (alteracao == null) {
+                entityManager.persist(new AlteracaoCatalogo(chave.getRecurso(), chave.getRegistroId(), ++valor, removido, agora));
+            } else {
+                alteracao.setSequencia(++valor);
+                alteracao.setRemovido(removido);
+                alteracao.setAlteradoEm(agora);
+            }
+        }
+    }
+
+    /**
+     * 📌 Reserva `quantidade` sequências: o UPDATE trava a linha do contador até o commit.
+     * 🔹 Leitura escalar logo depois, para não depender do estado da entidade já carregada na sessão.
+     * @return a última sequência reservada
+     */
+    private long reservarSequencias(int quantidade) {
+        int atualizadas = entityManager.createQuery(
+                        "update SequenciaAlteracao s set s.valor = s.valor + :quantidade where s.nome = :nome")
+                .setParameter("quantidade", (long) quantidade)
+                .setParameter("nome", SequenciaAlteracao.CATALOGO)
+                .executeUpdate();
+        if (atualizadas == 0) {
+            throw new IllegalStateException("Contador do feed de alterações não inicializado");
+        }
+        return entityManager.createQuery("select s.valor from SequenciaAlteracao s where s.nome = :nome", Long.class)
+                .setParameter("nome", SequenciaAlteracao.CATALOGO)
+                .getSingleResult();
+    }
+
+    private enum TipoAlteracao {
+        CRIADO, ALTERADO, REMOVIDO;
+
+        // Criado e alterado na mesma transação continua "criado"; qualquer remoção prevalece
+        static TipoAlteracao combinar(TipoAlteracao anterior, TipoAlteracao nova) {
+            if (nova == REMOVIDO || anterior == REMOVIDO) {
+                return REMOVIDO;
+            }
+            return anterior == CRIADO ? CRIADO : nova;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.AquecimentoProperties;
+import br.com.gerenciador.api.dto.EnderecoDTO;
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoRequestDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.enums.TipoFornecedorEnum;
+import br.com.gerenciador.api.mapper.FornecedorMapper;
+import br.com.gerenciador.api.mapper.ProdutoMapper;
+import br.com.gerenciador.api.model.Endereco;
+import br.com.gerenciador.api.model.Fornecedor;
+import br.com.gerenciador.api.model.Produto;
+import br.com.gerenciador.api.model.ProdutoVisao;
+import br.com.gerenciador.api.repository.FornecedorRepository;
+import br.com.gerenciador.api.repository.ProdutoRepository;
+import br.com.gerenciador.api.repository.ProdutoVisaoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 📌 Aquecimento do JIT na subida (`app.aquecimento.*`): roda os caminhos quentes das leituras com dados em memória
+ * antes de a aplicação se declarar pronta.
+ *
+ * 🚀 **Fluxo:**
+ * 1️⃣ Roda no `ApplicationStartedEvent`, na thread da subida: o Spring Boot só publica `ACCEPTING_TRAFFIC`
+ *    (e `/actuator/health/readiness` só fica `UP`) depois que ele termina.
+ * 2️⃣ Cada iteração valida um JWT, converte entidades com os mappers do MapStruct e serializa/desserializa
+ *    os DTOs com o `ObjectMapper` da aplicação; a cada lote, as consultas JPQL dos repositórios são recompiladas
+ *    pelo Hibernate (só o plano, sem ir ao banco).
+ * 3️⃣ Para quando o JIT fica `lotesEstaveis` lotes seguidos compilando menos que `compilacaoEstavel`,
+ *    respeitando `iteracoesMinimas`, `iteracoesMaximas` e `tempoMaximo`.
+ *
+ * 📊 Métricas: `aquecimento.iteracoes`, `aquecimento.duracao` e `aquecimento.compilacao` (tempo do JIT no período).
+ */
+@Service
+public class AquecimentoService {
+
+    private static final List<Class<?>> REPOSITORIOS_LEITURA =
+            List.of(ProdutoVisaoRepository.class, ProdutoRepository.class, FornecedorRepository.class);
+
+    private final AquecimentoProperties properties;
+    private final JwtService jwtService;
+    private final ProdutoMapper produtoMapper;
+    private final FornecedorMapper fornecedorMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RegistroAssincronoService registro;
+    private final AtomicLong iteracoes = new AtomicLong();
+    private final AtomicLong duracaoNanos = new AtomicLong();
+    private final AtomicLong compilacaoMillis = new AtomicLong();
+    private volatile int sumidouro; // impede o JIT de descartar o trabalho das iterações
+
+    public AquecimentoService(AquecimentoProperties properties,
+                              JwtService jwtService,
+                              ProdutoMapper produtoMapper,
+                              FornecedorMapper fornecedorMapper,
+                              ObjectMapper objectMapper,
+                              EntityManagerFactory entityManagerFactory,
+                              RegistroAssincronoService registro,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jwtService = jwtService;
+        this.produtoMapper = produtoMapper;
+        this.fornecedorMapper = fornecedorMapper;
+        this.objectMapper = objectMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.registro = registro;
+        Gauge.builder("aquecimento.iteracoes", iteracoes, AtomicLong::get).register(meterRegistry);
+        TimeGauge.builder("aquecimento.duracao", duracaoNanos, TimeUnit.NANOSECONDS, AtomicLong::get).register(meterRegistry);
+        TimeGauge.builder("aquecimento.compilacao", compilacaoMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 📌 Aquece antes da prontidão; uma falha só encerra o aquecimento, nunca impede a aplicação de subir.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void aquecer() {
+        if (!properties.habilitado()) {
+            return;
+        }
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean medeCompilacao = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long inicio = System.nanoTime();
+        long limite = inicio + properties.tempoMaximo().toNanos();
+        long compilacaoInicial = medeCompilacao ? jit.getTotalCompilationTime() : 0;
+        long compilacaoAnterior = compilacaoInicial;
+        int lotesEstaveis = 0;
+        long feitas = 0;
+        try {
+            Fixtures fixtures = criarFixtures();
+            List<String> consultas = consultasDosRepositorios();
+            while (feitas < properties.iteracoesMaximas() && System.nanoTime() < limite) {
+                int soma = prepararConsultas(consultas);
+                for (int i = 0; i < properties.tamanhoLote(); i++) {
+                    soma += iteracao(fixtures);
+                }
+                sumidouro += soma;
+                feitas += properties.tamanhoLote();
+                iteracoes.set(feitas);
+
+                if (medeCompilacao) {
+                    long compilacao = jit.getTotalCompilationTime();
+                    lotesEstaveis = compilacao - compilacaoAnterior <= properties.compilacaoEstavel().toMillis()
+                            ? lotesEstaveis + 1 : 0;
+                    compilacaoAnterior = compilacao;
+                }
+                if (feitas >= properties.iteracoesMinimas()
+                        && (!medeCompilacao || lotesEstaveis >= properties.lotesEstaveis())) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (registro.deveRegistrar("manutencao")) {
+                registro.registrar("manutencao", "Aquecimento interrompido", Map.of("erro", String.valueOf(e)));
+            }
+        } finally {
+            duracaoNanos.set(System.nanoTime() - inicio);
+            compilacaoMillis.set(compilacaoAnterior - compilacaoInicial);
+        }
+
+        if (registro.deveRegistrar("manutencao")) {
+            registro.registrar("manutencao", "Aquecimento concluído", Map.of(
+                    "iteracoes", feitas,
+                    "duracaoMs", TimeUnit.NANOSECONDS.toMillis(duracaoNanos.get()),
+                    "compilacaoMs", compilacaoMillis.get(),
+                    "jitEstavel", lotesEstaveis >= properties.lotesEstaveis()));
+        }
+    }
+
+    /**
+     * 📌 Uma requisição sintética: o que o filtro JWT, os mappers e o Jackson fazem numa leitura e numa escrita.
+     */
+    private int iteracao(Fixtures fixtures) throws IOException {
+        int soma = jwtService.extractUsername(fixtures.token()).length();
+        soma += jwtService.isTokenValid(fixtures.token(), fixtures.usuario()) ? 1 : 0;
+
+        ProdutoResponseDTO dto = produtoMapper.toDTO(fixtures.produto());
+        soma += produtoMapper.toDTO(fixtures.visao()).hashCode();
+        soma += produtoMapper.toNormalizadoDTO(fixtures.produto()).hashCode();
+        soma += produtoMapper.toNormalizadoDTO(fixtures.visao()).hashCode();
+        soma += fornecedorMapper.toDTO(fixtures.produto().getFornecedor()).hashCode();
+        soma += Objects.hashCode(produtoMapper.toEntity(fixtures.requisicao()).getNome());
+
+        soma += objectMapper.writeValueAsBytes(dto).length;
+        soma += objectMapper.writeValueAsBytes(fixtures.lista()).length;
+        soma += objectMapper.readValue(fixtures.requisicaoJson(), ProdutoRequestDTO.class).hashCode();
+        soma += objectMapper.readValue(fixtures.respostaJson(), ProdutoResponseDTO.class).hashCode();
+        return soma;
+    }
+
+    /**
+     * 📌 `createQuery` passa a JPQL pelo parser e guarda o plano no cache de consultas do Hibernate;
+     * a consulta não é executada, então nenhuma conexão é aberta.
+     */
+    private int prepararConsultas(List<String> consultas) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            int soma = 0;
+            for (String consulta : consultas) {
+                soma += entityManager.createQuery(consulta).hashCode();
+            }
+            return soma;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static List<String> consultasDosRepositorios() {
+        return REPOSITORIOS_LEITURA.stream()
+                .flatMap(repositorio -> Arrays.stream(repositorio.getDeclaredMethods()))
+                .map(metodo -> AnnotatedElementUtils.findMergedAnnotation(metodo, Query.class))
+                .filter(query -> query != null && !query.nativeQuery() && !query.value().isBlank())
+                .map(Query::value)
+                .toList();
+    }
+
+    private Fixtures criarFixtures() throws IOException {
+        Endereco endereco = new Endereco(1L, "Rua das Acácias", "12A", "Sala 3", "Centro", "São Paulo", "SP", "Brasil",
+                "01001-000");
+        Fornecedor fornecedor = new Fornecedor();
+        fornecedor.setId(1L);
+        fornecedor.setNome("Fornecedor de aquecimento");
+        fornecedor.setCnpj("12345678000199");
+        fornecedor.setTipoFornecedor(TipoFornecedorEnum.PREMIUM);
+        fornecedor.setEndereco(endereco);
+        Produto produto = Produto.builder()
+                .id(1L)
+                .nome("Produto de aquecimento")
+                .preco(new BigDecimal("19.90"))
+                .descricao("Usado só para aquecer o JIT")
+                .quantidadeEstoque(10)
+                .fornecedor(fornecedor)
+                .build();
+
+        ProdutoVisao visao = new ProdutoVisao();
+        visao.setId(produto.getId());
+        visao.setNome(produto.getNome());
+        visao.setPreco(produto.getPreco());
+        visao.setDescricao(produto.getDescricao());
+        visao.setQuantidadeEstoque(produto.getQuantidadeEstoque());
+        visao.setFornecedorId(fornecedor.getId());
+        visao.setFornecedorNome(fornecedor.getNome());
+        visao.setFornecedorCnpj(fornecedor.getCnpj());
+        visao.setFornecedorTipo(fornecedor.getTipoFornecedor());
+        visao.setEnderecoLogradouro(endereco.getLogradouro());
+        visao.setEnderecoNumero(endereco.getNumero());
+        visao.setEnderecoComplemento(endereco.getComplemento());
+        visao.setEnderecoBairro(endereco.getBairro());
+        visao.setEnderecoCidade(endereco.getCidade());
+        visao.setEnderecoEstado(endereco.getEstado());
+        visao.setEnderecoPais(endereco.getPais());
+        visao.setEnderecoCep(endereco.getCep());
+
+        EnderecoDTO enderecoDTO = new EnderecoDTO(endereco.getLogradouro(), endereco.getNumero(), endereco.getComplemento(),
+                endereco.getBairro(), endereco.getCidade(), endereco.getEstado(), endereco.getPais(), endereco.getCep());
+        FornecedorResponseDTO fornecedorDTO = new FornecedorResponseDTO(fornecedor.getId(), fornecedor.getNome(),
+                fornecedor.getCnpj(), fornecedor.getTipoFornecedor(), enderecoDTO);
+        List<ProdutoResponseDTO> lista = Stream.iterate(1L, id -> id + 1)
+                .limit(20)
+                .map(id -> new ProdutoResponseDTO(id, produto.getNome() + " " + id, produto.getPreco(),
+                        produto.getDescricao(), produto.getQuantidadeEstoque(), fornecedorDTO))
+                .toList();
+        ProdutoRequestDTO requisicao = new ProdutoRequestDTO(produto.getNome(), produto.getPreco(), produto.getDescricao(),
+                produto.getQuantidadeEstoque(), fornecedor.getId());
+
+        UserDetails usuario = User.withUsername("aquecimento").password("").roles("USER").build();
+        return new Fixtures(usuario, jwtService.generateToken(usuario), produto, visao, requisicao, lista,
+                objectMapper.writeValueAsBytes(requisicao), objectMapper.writeValueAsBytes(lista.get(0)));
+    }
+
+    private record Fixtures(UserDetails usuario,
+                            String token,
+                            Produto produto,
+                            ProdutoVisao visao,
+                            ProdutoRequestDTO requisicao,
+                            List<ProdutoResponseDTO> lista,
+                            byte[] requisicaoJson,
+                            byte[] respostaJson) {}
+}
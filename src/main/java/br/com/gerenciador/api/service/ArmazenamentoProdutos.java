@@ -0,0 +1,62 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import br.com.gerenciador.api.model.Produto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 📌 Onde as linhas de produto ficam gravadas. O `ProdutoServiceImpl` é um só e fala com o banco por aqui.
+ *
+ * ✅ `ArmazenamentoProdutosJpa`: banco principal (JPA), com as leituras no modelo de leitura `produto_view`.
+ * ✅ `ArmazenamentoProdutosShards`: tabela `produto` particionada por fornecedor (`app.shards.habilitado=true`).
+ * 🔹 Tudo roda na transação do serviço; regras, feed de alterações, outbox e notificações ficam no serviço.
+ */
+public interface ArmazenamentoProdutos {
+
+    /**
+     * 📌 Grava um produto novo e preenche o `id`.
+     */
+    Produto inserir(Produto produto);
+
+    List<Produto> inserirTodos(List<Produto> produtos);
+
+    /**
+     * 📌 Produto para alteração (entidade); as mudanças são gravadas em `gravarAlteracao`.
+     */
+    Optional<Produto> buscarParaAlterar(Long id);
+
+    /**
+     * @param anterior cópia do produto como estava antes das mudanças
+     */
+    void gravarAlteracao(Produto produto, Produto anterior);
+
+    /**
+     * 📌 Exclui os IDs informados (já sem repetidos) e devolve os que existiam.
+     */
+    List<Long> deletar(List<Long> ids);
+
+    long contar();
+
+    boolean existeDoFornecedor(Long fornecedorId);
+
+    List<ProdutoResponseDTO> listarTodos();
+
+    String listarTodosJson();
+
+    ProdutosNormalizadosResponseDTO listarTodosNormalizado();
+
+    Optional<ProdutoResponseDTO> buscarPorId(Long id);
+
+    Optional<String> buscarJsonPorId(Long id);
+
+    List<ProdutoResponseDTO> buscarPelosIds(Collection<Long> ids);
+
+    List<Map<String, Object>> listarCampos(String fields);
+
+    Map<String, Object> buscarCampos(Long id, String fields);
+}
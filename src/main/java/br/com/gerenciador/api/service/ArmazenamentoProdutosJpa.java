@@ -0,0 +1,165 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoNormalizadoDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import br.com.gerenciador.api.mapper.ProdutoMapper;
+import br.com.gerenciador.api.model.Produto;
+import br.com.gerenciador.api.model.ProdutoVisao;
+import br.com.gerenciador.api.repository.ProdutoRepository;
+import br.com.gerenciador.api.repository.ProdutoVisaoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 📌 Produtos no banco principal (JPA), com as leituras servidas pelo modelo de leitura `produto_view`.
+ *
+ * ✅ Escritas vão para as tabelas normalizadas e regravam a linha da visão na mesma transação.
+ * ✅ Leituras são uma busca por índice numa tabela só; o JSON pronto (`documento`) evita até o Jackson.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "habilitado", havingValue = "false", matchIfMissing = true)
+public class ArmazenamentoProdutosJpa implements ArmazenamentoProdutos {
+
+    // Quantos IDs vão em cada `DELETE ... WHERE id IN (...)`
+    static final int TAMANHO_LOTE_EXCLUSAO = 500;
+
+    private final ProdutoRepository produtoRepository;
+    private final ProdutoVisaoRepository produtoVisaoRepository;
+    private final ProdutoMapper produtoMapper;
+    private final ProjecaoService projecaoService;
+
+    @Override
+    public Produto inserir(Produto produto) {
+        Produto salvo = produtoRepository.save(produto);
+        regravarVisao(List.of(salvo));
+        return salvo;
+    }
+
+    // INSERTs em lote JDBC (`inserirEmLote`): com `id` IDENTITY o `saveAll` faria um INSERT por produto
+    @Override
+    public List<Produto> inserirTodos(List<Produto> produtos) {
+        List<Produto> salvos = produtoRepository.inserirEmLote(produtos);
+        regravarVisao(salvos);
+        return salvos;
+    }
+
+    @Override
+    public Optional<Produto> buscarParaAlterar(Long id) {
+        return produtoRepository.findById(id);
+    }
+
+    // O dirty checking grava só as colunas alteradas (`@DynamicUpdate`); a linha da visão é regravada em seguida
+    @Override
+    public void gravarAlteracao(Produto produto, Produto anterior) {
+        regravarVisao(List.of(produto));
+    }
+
+    // A linha de `produto_view` sai junto (FK com ON DELETE CASCADE)
+    @Override
+    public List<Long> deletar(List<Long> ids) {
+        if (ids.size() == 1) {
+            return produtoRepository.deletarPeloId(ids.get(0)) == 0 ? List.of() : ids;
+        }
+        List<Long> removidos = new ArrayList<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_EXCLUSAO) {
+            List<Long> existentes = produtoRepository.buscarIdsExistentes(
+                    ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_EXCLUSAO, ids.size())));
+            if (!existentes.isEmpty()) {
+                produtoRepository.deletarPelosIds(existentes);
+                removidos.addAll(existentes);
+            }
+        }
+        return removidos;
+    }
+
+    @Override
+    public long contar() {
+        return produtoRepository.count();
+    }
+
+    @Override
+    public boolean existeDoFornecedor(Long fornecedorId) {
+        return produtoRepository.existsByFornecedorId(fornecedorId);
+    }
+
+    @Override
+    public List<ProdutoResponseDTO> listarTodos() {
+        // Cada fornecedor é convertido uma vez só e o mesmo DTO é reaproveitado pelos produtos dele
+        Map<Long, FornecedorResponseDTO> fornecedores = new HashMap<>();
+        return produtoVisaoRepository.listarTodos()
+                .stream()
+                .map(visao -> produtoMapper.toDTO(visao, fornecedores.computeIfAbsent(
+                        visao.getFornecedorId(), id -> produtoMapper.toFornecedorDTO(visao))))
+                .toList();
+    }
+
+    /**
+     * 📌 Listagem em JSON montada com os documentos já renderizados da visão, sem serializar nada.
+     */
+    @Override
+    public String listarTodosJson() {
+        return "[" + String.join(",", produtoVisaoRepository.listarDocumentos()) + "]";
+    }
+
+    /**
+     * 📌 Listagem normalizada: produtos com `fornecedorId` e cada fornecedor serializado uma única vez.
+     */
+    @Override
+    public ProdutosNormalizadosResponseDTO listarTodosNormalizado() {
+        List<ProdutoVisao> produtos = produtoVisaoRepository.listarTodos();
+        Map<Long, FornecedorResponseDTO> fornecedores = new LinkedHashMap<>();
+        List<ProdutoNormalizadoDTO> itens = produtos.stream()
+                .map(visao -> {
+                    fornecedores.computeIfAbsent(visao.getFornecedorId(), id -> produtoMapper.toFornecedorDTO(visao));
+                    return produtoMapper.toNormalizadoDTO(visao);
+                })
+                .toList();
+        return new ProdutosNormalizadosResponseDTO(itens, fornecedores);
+    }
+
+    @Override
+    public Optional<ProdutoResponseDTO> buscarPorId(Long id) {
+        return produtoVisaoRepository.findById(id).map(produtoMapper::toDTO);
+    }
+
+    @Override
+    public Optional<String> buscarJsonPorId(Long id) {
+        return produtoVisaoRepository.buscarDocumento(id);
+    }
+
+    @Override
+    public List<ProdutoResponseDTO> buscarPelosIds(Collection<Long> ids) {
+        return produtoVisaoRepository.buscarPelosIds(ids).stream().map(produtoMapper::toDTO).toList();
+    }
+
+    @Override
+    public List<Map<String, Object>> listarCampos(String fields) {
+        return projecaoService.listar(Produto.class, ProdutoResponseDTO.class, fields);
+    }
+
+    @Override
+    public Map<String, Object> buscarCampos(Long id, String fields) {
+        return projecaoService.buscarPorId(Produto.class, ProdutoResponseDTO.class, id, fields);
+    }
+
+    // Fornecedores travados antes: uma alteração de fornecedor em andamento termina e a visão lê a versão confirmada
+    private void regravarVisao(List<Produto> produtos) {
+        produtoVisaoRepository.travarFornecedores(produtos.stream()
+                .map(produto -> produto.getFornecedor().getId())
+                .distinct()
+                .toList());
+        produtoVisaoRepository.atualizarProdutos(produtos.stream().map(Produto::getId).toList());
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoNormalizadoDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import br.com.gerenciador.api.mapper.FornecedorMapper;
+import br.com.gerenciador.api.mapper.ProdutoMapper;
+import br.com.gerenciador.api.model.Produto;
+import br.com.gerenciador.api.repository.FornecedorRepository;
+import br.com.gerenciador.api.repository.ProdutoShardRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 📌 Produtos particionados por fornecedor entre vários bancos (`ProdutoShardRepository`).
+ *
+ * ✅ A escrita no shard acontece na hora; fornecedores, feed de alterações e outbox continuam na transação do
+ *    banco principal. Se ela for desfeita, a escrita no shard é compensada.
+ * ✅ Compensações condicionais: só desfazem a linha que ainda está como esta transação gravou. Se outra
+ *    escrita já confirmada mexeu nela depois, a dela prevalece.
+ * ✅ Sem FK entre shards: antes de gravar, o fornecedor é travado contra exclusão no banco principal
+ *    (`travarContraExclusao`), e a exclusão dele espera esta transação antes de conferir se há produtos.
+ * 🔹 Não há `produto_view` entre shards: os DTOs e o JSON são montados na hora.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.shards", name = "habilitado", havingValue = "true")
+public class ArmazenamentoProdutosShards implements ArmazenamentoProdutos {
+
+    private final ProdutoShardRepository produtoShardRepository;
+    private final FornecedorRepository fornecedorRepository;
+    private final ProdutoMapper produtoMapper;
+    private final FornecedorMapper fornecedorMapper;
+    private final ProjecaoService projecaoService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Produto inserir(Produto produto) {
+        travarFornecedores(List.of(produto));
+        produtoShardRepository.inserir(produto);
+        aoDesfazer(() -> produtoShardRepository.apagarSeInalterados(List.of(produto)));
+        return produto;
+    }
+
+    @Override
+    public List<Produto> inserirTodos(List<Produto> produtos) {
+        travarFornecedores(produtos);
+        produtoShardRepository.inserirTodos(produtos);
+        aoDesfazer(() -> produtoShardRepository.apagarSeInalterados(produtos));
+        return produtos;
+    }
+
+    @Override
+    public Optional<Produto> buscarParaAlterar(Long id) {
+        return produtoShardRepository.buscarPorId(id);
+    }
+
+    // Sem dirty checking: a linha é regravada no shard
+    @Override
+    public void gravarAlteracao(Produto produto, Produto anterior) {
+        travarFornecedores(List.of(produto));
+        produtoShardRepository.atualizar(produto, anterior.getFornecedor().getId());
+        Produto gravado = produto.toBuilder().build();
+        aoDesfazer(() -> produtoShardRepository.reverter(gravado, anterior));
+    }
+
+    @Override
+    public List<Long> deletar(List<Long> ids) {
+        List<Produto> removidos = produtoShardRepository.deletar(ids);
+        aoDesfazer(() -> produtoShardRepository.restaurarAusentes(removidos));
+        return removidos.stream().map(Produto::getId).toList();
+    }
+
+    @Override
+    public long contar() {
+        return produtoShardRepository.contar();
+    }
+
+    @Override
+    public boolean existeDoFornecedor(Long fornecedorId) {
+        return produtoShardRepository.existeDoFornecedor(fornecedorId);
+    }
+
+    @Override
+    public List<ProdutoResponseDTO> listarTodos() {
+        Map<Long, FornecedorResponseDTO> fornecedores = new HashMap<>();
+        return produtoShardRepository.listarTodos()
+                .stream()
+                .map(produto -> produtoMapper.toDTO(produto, fornecedores.computeIfAbsent(
+                        produto.getFornecedor().getId(), id -> fornecedorMapper.toDTO(produto.getFornecedor()))))
+                .toList();
+    }
+
+    @Override
+    public String listarTodosJson() {
+        return serializar(listarTodos());
+    }
+
+    @Override
+    public ProdutosNormalizadosResponseDTO listarTodosNormalizado() {
+        List<Produto> produtos = produtoShardRepository.listarTodos();
+        Map<Long, FornecedorResponseDTO> fornecedores = new LinkedHashMap<>();
+        List<ProdutoNormalizadoDTO> itens = produtos.stream()
+                .map(produto -> {
+                    fornecedores.computeIfAbsent(produto.getFornecedor().getId(),
+                            id -> fornecedorMapper.toDTO(produto.getFornecedor()));
+                    return produtoMapper.toNormalizadoDTO(produto);
+                })
+                .toList();
+        return new ProdutosNormalizadosResponseDTO(itens, fornecedores);
+    }
+
+    @Override
+    public Optional<ProdutoResponseDTO> buscarPorId(Long id) {
+        return produtoShardRepository.buscarPorId(id).map(produtoMapper::toDTO);
+    }
+
+    @Override
+    public Optional<String> buscarJsonPorId(Long id) {
+        return buscarPorId(id).map(this::serializar);
+    }
+
+    @Override
+    public List<ProdutoResponseDTO> buscarPelosIds(Collection<Long> ids) {
+        return produtoShardRepository.buscarPelosIds(ids).stream().map(produtoMapper::toDTO).toList();
+    }
+
+    @Override
+    public List<Map<String, Object>> listarCampos(String fields) {
+        return projecaoService.filtrar(listarTodos(), ProdutoResponseDTO.class, fields);
+    }
+
+    @Override
+    public Map<String, Object> buscarCampos(Long id, String fields) {
+        ProdutoResponseDTO produto = buscarPorId(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Registro não encontrado"));
+        return projecaoService.filtrar(List.of(produto), ProdutoResponseDTO.class, fields).get(0);
+    }
+
+    // Um fornecedor excluído entre a checagem de existência e esta trava já não aparece aqui
+    private void travarFornecedores(List<Produto> produtos) {
+        Set<Long> ids = produtos.stream().map(produto -> produto.getFornecedor().getId()).collect(Collectors.toSet());
+        if (fornecedorRepository.travarContraExclusao(ids).size() != ids.size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fornecedor não encontrado");
+        }
+    }
+
+    private String serializar(Object resposta) {
+        try {
+            return objectMapper.writeValueAsString(resposta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a resposta", e);
+        }
+    }
+
+    private static void aoDesfazer(Runnable compensacao) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensacao.run();
+                }
+            }
+        });
+    }
+}
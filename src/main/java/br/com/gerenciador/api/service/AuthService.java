@@ -1,9 +1,11 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.config.Bulkhead;
 import br.com.gerenciador.api.dto.AuthRequestDTO;
 import br.com.gerenciador.api.dto.AuthResponseDTO;
 import br.com.gerenciador.api.dto.RegisterRequestDTO;
 import br.com.gerenciador.api.dto.UsuarioResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
 import br.com.gerenciador.api.model.Usuario;
 import br.com.gerenciador.api.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Bulkhead(CargaTrabalhoEnum.AUTENTICACAO)
 public class AuthService {
 
     private final UsuarioRepository usuarioRepository;
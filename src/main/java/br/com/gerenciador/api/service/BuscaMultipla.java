@@ -0,0 +1,58 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 📌 Regras comuns das buscas por vários IDs (produtos, clientes e fornecedores).
+ *
+ * ✅ IDs repetidos são ignorados; acima de `MAXIMO_IDS_BUSCA` a requisição é recusada com 400.
+ * ✅ A consulta `IN` roda em lotes de `TAMANHO_LOTE_BUSCA`, para não estourar o limite de parâmetros do driver.
+ * ✅ O resultado segue a ordem pedida e informa os IDs não encontrados.
+ */
+final class BuscaMultipla {
+
+    static final int TAMANHO_LOTE_BUSCA = 500;
+    static final int MAXIMO_IDS_BUSCA = 1_000;
+
+    private BuscaMultipla() {
+    }
+
+    static <E, D> BuscaMultiplaResponseDTO<D> resolver(List<Long> ids,
+                                                       Function<List<Long>, List<E>> consulta,
+                                                       Function<E, Long> idDaEntidade,
+                                                       Function<E, D> mapper) {
+        List<Long> distintos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distintos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos um ID");
+        }
+        if (distintos.size() > MAXIMO_IDS_BUSCA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Máximo de " + MAXIMO_IDS_BUSCA + " IDs por requisição");
+        }
+
+        Map<Long, E> encontrados = new HashMap<>(distintos.size() * 2);
+        for (int inicio = 0; inicio < distintos.size(); inicio += TAMANHO_LOTE_BUSCA) {
+            List<Long> lote = distintos.subList(inicio, Math.min(inicio + TAMANHO_LOTE_BUSCA, distintos.size()));
+            for (E entidade : consulta.apply(lote)) {
+                encontrados.put(idDaEntidade.apply(entidade), entidade);
+            }
+        }
+
+        List<D> itens = new ArrayList<>(encontrados.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : distintos) {
+            E entidade = encontrados.get(id);
+            if (entidade != null) {
+                itens.add(mapper.apply(entidade));
+            } else {
+                naoEncontrados.add(id);
+            }
+        }
+        return new BuscaMultiplaResponseDTO<>(itens, naoEncontrados);
+    }
+}
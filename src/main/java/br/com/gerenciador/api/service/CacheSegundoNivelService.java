@@ -0,0 +1,91 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.CacheEstatisticasDTO;
+import br.com.gerenciador.api.dto.RegiaoCacheDTO;
+import br.com.gerenciador.api.model.Fornecedor;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 📌 Operações sobre o cache de segundo nível do Hibernate (JCache/Caffeine).
+ *
+ * ✅ Expõe acertos, falhas e taxa de acerto por região e do cache de consultas.
+ * ✅ Remove entradas de fornecedor após o commit, para escritas que não passam pelo ciclo de vida da entidade.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheSegundoNivelService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheEstatisticasDTO estatisticas() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<RegiaoCacheDTO> regioes = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(nome -> regiao(nome, statistics.getCacheRegionStatistics(nome)))
+                .filter(Objects::nonNull)
+                .toList();
+
+        long acertos = statistics.getQueryCacheHitCount();
+        long falhas = statistics.getQueryCacheMissCount();
+        return new CacheEstatisticasDTO(regioes, acertos, falhas, taxa(acertos, falhas));
+    }
+
+    /**
+     * 📌 Agenda a remoção do fornecedor (e das consultas cacheadas) para depois do commit;
+     * sem transação ativa, remove na hora.
+     */
+    public void evictarFornecedorAposCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictarFornecedor(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictarFornecedor(id);
+            }
+        });
+    }
+
+    public void limpar() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAll();
+    }
+
+    private void evictarFornecedor(Long id) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(Fornecedor.class, id);
+        cache.evictDefaultQueryRegion();
+    }
+
+    private static RegiaoCacheDTO regiao(String nome, CacheRegionStatistics regiao) {
+        if (regiao == null) {
+            return null;
+        }
+        return new RegiaoCacheDTO(
+                nome,
+                regiao.getHitCount(),
+                regiao.getMissCount(),
+                regiao.getPutCount(),
+                taxa(regiao.getHitCount(), regiao.getMissCount()),
+                regiao.getElementCountInMemory() < 0 ? null : regiao.getElementCountInMemory() // nem todo provedor informa
+        );
+    }
+
+    private static double taxa(long acertos, long falhas) {
+        long total = acertos + falhas;
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+}
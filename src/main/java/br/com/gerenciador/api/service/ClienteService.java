@@ -1,7 +1,10 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
 import br.com.gerenciador.api.dto.ClienteRequestDTO;
 import br.com.gerenciador.api.dto.ClienteResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 
 /**
@@ -11,6 +14,9 @@ public interface ClienteService {
     ClienteResponseDTO criarCliente(ClienteRequestDTO dto);
     List<ClienteResponseDTO> listarTodosClientes();
     ClienteResponseDTO buscarClientePeloId(Long id);
+    BuscaMultiplaResponseDTO<ClienteResponseDTO> buscarClientesPelosIds(List<Long> ids);
+    AlteracoesResponseDTO<ClienteResponseDTO> listarAlteracoesClientes(String since, Integer limite);
     ClienteResponseDTO atualizarClientePeloId(Long id, ClienteRequestDTO dto);
+    ClienteResponseDTO atualizarParcialmenteClientePeloId(Long id, JsonNode patch);
     void deletarClientePeloId(Long id);
 }
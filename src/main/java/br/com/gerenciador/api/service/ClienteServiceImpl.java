@@ -1,11 +1,18 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
 import br.com.gerenciador.api.dto.ClienteRequestDTO;
 import br.com.gerenciador.api.dto.ClienteResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
 import br.com.gerenciador.api.mapper.ClienteMapper;
 import br.com.gerenciador.api.mapper.EnderecoMapper;
+import br.com.gerenciador.api.mapper.MergePatchMapper;
 import br.com.gerenciador.api.model.Cliente;
 import br.com.gerenciador.api.repository.ClienteRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -19,18 +26,28 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
+@Bulkhead(CargaTrabalhoEnum.CATALOGO_ESCRITA)
 public class ClienteServiceImpl implements ClienteService {
 
     private final ClienteRepository clienteRepository;
     private final ClienteMapper clienteMapper;
     private final EnderecoMapper enderecoMapper;
+    private final MergePatchMapper mergePatchMapper;
+    private final AlteracaoCatalogoService alteracaoCatalogoService;
+    private final EventoOutboxService eventoOutboxService;
 
+    @Transactional
     @Override
     public ClienteResponseDTO criarCliente(ClienteRequestDTO dto) {
-        Cliente cliente = clienteMapper.toEntity(dto);
-        return clienteMapper.toDTO(clienteRepository.save(cliente));
+        Cliente cliente = clienteRepository.save(clienteMapper.toEntity(dto));
+        alteracaoCatalogoService.registrarCriacao(RecursoCatalogoEnum.CLIENTE, cliente.getId());
+        ClienteResponseDTO resposta = clienteMapper.toDTO(cliente);
+        eventoOutboxService.registrarCriacao(RecursoCatalogoEnum.CLIENTE, cliente.getId(), resposta);
+        return resposta;
     }
 
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
     @Override
     public List<ClienteResponseDTO> listarTodosClientes() {
         return clienteRepository.findAll().stream()
@@ -38,6 +55,8 @@ public class ClienteServiceImpl implements ClienteService {
                 .toList();
     }
 
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
     @Override
     public ClienteResponseDTO buscarClientePeloId(Long id) {
         Cliente cliente = clienteRepository.findById(id)
@@ -45,25 +64,62 @@ public class ClienteServiceImpl implements ClienteService {
         return clienteMapper.toDTO(cliente);
     }
 
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public BuscaMultiplaResponseDTO<ClienteResponseDTO> buscarClientesPelosIds(List<Long> ids) {
+        return BuscaMultipla.resolver(ids, clienteRepository::buscarPelosIds, Cliente::getId, clienteMapper::toDTO);
+    }
+
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public AlteracoesResponseDTO<ClienteResponseDTO> listarAlteracoesClientes(String since, Integer limite) {
+        return alteracaoCatalogoService.listar(RecursoCatalogoEnum.CLIENTE, since, limite,
+                clienteRepository::buscarPelosIds, Cliente::getId, clienteMapper::toDTO);
+    }
+
     @Transactional
     @Override
     public ClienteResponseDTO atualizarClientePeloId(Long id, ClienteRequestDTO dto) {
         Cliente cliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Cliente não encontrado"));
+        aplicar(cliente, dto);
+        return registrarAlteracao(cliente);
+    }
+
+    /**
+     * 📌 JSON Merge Patch: só os campos enviados mudam, e o UPDATE (`@DynamicUpdate`) leva só as colunas alteradas.
+     */
+    @Transactional
+    @Override
+    public ClienteResponseDTO atualizarParcialmenteClientePeloId(Long id, JsonNode patch) {
+        Cliente cliente = clienteRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Cliente não encontrado"));
+        aplicar(cliente, mergePatchMapper.aplicar(clienteMapper.toRequestDTO(cliente), patch, ClienteRequestDTO.class));
+        return registrarAlteracao(cliente);
+    }
 
+    private void aplicar(Cliente cliente, ClienteRequestDTO dto) {
+        alteracaoCatalogoService.registrarAlteracao(RecursoCatalogoEnum.CLIENTE, cliente.getId());
         cliente.setNome(dto.nome());
         cliente.setEmail(dto.email());
-        cliente.setEndereco(enderecoMapper.toEntity(dto.endereco()));
+        cliente.setEndereco(enderecoMapper.aplicar(dto.endereco(), cliente.getEndereco()));
+    }
 
-        return clienteMapper.toDTO(cliente);
+    private ClienteResponseDTO registrarAlteracao(Cliente cliente) {
+        ClienteResponseDTO resposta = clienteMapper.toDTO(cliente);
+        eventoOutboxService.registrarAlteracao(RecursoCatalogoEnum.CLIENTE, cliente.getId(), resposta);
+        return resposta;
     }
 
     @Transactional
     @Override
     public void deletarClientePeloId(Long id) {
-        if (!clienteRepository.existsById(id)) {
+        if (clienteRepository.deletarComEndereco(id) == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Cliente não encontrado");
         }
-        clienteRepository.deleteById(id);
+        alteracaoCatalogoService.registrarRemocao(RecursoCatalogoEnum.CLIENTE, id);
+        eventoOutboxService.registrarRemocao(RecursoCatalogoEnum.CLIENTE, id);
     }
 }
@@ -0,0 +1,16 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.EventoDominioDTO;
+
+import java.util.List;
+
+/**
+ * 📌 Para onde o relay do outbox entrega os eventos (`app.outbox.destino`).
+ *
+ * ✅ Recebe um lote em ordem de gravação; só retorna quando o lote inteiro foi aceito.
+ * ✅ Qualquer exceção mantém o lote no outbox para a próxima tentativa (entrega "pelo menos uma vez").
+ */
+public interface DestinoEventos {
+
+    void entregar(List<EventoDominioDTO> eventos) throws Exception;
+}
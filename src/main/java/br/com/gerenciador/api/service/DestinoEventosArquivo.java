@@ -0,0 +1,40 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.OutboxProperties;
+import br.com.gerenciador.api.dto.EventoDominioDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 📌 Destino em arquivo: um evento JSON por linha (JSON Lines), acrescentado ao final de `app.outbox.arquivo`.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "destino", havingValue = "arquivo")
+public class DestinoEventosArquivo implements DestinoEventos {
+
+    private final Path arquivo;
+    private final ObjectMapper objectMapper;
+
+    public DestinoEventosArquivo(OutboxProperties properties, ObjectMapper objectMapper) {
+        this.arquivo = properties.arquivo();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void entregar(List<EventoDominioDTO> eventos) throws IOException {
+        StringBuilder linhas = new StringBuilder();
+        for (EventoDominioDTO evento : eventos) {
+            linhas.append(objectMapper.writeValueAsString(evento)).append('\n');
+        }
+        Files.writeString(arquivo, linhas, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+}
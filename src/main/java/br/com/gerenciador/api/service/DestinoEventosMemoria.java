@@ -0,0 +1,38 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.OutboxProperties;
+import br.com.gerenciador.api.dto.EventoDominioDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * 📌 Destino em memória, para testes e desenvolvimento: guarda os últimos `capacidadeMemoria` eventos.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "destino", havingValue = "memoria", matchIfMissing = true)
+public class DestinoEventosMemoria implements DestinoEventos {
+
+    private final int capacidade;
+    private final ArrayDeque<EventoDominioDTO> eventos = new ArrayDeque<>();
+
+    public DestinoEventosMemoria(OutboxProperties properties) {
+        this.capacidade = properties.capacidadeMemoria();
+    }
+
+    @Override
+    public synchronized void entregar(List<EventoDominioDTO> lote) {
+        for (EventoDominioDTO evento : lote) {
+            if (eventos.size() == capacidade) {
+                eventos.removeFirst();
+            }
+            eventos.addLast(evento);
+        }
+    }
+
+    public synchronized List<EventoDominioDTO> getEventos() {
+        return List.copyOf(eventos);
+    }
+}
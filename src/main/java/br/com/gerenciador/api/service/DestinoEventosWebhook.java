@@ -0,0 +1,44 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.OutboxProperties;
+import br.com.gerenciador.api.dto.EventoDominioDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 📌 Destino webhook: cada lote vai num único POST JSON (array de eventos) para `app.outbox.webhook-url`.
+ * 🔹 Qualquer resposta fora de 2xx (ou tempo esgotado) conta como falha e o lote é reenviado depois.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "destino", havingValue = "webhook")
+public class DestinoEventosWebhook implements DestinoEventos {
+
+    private final RestClient restClient;
+
+    public DestinoEventosWebhook(OutboxProperties properties, RestClient.Builder builder) {
+        Objects.requireNonNull(properties.webhookUrl(), "app.outbox.webhook-url é obrigatório com o destino webhook");
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(properties.webhookTempoLimite()).build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.webhookTempoLimite());
+        this.restClient = builder
+                .baseUrl(properties.webhookUrl().toString())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void entregar(List<EventoDominioDTO> eventos) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(eventos)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
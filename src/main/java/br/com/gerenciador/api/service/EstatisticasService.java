@@ -0,0 +1,37 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.dto.EstatisticasResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.repository.ClienteRepository;
+import br.com.gerenciador.api.repository.FornecedorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 📌 Serviço das estatísticas gerais. As três contagens rodam numa única transação somente leitura
+ * (uma conexão, roteável para réplica).
+ */
+@Service
+@RequiredArgsConstructor
+@Bulkhead(CargaTrabalhoEnum.ESTATISTICAS)
+public class EstatisticasService {
+
+    private final FornecedorRepository fornecedorRepository;
+    private final ProdutoService produtoService; // Soma de todos os shards quando os produtos estão particionados
+    private final ClienteRepository clienteRepository;
+
+    @Transactional(readOnly = true)
+    public EstatisticasResponseDTO obterEstatisticas() {
+        long totalFornecedores = fornecedorRepository.count();
+        long totalProdutos = produtoService.contarProdutos();
+        long totalClientes = clienteRepository.count();
+
+        return new EstatisticasResponseDTO(
+                totalFornecedores,
+                totalProdutos,
+                totalClientes
+        );
+    }
+}
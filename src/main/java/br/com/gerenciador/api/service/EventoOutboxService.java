@@ -0,0 +1,121 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import br.com.gerenciador.api.enums.TipoEventoDominioEnum;
+import br.com.gerenciador.api.model.EventoOutbox;
+import br.com.gerenciador.api.model.SequenciaAlteracao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📌 Grava os eventos de domínio no outbox, dentro da transação de quem escreveu.
+ *
+ * ✅ Os eventos ficam pendentes até o fim da transação; antes do commit, a linha `outbox` de
+ *    `sequencia_alteracao` é travada e cada evento recebe a próxima `ordem`. Como o lock dura até o commit,
+ *    a `ordem` é a ordem dos commits: o relay nunca entrega um evento antes de outro que confirmou antes dele.
+ * ✅ Só `persist`: os IDs saem do bloco já reservado da sequence e os INSERTs vão juntos no flush do commit
+ *    (`hibernate.jdbc.batch_size` + `order_inserts`), num único lote por transação.
+ * ✅ A entrega fica com o `RelayOutboxService`, fora do caminho da requisição.
+ */
+@Service
+public class EventoOutboxService {
+
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EventoOutboxService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void registrarCriacao(RecursoCatalogoEnum recurso, Long id, Object dados) {
+        registrar(recurso, id, TipoEventoDominioEnum.CRIADO, dados);
+    }
+
+    public void registrarAlteracao(RecursoCatalogoEnum recurso, Long id, Object dados) {
+        registrar(recurso, id, TipoEventoDominioEnum.ALTERADO, dados);
+    }
+
+    public void registrarRemocao(RecursoCatalogoEnum recurso, Long id) {
+        registrar(recurso, id, TipoEventoDominioEnum.REMOVIDO, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registrar(RecursoCatalogoEnum recurso, Long id, TipoEventoDominioEnum tipo, Object dados) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Eventos de domínio só podem ser gravados dentro de uma transação");
+        }
+        List<EventoOutbox> pendentes = (List<EventoOutbox>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            List<EventoOutbox> novos = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, novos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return AlteracaoCatalogoService.ORDEM_CONTADOR + 1;
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    gravar(novos);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EventoOutboxService.this);
+                }
+            });
+            pendentes = novos;
+        }
+        pendentes.add(new EventoOutbox(recurso, id, tipo, serializar(dados), LocalDateTime.now()));
+    }
+
+    private void gravar(List<EventoOutbox> eventos) {
+        // Escritas pendentes antes da trava do contador, como no feed de alterações
+        entityManager.flush();
+        long ordem = reservarOrdens(eventos.size()) - eventos.size();
+        for (EventoOutbox evento : eventos) {
+            evento.setOrdem(++ordem);
+            entityManager.persist(evento);
+        }
+    }
+
+    /**
+     * 📌 Reserva `quantidade` posições: o UPDATE trava a linha do contador até o commit.
+     * @return a última posição reservada
+     */
+    private long reservarOrdens(int quantidade) {
+        int atualizadas = entityManager.createQuery(
+                        "update SequenciaAlteracao s set s.valor = s.valor + :quantidade where s.nome = :nome")
+                .setParameter("quantidade", (long) quantidade)
+                .setParameter("nome", SequenciaAlteracao.OUTBOX)
+                .executeUpdate();
+        if (atualizadas == 0) {
+            throw new IllegalStateException("Contador do outbox não inicializado");
+        }
+        return entityManager.createQuery("select s.valor from SequenciaAlteracao s where s.nome = :nome", Long.class)
+                .setParameter("nome", SequenciaAlteracao.OUTBOX)
+                .getSingleResult();
+    }
+
+    private String serializar(Object dados) {
+        if (dados == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(dados);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento de domínio", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.repository.FornecedorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 📌 Conjunto em memória com os IDs de fornecedores existentes, para associar produtos sem buscar o fornecedor.
+ *
+ * ✅ Mapa de bits indexado pelo próprio ID (IDs vêm de uma sequência, então são densos): 1 bit por ID.
+ * ✅ Leituras sem lock; escritas (criação/exclusão de fornecedor) são raras e sincronizadas.
+ * ✅ Um ID ausente não é confiável (pode ter sido criado por outra instância): confirma com `existsById`.
+ * ✅ Um ID presente pode estar desatualizado; a palavra final é da FK `produto.fornecedor_id` ou, com shards,
+ *    da trava do fornecedor no banco principal (`FornecedorRepository.travarContraExclusao`).
+ * ✅ Um ID confirmado no banco só entra se nenhuma exclusão aconteceu desde o início da consulta (`remocoes`):
+ *    sem isso, uma exclusão concorrente podia ser desfeita no mapa, que diria "existe" para sempre.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExistenciaFornecedorService {
+
+    // IDs acima disso não entram no mapa (8 MB de bits) e sempre consultam o banco
+    static final long LIMITE_IDS = 1L << 26;
+
+    private final FornecedorRepository fornecedorRepository;
+    private volatile AtomicLongArray bits = new AtomicLongArray(1024);
+    // Época de exclusões: incrementada (com o lock) a cada `remover`
+    private volatile long remocoes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Bulkhead(CargaTrabalhoEnum.MANUTENCAO)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        long epoca = remocoes;
+        try (Stream<Long> ids = fornecedorRepository.streamIds()) {
+            ids.forEach(id -> adicionarSemRemocaoDesde(id, epoca));
+        }
+    }
+
+    /**
+     * 📌 Diz se o fornecedor existe, consultando o banco (sem carregar a entidade) só quando o ID não está no mapa.
+     */
+    public boolean existe(Long id) {
+        if (id == null || id <= 0) {
+            return false;
+        }
+        if (contem(id)) {
+            return true;
+        }
+        long epoca = remocoes;
+        if (!fornecedorRepository.existsById(id)) {
+            return false;
+        }
+        adicionarSemRemocaoDesde(id, epoca);
+        return true;
+    }
+
+    public void registrarAposCommit(Long id) {
+        aposCommit(() -> adicionar(id));
+    }
+
+    public void removerAposCommit(Long id) {
+        aposCommit(() -> remover(id));
+    }
+
+    private boolean contem(long id) {
+        AtomicLongArray atual = bits;
+        int indice = (int) (id >>> 6);
+        return id < LIMITE_IDS && indice < atual.length() && (atual.get(indice) & (1L << id)) != 0;
+    }
+
+    private synchronized void adicionar(long id) {
+        if (id <= 0 || id >= LIMITE_IDS) {
+            return;
+        }
+        int indice = (int) (id >>> 6);
+        if (indice >= bits.length()) {
+            crescer(indice);
+        }
+        bits.set(indice, bits.get(indice) | (1L << id));
+    }
+
+    // Uma exclusão no meio pode ter removido justamente este ID: na dúvida fica de fora (só custa uma consulta)
+    private synchronized void adicionarSemRemocaoDesde(long id, long epoca) {
+        if (remocoes == epoca) {
+            adicionar(id);
+        }
+    }
+
+    private synchronized void remover(long id) {
+        remocoes++;
+        int indice = (int) (id >>> 6);
+        if (id > 0 && id < LIMITE_IDS && indice < bits.length()) {
+            bits.set(indice, bits.get(indice) & ~(1L << id));
+        }
+    }
+
+    // Chamado com o lock; leitores continuam no array antigo até a troca
+    private void crescer(int indice) {
+        AtomicLongArray antigo = bits;
+        int tamanho = antigo.length();
+        while (tamanho <= indice) {
+            tamanho *= 2;
+        }
+        AtomicLongArray novo = new AtomicLongArray((int) Math.min(tamanho, LIMITE_IDS >>> 6));
+        for (int i = 0; i < antigo.length(); i++) {
+            novo.set(i, antigo.get(i));
+        }
+        bits = novo;
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
 import br.com.gerenciador.api.dto.FornecedorRequestDTO;
 import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 
 /**
@@ -32,12 +35,29 @@ public interface FornecedorService {
      */
     FornecedorResponseDTO buscarFornecedorPeloId(Long id);
 
+    /**
+     * 📌 Busca vários fornecedores de uma vez, na ordem pedida.
+     * 🔄 IDs inexistentes voltam em `naoEncontrados`.
+     */
+    BuscaMultiplaResponseDTO<FornecedorResponseDTO> buscarFornecedoresPelosIds(List<Long> ids);
+
+    /**
+     * 📌 Feed incremental: fornecedores criados, alterados ou excluídos depois do token `since`.
+     */
+    AlteracoesResponseDTO<FornecedorResponseDTO> listarAlteracoesFornecedores(String since, Integer limite);
+
     /**
      * 📌 Atualiza os dados de um fornecedor existente.
      * 🔄 Recebe o ID do fornecedor e um `FornecedorRequestDTO` com as novas informações.
      */
     FornecedorResponseDTO atualizarFornecedorPeloId(Long id, FornecedorRequestDTO dto);
 
+    /**
+     * 📌 Atualiza apenas os campos enviados (JSON Merge Patch).
+     * 🔄 Campos ausentes permanecem como estão; `null` remove o valor.
+     */
+    FornecedorResponseDTO atualizarParcialmenteFornecedorPeloId(Long id, JsonNode patch);
+
     /**
      * 📌 Deleta um fornecedor pelo ID.
      */
@@ -1,11 +1,19 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
 import br.com.gerenciador.api.dto.FornecedorRequestDTO;
 import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
 import br.com.gerenciador.api.mapper.EnderecoMapper;
 import br.com.gerenciador.api.mapper.FornecedorMapper;
+import br.com.gerenciador.api.mapper.MergePatchMapper;
 import br.com.gerenciador.api.model.Fornecedor;
 import br.com.gerenciador.api.repository.FornecedorRepository;
+import br.com.gerenciador.api.repository.ProdutoVisaoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -24,6 +32,7 @@ import java.util.List;
  */
 @Service // Define essa classe como um Bean de serviço no Spring
 @RequiredArgsConstructor // Lombok gera automaticamente um construtor com os atributos `final`
+@Bulkhead(CargaTrabalhoEnum.CATALOGO_ESCRITA) // Limita as conexões simultâneas das escritas; leituras usam CATALOGO_LEITURA
 public class FornecedorServiceImpl implements FornecedorService {
 
     /**
@@ -40,6 +49,13 @@ public class FornecedorServiceImpl implements FornecedorService {
     private final FornecedorRepository fornecedorRepository;
     private final FornecedorMapper fornecedorMapper;
     private final EnderecoMapper enderecoMapper;
+    private final MergePatchMapper mergePatchMapper;
+    private final CacheSegundoNivelService cacheSegundoNivelService;
+    private final ExistenciaFornecedorService existenciaFornecedorService;
+    private final AlteracaoCatalogoService alteracaoCatalogoService; // Feed incremental (/fornecedores/changes)
+    private final EventoOutboxService eventoOutboxService; // Eventos de domínio publicados pelo relay do outbox
+    private final ProdutoService produtoService; // Produtos podem estar em outros bancos (shards), sem FK para o fornecedor
+    private final ProdutoVisaoRepository produtoVisaoRepository; // Modelo de leitura dos produtos, com os dados do fornecedor copiados
 
     /**
      * 📌 Criação de um novo fornecedor.
@@ -53,10 +69,15 @@ public class FornecedorServiceImpl implements FornecedorService {
      * ✅ `fornecedorMapper.toEntity(dto)`: Converte DTO para Entidade (entrada da API para persistência no banco).
      * ✅ `fornecedorMapper.toDTO(...)`: Converte Entidade para DTO (dados do banco para resposta da API).
      */
+    @Transactional // O registro no feed de alterações entra na mesma transação do INSERT
     @Override
     public FornecedorResponseDTO criarFornecedor(FornecedorRequestDTO dto) {
-        Fornecedor fornecedor = fornecedorMapper.toEntity(dto); // Converte DTO para Entidade
-        return fornecedorMapper.toDTO(fornecedorRepository.save(fornecedor)); // Salva e retorna DTO
+        Fornecedor fornecedor = fornecedorRepository.save(fornecedorMapper.toEntity(dto)); // Converte DTO para Entidade e salva
+        alteracaoCatalogoService.registrarCriacao(RecursoCatalogoEnum.FORNECEDOR, fornecedor.getId());
+        existenciaFornecedorService.registrarAposCommit(fornecedor.getId()); // Produtos já podem referenciar o novo ID
+        FornecedorResponseDTO resposta = fornecedorMapper.toDTO(fornecedor); // Converte para DTO
+        eventoOutboxService.registrarCriacao(RecursoCatalogoEnum.FORNECEDOR, fornecedor.getId(), resposta); // Evento "criado" na mesma transação
+        return resposta;
     }
 
     /**
@@ -67,6 +88,8 @@ public class FornecedorServiceImpl implements FornecedorService {
      * 2️⃣ Converte cada entidade `Fornecedor` para `FornecedorResponseDTO` usando `fornecedorMapper.toDTO()`.
      * 3️⃣ Retorna a lista convertida.
      */
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
     @Override
     public List<FornecedorResponseDTO> listarTodosFornecedores() {
         /*
@@ -91,6 +114,8 @@ public class FornecedorServiceImpl implements FornecedorService {
      * 2️⃣ Se não encontrar, lança uma `ResponseStatusException` com status `404 NOT FOUND`.
      * 3️⃣ Converte a entidade `Fornecedor` para `FornecedorResponseDTO`.
      */
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
     @Override
     public FornecedorResponseDTO buscarFornecedorPeloId(Long id) {
         /*
@@ -106,14 +131,36 @@ public class FornecedorServiceImpl implements FornecedorService {
         return fornecedorMapper.toDTO(fornecedor); // Converte para DTO e retorna
     }
 
+    /**
+     * 📌 Busca vários fornecedores com uma consulta `IN` por lote (endereço incluso no mesmo SELECT).
+     */
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public BuscaMultiplaResponseDTO<FornecedorResponseDTO> buscarFornecedoresPelosIds(List<Long> ids) {
+        return BuscaMultipla.resolver(ids, fornecedorRepository::buscarPelosIds, Fornecedor::getId, fornecedorMapper::toDTO);
+    }
+
+    /**
+     * 📌 Feed incremental de fornecedores: estado atual dos alterados e lápides dos excluídos, em ordem de commit.
+     */
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public AlteracoesResponseDTO<FornecedorResponseDTO> listarAlteracoesFornecedores(String since, Integer limite) {
+        return alteracaoCatalogoService.listar(RecursoCatalogoEnum.FORNECEDOR, since, limite,
+                fornecedorRepository::buscarPelosIds, Fornecedor::getId, fornecedorMapper::toDTO);
+    }
+
     /**
      * 📌 Atualiza um fornecedor existente.
      *
      * 🚀 **Fluxo deste método:**
      * 1️⃣ Busca o fornecedor pelo ID. Se não existir, lança erro `404 NOT FOUND`.
      * 2️⃣ Atualiza os atributos do fornecedor com os dados do DTO.
-     * 3️⃣ Usa `enderecoMapper.toEntity(dto.endereco())` para converter o endereço DTO para entidade.
-     * 4️⃣ Converte o fornecedor atualizado para `FornecedorResponseDTO` e retorna.
+     * 3️⃣ Usa `enderecoMapper.aplicar(...)` para alterar o endereço atual no lugar (ou nada, se não mudou).
+     * 4️⃣ Propaga nome, tipo e endereço para os produtos dele em `produto_view` (um único UPDATE).
+     * 5️⃣ Converte o fornecedor atualizado para `FornecedorResponseDTO` e retorna.
      *
      * 🔥 **Uso da anotação `@Transactional`:**
      * ✅ Garante que todas as operações no banco sejam feitas dentro de uma transação.
@@ -125,21 +172,37 @@ public class FornecedorServiceImpl implements FornecedorService {
         Fornecedor fornecedor = fornecedorRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Fornecedor não encontrado"));
 
-        fornecedor.setNome(dto.nome());
-        fornecedor.setCnpj(dto.cnpj());
-        fornecedor.setTipoFornecedor(dto.tipoFornecedor());
-        fornecedor.setEndereco(enderecoMapper.toEntity(dto.endereco())); // Converte DTO de endereço para Entidade
+        aplicar(fornecedor, dto);
+        return registrarAlteracao(fornecedor); // Converte para DTO, grava o evento no outbox e retorna
+    }
 
-        return fornecedorMapper.toDTO(fornecedor); // Converte para DTO e retorna
+    /**
+     * 📌 Atualiza parcialmente um fornecedor (JSON Merge Patch).
+     *
+     * 🚀 **Fluxo deste método:**
+     * 1️⃣ Converte o fornecedor atual para `FornecedorRequestDTO`.
+     * 2️⃣ Mescla o patch sobre ele e valida o resultado com as mesmas regras do PUT.
+     * 3️⃣ Aplica na entidade; com `@DynamicUpdate`, o UPDATE leva só as colunas que mudaram.
+     */
+    @Transactional
+    @Override
+    public FornecedorResponseDTO atualizarParcialmenteFornecedorPeloId(Long id, JsonNode patch) {
+        Fornecedor fornecedor = fornecedorRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Fornecedor não encontrado"));
+
+        aplicar(fornecedor, mergePatchMapper.aplicar(fornecedorMapper.toRequestDTO(fornecedor), patch, FornecedorRequestDTO.class));
+        return registrarAlteracao(fornecedor);
     }
 
     /**
      * 📌 Deleta um fornecedor pelo ID.
      *
      * 🚀 **Fluxo deste método:**
-     * 1️⃣ Verifica se o fornecedor existe no banco.
-     * 2️⃣ Se não existir, lança erro `404 NOT FOUND`.
-     * 3️⃣ Usa `deleteById(id)` para remover o fornecedor.
+     * 1️⃣ Trava o fornecedor (`FOR UPDATE`); se ele não existe, lança erro `404 NOT FOUND`.
+     * 2️⃣ Se o fornecedor ainda tem produtos, lança erro `409 CONFLICT` (com produtos em shards não há FK para barrar;
+     *    a trava faz gravações concorrentes de produtos dele esperarem, então a checagem não fica velha).
+     * 3️⃣ Remove o fornecedor e o endereço dele com um único statement no banco.
+     * 4️⃣ Após o commit, remove o fornecedor do cache de segundo nível.
      *
      * 🔥 **Uso da anotação `@Transactional`:**
      * ✅ Garante que, se houver um erro no meio da execução, nenhuma operação parcial será aplicada.
@@ -147,9 +210,35 @@ public class FornecedorServiceImpl implements FornecedorService {
     @Transactional
     @Override
     public void deletarFornecedorPeloId(Long id) {
-        if (!fornecedorRepository.existsById(id)) { // Verifica se o fornecedor existe antes de deletar
+        if (fornecedorRepository.travarParaExclusao(id).isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fornecedor não encontrado");
         }
-        fornecedorRepository.deleteById(id); // Deleta o fornecedor
+        if (produtoService.existemProdutosDoFornecedor(id)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Fornecedor possui produtos cadastrados");
+        }
+        fornecedorRepository.deletarComEndereco(id); // Travado acima: a linha ainda existe
+        cacheSegundoNivelService.evictarFornecedorAposCommit(id); // Garante que não fique no cache de segundo nível
+        existenciaFornecedorService.removerAposCommit(id); // Tira o ID do conjunto de fornecedores existentes
+        alteracaoCatalogoService.registrarRemocao(RecursoCatalogoEnum.FORNECEDOR, id); // Lápide no feed de alterações
+        eventoOutboxService.registrarRemocao(RecursoCatalogoEnum.FORNECEDOR, id); // Evento "removido" no outbox
+    }
+
+    private void aplicar(Fornecedor fornecedor, FornecedorRequestDTO dto) {
+        alteracaoCatalogoService.registrarAlteracao(RecursoCatalogoEnum.FORNECEDOR, fornecedor.getId());
+        fornecedor.setNome(dto.nome());
+        fornecedor.setCnpj(dto.cnpj());
+        fornecedor.setTipoFornecedor(dto.tipoFornecedor());
+        fornecedor.setEndereco(enderecoMapper.aplicar(dto.endereco(), fornecedor.getEndereco())); // Atualiza o endereço no lugar
+        cacheSegundoNivelService.evictarFornecedorAposCommit(fornecedor.getId()); // Remove o fornecedor antigo do cache de segundo nível
+    }
+
+    // Produtos do fornecedor atualizados na visão pela mesma transação, com o fornecedor travado contra regravações
+    // concorrentes de produtos dele; o evento do outbox leva o estado devolvido na resposta
+    private FornecedorResponseDTO registrarAlteracao(Fornecedor fornecedor) {
+        produtoVisaoRepository.travarParaAlteracao(fornecedor.getId());
+        produtoVisaoRepository.atualizarDoFornecedor(fornecedor.getId());
+        FornecedorResponseDTO resposta = fornecedorMapper.toDTO(fornecedor);
+        eventoOutboxService.registrarAlteracao(RecursoCatalogoEnum.FORNECEDOR, fornecedor.getId(), resposta);
+        return resposta;
     }
 }
@@ -0,0 +1,125 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.RoteadorLeituraDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.QueryTimeoutException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 📌 Coalescência de leituras ("single flight"): leituras idênticas e simultâneas compartilham uma única carga.
+ *
+ * ✅ A primeira requisição para uma chave (recurso + id) executa a carga; as que chegam enquanto ela
+ *    está em andamento apenas aguardam o mesmo resultado (ou a mesma exceção).
+ * ✅ Deve envolver a chamada ao serviço `@Transactional`, e não ficar dentro dela: quem aguarda não
+ *    abre transação nem ocupa conexão do pool.
+ * ✅ Nada fica guardado depois que a carga termina; isto não é um cache.
+ * ✅ Carga com espera: a desconexão de quem a iniciou deixa de cancelar a consulta (`MonitorConsultasService`).
+ * ✅ Quem aguarda respeita o próprio prazo de `@TempoLimiteConsulta` (`QueryTimeoutException` ao estourar);
+ *    chamadas sem prazo não entram na coalescência e fazem a própria carga.
+ * ✅ Leitura após escrita: quem o `RoteadorLeituraDataSource` mandaria ao primário também carrega sozinho,
+ *    para não receber o resultado de uma réplica atrasada carregado por outro usuário.
+ *
+ * 📊 Métricas (tag `recurso`): `leitura.compartilhada.cargas`, `leitura.compartilhada.aguardas`,
+ *    `leitura.compartilhada.taxa` (aguardas / total) e `leitura.compartilhada.aguardando` (agora).
+ */
+@Service
+public class LeituraCompartilhadaService {
+
+    private final MeterRegistry meterRegistry;
+    private final MonitorConsultasService monitorConsultas;
+    private final RoteadorLeituraDataSource roteador;
+    private final Map<String, EmAndamento> emAndamento = new ConcurrentHashMap<>();
+    private final Map<String, Metricas> metricas = new ConcurrentHashMap<>();
+    private final AtomicInteger aguardando = new AtomicInteger();
+
+    public LeituraCompartilhadaService(MeterRegistry meterRegistry, MonitorConsultasService monitorConsultas,
+                                       ObjectProvider<RoteadorLeituraDataSource> roteador) {
+        this.meterRegistry = meterRegistry;
+        this.monitorConsultas = monitorConsultas;
+        this.roteador = roteador.getIfAvailable();
+        Gauge.builder("leitura.compartilhada.aguardando", aguardando, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T executar(String recurso, Object id, Supplier<T> carga) {
+        String chave = recurso + ":" + id;
+        Metricas metricasRecurso = metricas.computeIfAbsent(recurso, this::novasMetricas);
+        MonitorConsultasService.ConsultaMonitorada propria = monitorConsultas.atual();
+
+        if (propria == null || (roteador != null && roteador.leituraVaiAoPrimario())) {
+            metricasRecurso.cargas.increment();
+            return carga.get();
+        }
+
+        EmAndamento nova = new EmAndamento(new CompletableFuture<>(), propria);
+        EmAndamento existente = emAndamento.putIfAbsent(chave, nova);
+
+        if (existente != null) {
+            metricasRecurso.aguardas.increment();
+            aguardando.incrementAndGet();
+            existente.consulta().compartilhar();
+            try {
+                return (T) existente.futuro().get(propria.restanteMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw relancar(e.getCause());
+            } catch (TimeoutException e) {
+                throw new QueryTimeoutException("Tempo limite da requisição esgotado aguardando leitura compartilhada");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new QueryTimeoutException("Espera pela leitura compartilhada interrompida");
+            } finally {
+                aguardando.decrementAndGet();
+            }
+        }
+
+        metricasRecurso.cargas.increment();
+        try {
+            T resultado = carga.get();
+            nova.futuro().complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            nova.futuro().completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    private Metricas novasMetricas(String recurso) {
+        Counter cargas = Counter.builder("leitura.compartilhada.cargas").tag("recurso", recurso).register(meterRegistry);
+        Counter aguardas = Counter.builder("leitura.compartilhada.aguardas").tag("recurso", recurso).register(meterRegistry);
+        Gauge.builder("leitura.compartilhada.taxa", () -> {
+                    double total = cargas.count() + aguardas.count();
+                    return total == 0 ? 0.0 : aguardas.count() / total;
+                })
+                .tag("recurso", recurso)
+                .register(meterRegistry);
+        return new Metricas(cargas, aguardas);
+    }
+
+    private static RuntimeException relancar(Throwable causa) {
+        if (causa instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (causa instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(causa);
+    }
+
+    private record Metricas(Counter cargas, Counter aguardas) {}
+
+    private record EmAndamento(CompletableFuture<Object> futuro, MonitorConsultasService.ConsultaMonitorada consulta) {}
+}
@@ -0,0 +1,148 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.DegradacaoProperties;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 📌 Leituras com modo degradado ("stale-while-revalidate") para quando o pool de conexões esgota.
+ *
+ * 🚀 **Fluxo:**
+ * 1️⃣ A leitura passa pela coalescência (`LeituraCompartilhadaService`) e, dando certo, a resposta é guardada.
+ * 2️⃣ Se não houver conexão dentro do prazo do Hikari, devolve a última resposta boa com `Age` e `X-Cache: STALE`.
+ * 3️⃣ Em paralelo, agenda uma única atualização em segundo plano para aquela chave.
+ * 4️⃣ Sem resposta guardada, devolve `503` em vez de segurar a thread.
+ *
+ * ✅ O limite é por itens, não por entradas: uma listagem completa pesa o tamanho da lista
+ *    (JSON pronto: um item por KB), então poucas listagens grandes não passam da memória prevista.
+ */
+@Service
+public class LeituraResilienteService {
+
+    public static final String CABECALHO_CACHE = "X-Cache";
+
+    private final LeituraCompartilhadaService leituraCompartilhada;
+    private final TaskExecutor executor;
+    private final Cache<String, Resposta> ultimas;
+    private final Set<String> atualizando = ConcurrentHashMap.newKeySet();
+    private final Counter desatualizadas;
+    private final Counter indisponiveis;
+
+    public LeituraResilienteService(LeituraCompartilhadaService leituraCompartilhada,
+                                    @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+                                    DegradacaoProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.leituraCompartilhada = leituraCompartilhada;
+        this.executor = executor;
+        this.ultimas = Caffeine.newBuilder()
+                .maximumWeight(properties.maximoItens())
+                .weigher((String chave, Resposta resposta) -> peso(resposta.valor()))
+                .expireAfterWrite(properties.idadeMaxima())
+                .build();
+        this.desatualizadas = Counter.builder("leitura.degradada").tag("resultado", "desatualizada").register(meterRegistry);
+        this.indisponiveis = Counter.builder("leitura.degradada").tag("resultado", "indisponivel").register(meterRegistry);
+    }
+
+    public <T> ResponseEntity<T> ler(String recurso, Object id, Supplier<T> carga) {
+        String chave = recurso + ":" + id;
+        try {
+            return ResponseEntity.ok(carregar(chave, recurso, id, carga));
+        } catch (RuntimeException e) {
+            if (!semConexao(e)) {
+                throw e;
+            }
+            return desatualizada(chave, recurso, id, carga);
+        }
+    }
+
+    /**
+     * 📌 Indica se a falha foi por não conseguir conexão do pool (timeout do Hikari ou banco fora do ar).
+     */
+    public static boolean semConexao(Throwable erro) {
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLTransientConnectionException || causa instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> T carregar(String chave, String recurso, Object id, Supplier<T> carga) {
+        T valor = leituraCompartilhada.executar(recurso, id, carga);
+        ultimas.put(chave, new Resposta(valor, Instant.now()));
+        return valor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> desatualizada(String chave, String recurso, Object id, Supplier<T> carga) {
+        Resposta resposta = ultimas.getIfPresent(chave);
+        if (resposta == null) {
+            indisponiveis.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Banco de dados indisponível no momento");
+        }
+
+        desatualizadas.increment();
+        atualizarEmSegundoPlano(chave, recurso, id, carga);
+        long idade = Duration.between(resposta.instante(), Instant.now()).toSeconds();
+        return ResponseEntity.ok()
+                .header("Age", String.valueOf(idade))
+                .header(CABECALHO_CACHE, "STALE")
+                .body((T) resposta.valor());
+    }
+
+    private <T> void atualizarEmSegundoPlano(String chave, String recurso, Object id, Supplier<T> carga) {
+        if (!atualizando.add(chave)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    carregar(chave, recurso, id, carga);
+                } catch (RuntimeException ignorada) {
+                    // Continua servindo a resposta antiga; a próxima leitura degradada tenta de novo
+                } finally {
+                    atualizando.remove(chave);
+                }
+            });
+        } catch (RuntimeException rejeitada) {
+            atualizando.remove(chave);
+        }
+    }
+
+    private static int peso(Object valor) {
+        if (valor instanceof Collection<?> colecao) {
+            return Math.max(1, colecao.size());
+        }
+        if (valor instanceof Map<?, ?> mapa) {
+            return Math.max(1, mapa.size());
+        }
+        if (valor instanceof ProdutosNormalizadosResponseDTO normalizados) {
+            return Math.max(1, normalizados.produtos().size() + normalizados.fornecedores().size());
+        }
+        if (valor instanceof CharSequence texto) {
+            return 1 + texto.length() / 1024;
+        }
+        return 1;
+    }
+
+    private record Resposta(Object valor, Instant instante) {}
+}
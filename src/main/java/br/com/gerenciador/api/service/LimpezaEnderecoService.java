@@ -0,0 +1,70 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.config.LimpezaEnderecoProperties;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.repository.EnderecoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📌 Remove, em segundo plano, os endereços que ficaram órfãos na tabela `endereco`.
+ *
+ * ✅ Trabalha em lotes, cada um na sua própria transação curta.
+ * ✅ Para quando não há mais órfãos ou quando atinge `maximoLotes`; o restante fica para a próxima execução.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.limpeza-enderecos", name = "habilitado", havingValue = "true", matchIfMissing = true)
+@Bulkhead(CargaTrabalhoEnum.MANUTENCAO)
+public class LimpezaEnderecoService {
+
+    private final EnderecoRepository enderecoRepository;
+    private final LimpezaEnderecoProperties properties;
+    private final RegistroAssincronoService registro;
+    private final TransactionTemplate transacao;
+
+    public LimpezaEnderecoService(EnderecoRepository enderecoRepository,
+                                  LimpezaEnderecoProperties properties,
+                                  RegistroAssincronoService registro,
+                                  PlatformTransactionManager transactionManager) {
+        this.enderecoRepository = enderecoRepository;
+        this.properties = properties;
+        this.registro = registro;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.limpeza-enderecos.intervalo:1h}",
+            fixedDelayString = "${app.limpeza-enderecos.intervalo:1h}")
+    public void executarAgendado() {
+        removerOrfaos();
+    }
+
+    /**
+     * 📌 Executa a limpeza e devolve quantos endereços foram removidos.
+     */
+    public int removerOrfaos() {
+        int total = 0;
+        for (int lote = 0; lote < properties.maximoLotes(); lote++) {
+            Integer removidos = transacao.execute(status -> {
+                List<Long> ids = enderecoRepository.buscarIdsOrfaos(Limit.of(properties.tamanhoLote()));
+                return ids.isEmpty() ? 0 : enderecoRepository.deletarOrfaos(ids);
+            });
+            total += removidos;
+            if (removidos < properties.tamanhoLote()) {
+                break;
+            }
+        }
+
+        if (total > 0 && registro.deveRegistrar("manutencao")) {
+            registro.registrar("manutencao", "Endereços órfãos removidos", Map.of("quantidade", total));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.gerenciador.api.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * 📌 Em qual shard ficam os produtos de cada fornecedor (`app.shards.mapa`).
+ *
+ * ✅ Todos os produtos de um fornecedor ficam no mesmo shard: operações de um produto ou de um
+ *    fornecedor tocam um banco só.
+ * ✅ Leitura e escrita são separadas: durante um rebalanceamento, as leituras continuam na origem
+ *    e as escritas do fornecedor em movimento são recusadas (503) até a troca.
+ * ✅ Mapas fixos (sem diretório) não suportam rebalanceamento.
+ */
+public interface MapaShards {
+
+    List<String> shards();
+
+    String shardParaLeitura(Long fornecedorId);
+
+    String shardParaEscrita(Long fornecedorId);
+
+    default void iniciarMovimento(Long fornecedorId, String destino) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O mapa de shards configurado não permite rebalanceamento");
+    }
+
+    default void concluirMovimento(Long fornecedorId, String destino) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O mapa de shards configurado não permite rebalanceamento");
+    }
+
+    default void cancelarMovimento(Long fornecedorId) {
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O mapa de shards configurado não permite rebalanceamento");
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.gerenciador.api.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📌 Mapa com diretório: a posição de cada fornecedor fica gravada em `shard_fornecedor` (banco principal).
+ *
+ * ✅ Na primeira escrita de um fornecedor, o anel de hash escolhe o shard e a escolha é gravada
+ *    (`ON CONFLICT DO NOTHING`: instâncias concorrentes ficam com a mesma linha). Daí em diante vale o diretório,
+ *    então incluir um shard não move ninguém: quem move é o rebalanceamento.
+ * ✅ O diretório inteiro fica em memória e é relido a cada `intervaloAtualizacaoMapa`; só há linha para
+ *    fornecedores que já tiveram produto, então ele é pequeno.
+ * ✅ `movendo_para` preenchido = fornecedor em rebalanceamento: lê da origem, escrita recusada com 503.
+ */
+public class MapaShardsDiretorio implements MapaShards {
+
+    private final JdbcTemplate primario;
+    private final MapaShardsHash posicionamento;
+    private volatile Map<Long, Posicao> posicoes = Map.of();
+
+    public MapaShardsDiretorio(JdbcTemplate primario, MapaShardsHash posicionamento) {
+        this.primario = primario;
+        this.posicionamento = posicionamento;
+    }
+
+    @Override
+    public List<String> shards() {
+        return posicionamento.shards();
+    }
+
+    @Override
+    public String shardParaLeitura(Long fornecedorId) {
+        Posicao posicao = posicoes.get(fornecedorId);
+        return posicao != null ? posicao.shard() : posicionamento.posicionar(fornecedorId);
+    }
+
+    @Override
+    public String shardParaEscrita(Long fornecedorId) {
+        Posicao posicao = posicoes.get(fornecedorId);
+        if (posicao == null) {
+            posicao = fixar(fornecedorId);
+        }
+        if (posicao.movendoPara() != null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Produtos do fornecedor " + fornecedorId + " estão mudando de shard; tente novamente em instantes");
+        }
+        return posicao.shard();
+    }
+
+    @Override
+    public void iniciarMovimento(Long fornecedorId, String destino) {
+        validar(destino);
+        fixar(fornecedorId);
+        int marcados = primario.update(
+                "UPDATE shard_fornecedor SET movendo_para = ? WHERE fornecedor_id = ? AND movendo_para IS NULL",
+                destino, fornecedorId);
+        if (marcados == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "O fornecedor " + fornecedorId + " já está mudando de shard");
+        }
+        atualizar();
+    }
+
+    @Override
+    public void concluirMovimento(Long fornecedorId, String destino) {
+        primario.update("UPDATE shard_fornecedor SET shard = ?, movendo_para = NULL WHERE fornecedor_id = ?",
+                destino, fornecedorId);
+        atualizar();
+    }
+
+    @Override
+    public void cancelarMovimento(Long fornecedorId) {
+        primario.update("UPDATE shard_fornecedor SET movendo_para = NULL WHERE fornecedor_id = ?", fornecedorId);
+        atualizar();
+    }
+
+    /**
+     * 📌 Relê o diretório inteiro e troca o mapa em memória de uma vez.
+     */
+    @Scheduled(fixedDelayString = "${app.shards.intervalo-atualizacao-mapa:5s}")
+    public void atualizar() {
+        Map<Long, Posicao> lidas = new HashMap<>();
+        primario.query("SELECT fornecedor_id, shard, movendo_para FROM shard_fornecedor", linha -> {
+            lidas.put(linha.getLong(1), new Posicao(linha.getString(2), linha.getString(3)));
+        });
+        posicoes = Map.copyOf(lidas);
+    }
+
+    private Posicao fixar(Long fornecedorId) {
+        primario.update("INSERT INTO shard_fornecedor (fornecedor_id, shard) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                fornecedorId, posicionamento.posicionar(fornecedorId));
+        Posicao posicao = primario.queryForObject(
+                "SELECT shard, movendo_para FROM shard_fornecedor WHERE fornecedor_id = ?",
+                (linha, numero) -> new Posicao(linha.getString(1), linha.getString(2)), fornecedorId);
+        synchronized (this) {
+            Map<Long, Posicao> novas = new HashMap<>(posicoes);
+            novas.put(fornecedorId, posicao);
+            posicoes = Map.copyOf(novas);
+        }
+        return posicao;
+    }
+
+    private void validar(String shard) {
+        if (!shards().contains(shard)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Shard desconhecido: " + shard + ". Shards: " + String.join(",", shards()));
+        }
+    }
+
+    private record Posicao(String shard, String movendoPara) {}
+}
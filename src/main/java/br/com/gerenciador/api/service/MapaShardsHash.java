@@ -0,0 +1,72 @@
+package br.com.gerenciador.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 📌 Mapa fixo: anel de hash consistente com `nosVirtuais` pontos por shard.
+ *
+ * ✅ Determinístico: todas as instâncias com os mesmos shards chegam ao mesmo resultado, sem consultar nada.
+ * ✅ Ao incluir um shard, só ~1/N dos fornecedores mudariam de lugar; por isso o mapa `diretorio` usa o anel
+ *    apenas para posicionar fornecedores novos e grava a posição escolhida.
+ */
+public class MapaShardsHash implements MapaShards {
+
+    private final List<String> shards;
+    private final NavigableMap<Long, String> anel = new TreeMap<>();
+
+    public MapaShardsHash(List<String> shards, int nosVirtuais) {
+        this.shards = List.copyOf(shards);
+        for (String shard : shards) {
+            for (int i = 0; i < nosVirtuais; i++) {
+                anel.put(hash(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    @Override
+    public List<String> shards() {
+        return shards;
+    }
+
+    @Override
+    public String shardParaLeitura(Long fornecedorId) {
+        return posicionar(fornecedorId);
+    }
+
+    @Override
+    public String shardParaEscrita(Long fornecedorId) {
+        return posicionar(fornecedorId);
+    }
+
+    public String posicionar(Long fornecedorId) {
+        Map.Entry<Long, String> ponto = anel.ceilingEntry(misturar(fornecedorId));
+        return (ponto != null ? ponto : anel.firstEntry()).getValue();
+    }
+
+    // Finalizador do SplitMix64: IDs sequenciais se espalham pelo anel inteiro
+    private static long misturar(long valor) {
+        long z = valor + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long hash(String texto) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(texto.getBytes(StandardCharsets.UTF_8));
+            long valor = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                valor = (valor << 8) | (digest[i] & 0xFF);
+            }
+            return valor;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.ConsultasProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.QueryTimeoutException;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 📌 Acompanha as consultas das requisições com `@TempoLimiteConsulta` e cancela, durante a execução,
+ *    as que estouraram o prazo ou cujo cliente já foi embora.
+ *
+ * 🚀 **Como a sessão chega aqui (sem open-in-view):**
+ * 1️⃣ O `TempoLimiteConsultaAspect` registra o prazo da requisição (`iniciar`).
+ * 2️⃣ Cada transação JPA aberta depois disso, na mesma thread, entrega a sua sessão em `vincular`
+ *    (inicializador do `JpaTransactionManager`, ver `TempoLimiteConsultaConfig`).
+ *
+ * ✅ Prazo estourado: cancela a consulta em andamento uma única vez (vale também para `findById`, que não
+ *    recebe hints, e para prazos menores que 1 s, que o JDBC não representa).
+ * ✅ Cliente desconectado: conferido ao abrir cada transação (que nem chega a pegar conexão) e, com a consulta
+ *    em andamento, pela thread de verificação, que marca a desconexão e cancela a consulta na hora.
+ *    A sondagem fora da thread da requisição é segura porque só acontece antes de `finalizar`, e até lá a
+ *    requisição não toca no socket (ver `DesconexaoClienteConfig`).
+ * ✅ Carga compartilhada com outras requisições (coalescência) nunca é cancelada por desconexão.
+ * ✅ O cancelamento usa `Session.cancelQuery()`, o único método da sessão seguro para chamar de outra thread.
+ *
+ * 📊 Métrica: `consultas.canceladas` (tag `motivo`: `tempo_limite` ou `desconexao`).
+ */
+@Service
+public class MonitorConsultasService {
+
+    public static final String HINT_TEMPO_LIMITE = "jakarta.persistence.query.timeout";
+
+    private static final ThreadLocal<ConsultaMonitorada> ATUAL = new ThreadLocal<>();
+
+    private final ConsultasProperties properties;
+    private final Set<ConsultaMonitorada> ativas = ConcurrentHashMap.newKeySet();
+    private final Counter canceladasPorTempo;
+    private final Counter canceladasPorDesconexao;
+    private ScheduledExecutorService verificador;
+
+    public MonitorConsultasService(ConsultasProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.canceladasPorTempo = Counter.builder("consultas.canceladas").tag("motivo", "tempo_limite").register(meterRegistry);
+        this.canceladasPorDesconexao = Counter.builder("consultas.canceladas").tag("motivo", "desconexao").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        verificador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "monitor-consultas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = properties.intervaloVerificacao().toMillis();
+        verificador.scheduleWithFixedDelay(this::verificar, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        verificador.shutdownNow();
+    }
+
+    /**
+     * 📌 Começa a monitorar a thread atual; devolve `null` se ela já está sendo monitorada (chamada aninhada).
+     */
+    public ConsultaMonitorada iniciar(long tempoLimiteMillis, BooleanSupplier clienteDesconectado) {
+        if (ATUAL.get() != null) {
+            return null;
+        }
+        BooleanSupplier desconexao = properties.cancelarAoDesconectar() ? clienteDesconectado : () -> false;
+        ConsultaMonitorada consulta = new ConsultaMonitorada(System.nanoTime() + tempoLimiteMillis * 1_000_000, desconexao);
+        ATUAL.set(consulta);
+        ativas.add(consulta);
+        return consulta;
+    }
+
+    public void finalizar(ConsultaMonitorada consulta) {
+        ATUAL.remove();
+        ativas.remove(consulta);
+        consulta.finalizar();
+    }
+
+    /**
+     * 📌 Liga a sessão de uma transação recém-aberta à consulta monitorada da thread (se houver).
+     */
+    public void vincular(EntityManager entityManager) {
+        ConsultaMonitorada consulta = ATUAL.get();
+        if (consulta != null) {
+            consulta.vincular(entityManager.unwrap(Session.class));
+        }
+    }
+
+    /**
+     * 📌 Consulta monitorada da thread atual (ou `null`).
+     */
+    public ConsultaMonitorada atual() {
+        return ATUAL.get();
+    }
+
+    private void verificar() {
+        for (ConsultaMonitorada consulta : ativas) {
+            try {
+                consulta.verificar();
+            } catch (RuntimeException ignorada) {
+                // Cancelar uma consulta que acabou de terminar pode falhar; a próxima volta confere de novo
+            }
+        }
+    }
+
+    public final class ConsultaMonitorada {
+
+        private final long prazoNanos;
+        private final BooleanSupplier clienteDesconectado;
+        private volatile boolean compartilhada;
+        private volatile boolean desconectado;
+        private Session sessao;
+        private boolean cancelada;
+        private boolean finalizada;
+
+        private ConsultaMonitorada(long prazoNanos, BooleanSupplier clienteDesconectado) {
+            this.prazoNanos = prazoNanos;
+            this.clienteDesconectado = clienteDesconectado;
+        }
+
+        /**
+         * 📌 Outras requisições passaram a aguardar esta carga: a desconexão deste cliente não recusa novas
+         *    transações nem cancela a consulta em andamento.
+         */
+        public void compartilhar() {
+            compartilhada = true;
+        }
+
+        /**
+         * 📌 Quanto falta para o prazo da requisição (0 se já passou).
+         */
+        public long restanteMillis() {
+            return Math.max(0, (prazoNanos - System.nanoTime()) / 1_000_000);
+        }
+
+        // Roda na thread da requisição, dentro do `doBegin` da transação: pode olhar o socket e recusar a transação
+        private synchronized void vincular(Session nova) {
+            long restanteMillis = (prazoNanos - System.nanoTime()) / 1_000_000;
+            if (restanteMillis <= 0) {
+                canceladasPorTempo.increment();
+                throw new QueryTimeoutException("Tempo limite da requisição esgotado antes da transação");
+            }
+            if (!compartilhada && (desconectado || clienteDesconectado.getAsBoolean())) {
+                desconectado = true;
+                canceladasPorDesconexao.increment();
+                throw new IllegalStateException("Cliente desconectado; transação não iniciada");
+            }
+            nova.setProperty(HINT_TEMPO_LIMITE, (int) restanteMillis);
+            sessao = nova;
+            cancelada = false;
+        }
+
+        // Sincronizado com `vincular`/`finalizar`: nunca toca numa sessão que a requisição já largou nem no
+        // socket depois que ela voltou a usá-lo para escrever a resposta
+        private synchronized void verificar() {
+            if (finalizada || cancelada || sessao == null || !sessao.isOpen()) {
+                return;
+            }
+            if (System.nanoTime() > prazoNanos) {
+                cancelada = true;
+                sessao.cancelQuery();
+                canceladasPorTempo.increment();
+            } else if (!compartilhada && clienteDesconectado.getAsBoolean()) {
+                desconectado = true;
+                cancelada = true;
+                sessao.cancelQuery();
+                canceladasPorDesconexao.increment();
+            }
+        }
+
+        private synchronized void finalizar() {
+            finalizada = true;
+        }
+    }
+}
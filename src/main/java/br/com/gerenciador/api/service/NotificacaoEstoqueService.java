@@ -0,0 +1,296 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.NotificacaoEstoqueProperties;
+import br.com.gerenciador.api.dto.EventoEstoqueDTO;
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 📌 Push de mudanças de estoque/preço para clientes conectados via Server-Sent Events.
+ *
+ * ✅ Um único despachante (thread `despacho-estoque`) atende todas as conexões: a cada `intervaloEnvio` ele pega
+ *    as últimas mudanças publicadas, distribui para os assinantes do produto ou do fornecedor e agenda os envios.
+ * ✅ Coalescência: mudanças seguidas do mesmo produto, tanto na publicação quanto no buffer de cada assinante,
+ *    viram um único evento com o valor mais recente. Nada disso consulta o banco.
+ * ✅ "Mais recente" é pela sequência do feed de alterações, que segue a ordem dos commits: os `afterCommit` de
+ *    duas transações podem rodar na ordem inversa, e a versão mais antiga nunca substitui a mais nova (nem é
+ *    distribuída depois dela, dentro de `JANELA_REORDENACAO`).
+ * ✅ Buffer limitado por assinante: quem acumula mais que `capacidadePorAssinante` produtos pendentes, ou fica
+ *    com um envio travado além de `tempoMaximoEnvio`, é desconectado (o cliente reconecta e relê o estado).
+ * ✅ As escritas nas conexões rodam num pool pequeno, com no máximo um envio em andamento por assinante.
+ * ✅ O despachante nunca bloqueia numa conexão: desconectar só tira o assinante das listas e o `complete()`
+ *    (que espera um `send()` travado terminar) roda no pool `encerramento-estoque`. Um `send()` travado cai
+ *    pelo tempo limite de escrita do Tomcat (`server.tomcat.connection-timeout`).
+ *
+ * 📊 Métricas: `sse.estoque.assinantes`, `sse.estoque.eventos`, `sse.estoque.desconectados` (tag `motivo`),
+ *    `sse.estoque.falhas.despacho`.
+ */
+@Service
+public class NotificacaoEstoqueService {
+
+    // Bem acima do intervalo entre o commit e o `afterCommit`; depois disso a versão distribuída é esquecida
+    private static final long JANELA_REORDENACAO = TimeUnit.MINUTES.toNanos(1);
+
+    private final NotificacaoEstoqueProperties properties;
+    private final RegistroAssincronoService registro;
+    private final AlteracaoCatalogoService alteracaoCatalogoService;
+    private final Map<Long, Versionado> publicados = new ConcurrentHashMap<>();
+    private final Map<Long, Distribuido> distribuidos = new ConcurrentHashMap<>();
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Assinante>> porProduto = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Assinante>> porFornecedor = new ConcurrentHashMap<>();
+    private final Counter eventosEnviados;
+    private final Counter desconectadosLentos;
+    private final Counter desconectadosErro;
+    private final Counter falhasDespacho;
+    private ScheduledExecutorService despachante;
+    private ExecutorService envio;
+    private ExecutorService encerramento;
+
+    public NotificacaoEstoqueService(NotificacaoEstoqueProperties properties, RegistroAssincronoService registro,
+                                     AlteracaoCatalogoService alteracaoCatalogoService, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.registro = registro;
+        this.alteracaoCatalogoService = alteracaoCatalogoService;
+        Gauge.builder("sse.estoque.assinantes", assinantes, Set::size).register(meterRegistry);
+        this.eventosEnviados = Counter.builder("sse.estoque.eventos").register(meterRegistry);
+        this.desconectadosLentos = Counter.builder("sse.estoque.desconectados").tag("motivo", "lento").register(meterRegistry);
+        this.desconectadosErro = Counter.builder("sse.estoque.desconectados").tag("motivo", "erro").register(meterRegistry);
+        this.falhasDespacho = Counter.builder("sse.estoque.falhas.despacho").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        despachante = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "despacho-estoque");
+            thread.setDaemon(true);
+            return thread;
+        });
+        envio = Executors.newFixedThreadPool(properties.threadsEnvio(), tarefa -> {
+            Thread thread = new Thread(tarefa, "envio-estoque");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Sem limite de threads: cada uma fica presa no máximo até o tempo limite de escrita do Tomcat
+        encerramento = Executors.newCachedThreadPool(tarefa -> {
+            Thread thread = new Thread(tarefa, "encerramento-estoque");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = properties.intervaloEnvio().toMillis();
+        despachante.scheduleWithFixedDelay(this::despachar, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        despachante.shutdownNow();
+        envio.shutdownNow();
+        encerramento.shutdownNow();
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+    }
+
+    /**
+     * 📌 Abre uma assinatura para um conjunto de produtos ou para todos os produtos de um fornecedor.
+     */
+    public SseEmitter inscrever(Collection<Long> produtoIds, Long fornecedorId) {
+        Set<Long> produtos = produtoIds == null ? Set.of() : Set.copyOf(produtoIds);
+        if (produtos.isEmpty() == (fornecedorId == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe `ids` ou `fornecedorId` (apenas um deles)");
+        }
+        if (produtos.size() > properties.maximoProdutosPorAssinatura()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Máximo de " + properties.maximoProdutosPorAssinatura() + " produtos por assinatura");
+        }
+        if (assinantes.size() >= properties.maximoAssinantes()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Limite de conexões de eventos atingido");
+        }
+
+        Assinante assinante = new Assinante(new SseEmitter(properties.duracaoConexao().toMillis()), produtos, fornecedorId);
+        assinante.emitter.onCompletion(() -> remover(assinante));
+        assinante.emitter.onTimeout(() -> remover(assinante));
+        assinante.emitter.onError(erro -> remover(assinante));
+
+        assinantes.add(assinante);
+        produtos.forEach(id -> porProduto.computeIfAbsent(id, chave -> ConcurrentHashMap.newKeySet()).add(assinante));
+        if (fornecedorId != null) {
+            porFornecedor.computeIfAbsent(fornecedorId, chave -> ConcurrentHashMap.newKeySet()).add(assinante);
+        }
+        return assinante.emitter;
+    }
+
+    /**
+     * 📌 Publica a mudança quando (e se) a transação atual confirmar, com a sequência que o produto recebeu
+     *    no feed de alterações; a transação precisa ter registrado a alteração do produto.
+     */
+    public void publicarAposCommit(EventoEstoqueDTO evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Eventos de estoque só podem ser publicados dentro de uma transação");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Long versao = alteracaoCatalogoService.sequenciaDaTransacao(RecursoCatalogoEnum.PRODUTO, evento.produtoId());
+                if (versao == null) {
+                    throw new IllegalStateException("Alteração do produto " + evento.produtoId() + " não registrada no feed");
+                }
+                publicados.merge(evento.produtoId(), new Versionado(evento, versao), Versionado::maisNovo);
+            }
+        });
+    }
+
+    private void despachar() {
+        try {
+            long agora = System.nanoTime();
+            for (Long produtoId : publicados.keySet()) {
+                Versionado publicado = publicados.remove(produtoId);
+                if (publicado != null && naoDistribuidoAinda(publicado, agora)) {
+                    distribuir(publicado);
+                }
+            }
+            distribuidos.values().removeIf(distribuido -> agora - distribuido.instante() > JANELA_REORDENACAO);
+            for (Assinante assinante : assinantes) {
+                agendarEnvio(assinante, agora);
+            }
+        } catch (RuntimeException e) {
+            // O despachante nunca pode morrer: uma falha pontual só adia os eventos para a próxima volta
+            falhasDespacho.increment();
+            if (registro.deveRegistrar("sse")) {
+                registro.registrar("sse", "Falha no despacho de eventos de estoque", Map.of("erro", String.valueOf(e)));
+            }
+        }
+    }
+
+    // Um `afterCommit` atrasado pode chegar depois que a versão mais nova já saiu para os assinantes
+    private boolean naoDistribuidoAinda(Versionado publicado, long agora) {
+        Distribuido novo = new Distribuido(publicado.versao(), agora);
+        return distribuidos.merge(publicado.evento().produtoId(), novo,
+                (atual, candidato) -> candidato.versao() > atual.versao() ? candidato : atual) == novo;
+    }
+
+    private void distribuir(Versionado publicado) {
+        EventoEstoqueDTO evento = publicado.evento();
+        Set<Assinante> doProduto = porProduto.getOrDefault(evento.produtoId(), Set.of());
+        Set<Assinante> doFornecedor = evento.fornecedorId() == null
+                ? Set.of()
+                : porFornecedor.getOrDefault(evento.fornecedorId(), Set.of());
+        doProduto.forEach(assinante -> enfileirar(assinante, publicado));
+        doFornecedor.forEach(assinante -> enfileirar(assinante, publicado));
+    }
+
+    private void enfileirar(Assinante assinante, Versionado publicado) {
+        boolean lento;
+        synchronized (assinante) {
+            assinante.pendentes.merge(publicado.evento().produtoId(), publicado, Versionado::maisNovo);
+            lento = assinante.pendentes.size() > properties.capacidadePorAssinante();
+        }
+        if (lento) {
+            desconectar(assinante, desconectadosLentos);
+        }
+    }
+
+    private void agendarEnvio(Assinante assinante, long agora) {
+        long inicioEnvio = assinante.enviandoDesde;
+        if (inicioEnvio != 0) {
+            if (agora - inicioEnvio > properties.tempoMaximoEnvio().toNanos()) {
+                desconectar(assinante, desconectadosLentos);
+            }
+            return;
+        }
+
+        List<EventoEstoqueDTO> lote;
+        synchronized (assinante) {
+            lote = assinante.pendentes.values().stream().map(Versionado::evento).toList();
+            assinante.pendentes.clear();
+        }
+        boolean heartbeat = agora - assinante.ultimoEnvio > properties.heartbeat().toNanos();
+        if (lote.isEmpty() && !heartbeat) {
+            return;
+        }
+
+        assinante.enviandoDesde = agora;
+        assinante.ultimoEnvio = agora;
+        envio.execute(() -> {
+            try {
+                if (lote.isEmpty()) {
+                    assinante.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                for (EventoEstoqueDTO evento : lote) {
+                    if (assinante.desconectado) {
+                        return;
+                    }
+                    assinante.emitter.send(SseEmitter.event().name("estoque").data(evento));
+                }
+                eventosEnviados.increment(lote.size());
+            } catch (IOException | IllegalStateException e) {
+                desconectar(assinante, desconectadosErro);
+            } finally {
+                assinante.enviandoDesde = 0;
+            }
+        });
+    }
+
+    private void desconectar(Assinante assinante, Counter motivo) {
+        if (remover(assinante)) {
+            motivo.increment();
+            encerramento.execute(assinante.emitter::complete);
+        }
+    }
+
+    private boolean remover(Assinante assinante) {
+        if (!assinantes.remove(assinante)) {
+            return false;
+        }
+        assinante.desconectado = true;
+        assinante.produtos.forEach(id -> porProduto.computeIfPresent(id, (chave, lista) -> {
+            lista.remove(assinante);
+            return lista.isEmpty() ? null : lista;
+        }));
+        if (assinante.fornecedorId != null) {
+            porFornecedor.computeIfPresent(assinante.fornecedorId, (chave, lista) -> {
+                lista.remove(assinante);
+                return lista.isEmpty() ? null : lista;
+            });
+        }
+        return true;
+    }
+
+    private static final class Assinante {
+
+        private final SseEmitter emitter;
+        private final Set<Long> produtos;
+        private final Long fornecedorId;
+        private final LinkedHashMap<Long, Versionado> pendentes = new LinkedHashMap<>();
+        private volatile boolean desconectado;
+        private volatile long enviandoDesde;
+        private volatile long ultimoEnvio = System.nanoTime();
+
+        private Assinante(SseEmitter emitter, Set<Long> produtos, Long fornecedorId) {
+            this.emitter = emitter;
+            this.produtos = produtos;
+            this.fornecedorId = fornecedorId;
+        }
+    }
+
+    private record Versionado(EventoEstoqueDTO evento, long versao) {
+
+        private static Versionado maisNovo(Versionado atual, Versionado candidato) {
+            return candidato.versao > atual.versao ? candidato : atual;
+        }
+    }
+
+    private record Distribuido(long versao, long instante) {}
+}
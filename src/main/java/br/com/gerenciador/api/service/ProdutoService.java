@@ -1,15 +1,33 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
+import br.com.gerenciador.api.dto.ExclusaoEmLoteResponseDTO;
 import br.com.gerenciador.api.dto.ProdutoRequestDTO;
 import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ProdutoService {
 
     ProdutoResponseDTO criarProduto(ProdutoRequestDTO dto);
+    List<ProdutoResponseDTO> criarEmLote(List<ProdutoRequestDTO> dtos);
     List<ProdutoResponseDTO> listarTodos();
+    String listarTodosJson();
+    ProdutosNormalizadosResponseDTO listarTodosNormalizado();
     ProdutoResponseDTO buscarPorId(Long id);
+    String buscarPorIdJson(Long id);
+    BuscaMultiplaResponseDTO<ProdutoResponseDTO> buscarPorIds(List<Long> ids);
+    AlteracoesResponseDTO<ProdutoResponseDTO> listarAlteracoes(String since, Integer limite);
+    List<Map<String, Object>> listarCampos(String fields);
+    Map<String, Object> buscarCampos(Long id, String fields);
+    long contarProdutos();
+    boolean existemProdutosDoFornecedor(Long fornecedorId);
     ProdutoResponseDTO atualizar(Long id, ProdutoRequestDTO dto);
+    ProdutoResponseDTO atualizarParcialmente(Long id, JsonNode patch);
     void deletar(Long id);
+    ExclusaoEmLoteResponseDTO deletarEmLote(List<Long> ids);
 }
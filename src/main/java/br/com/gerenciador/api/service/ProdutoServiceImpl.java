@@ -1,73 +1,258 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.BuscaMultiplaResponseDTO;
+import br.com.gerenciador.api.dto.EventoEstoqueDTO;
+import br.com.gerenciador.api.dto.ExclusaoEmLoteResponseDTO;
 import br.com.gerenciador.api.dto.ProdutoRequestDTO;
 import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.dto.ProdutosNormalizadosResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.enums.RecursoCatalogoEnum;
+import br.com.gerenciador.api.mapper.MergePatchMapper;
 import br.com.gerenciador.api.mapper.ProdutoMapper;
 import br.com.gerenciador.api.model.Fornecedor;
 import br.com.gerenciador.api.model.Produto;
 import br.com.gerenciador.api.repository.FornecedorRepository;
-import br.com.gerenciador.api.repository.ProdutoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
+/**
+ * 📌 `ProdutoService`: regras, feed de alterações, outbox e notificações de estoque.
+ *
+ * ✅ As linhas de produto ficam com o `ArmazenamentoProdutos` configurado: banco principal com o modelo de
+ *    leitura `produto_view` ou tabela particionada entre shards (`app.shards.habilitado`).
+ * ✅ Fornecedores, feed e outbox ficam sempre na transação do banco principal.
+ */
 @Service
 @RequiredArgsConstructor
+@Bulkhead(CargaTrabalhoEnum.CATALOGO_ESCRITA)
 public class ProdutoServiceImpl implements ProdutoService {
 
-    private final ProdutoRepository produtoRepository;
+    // Máximo de IDs aceito por requisição de exclusão em lote
+    static final int MAXIMO_IDS_EXCLUSAO = 10_000;
+
+    private final ArmazenamentoProdutos armazenamento;
     private final FornecedorRepository fornecedorRepository;
     private final ProdutoMapper produtoMapper;
+    private final MergePatchMapper mergePatchMapper;
+    private final ExistenciaFornecedorService existenciaFornecedorService;
+    private final AlteracaoCatalogoService alteracaoCatalogoService;
+    private final NotificacaoEstoqueService notificacaoEstoqueService;
+    private final EventoOutboxService eventoOutboxService;
 
+    @Transactional
     @Override
     public ProdutoResponseDTO criarProduto(ProdutoRequestDTO dto) {
         Produto produto = produtoMapper.toEntity(dto);
         produto.setFornecedor(buscarFornecedor(dto.fornecedorId()));
-        return produtoMapper.toDTO(produtoRepository.save(produto));
+        produto = armazenamento.inserir(produto);
+        alteracaoCatalogoService.registrarCriacao(RecursoCatalogoEnum.PRODUTO, produto.getId());
+        ProdutoResponseDTO resposta = produtoMapper.toDTO(produto);
+        eventoOutboxService.registrarCriacao(RecursoCatalogoEnum.PRODUTO, produto.getId(), resposta);
+        return resposta;
     }
 
+    /**
+     * 📌 Cria vários produtos numa única transação; cada fornecedor é resolvido uma vez só.
+     */
+    @Transactional
     @Override
-    public List<ProdutoResponseDTO> listarTodos() {
-        return produtoRepository.findAll()
-                .stream()
+    public List<ProdutoResponseDTO> criarEmLote(List<ProdutoRequestDTO> dtos) {
+        Map<Long, Fornecedor> fornecedores = new HashMap<>();
+        List<Produto> produtos = dtos.stream()
+                .map(dto -> {
+                    Produto produto = produtoMapper.toEntity(dto);
+                    produto.setFornecedor(fornecedores.computeIfAbsent(dto.fornecedorId(), this::buscarFornecedor));
+                    return produto;
+                })
+                .toList();
+        List<Produto> salvos = armazenamento.inserirTodos(produtos);
+        salvos.forEach(produto -> alteracaoCatalogoService.registrarCriacao(RecursoCatalogoEnum.PRODUTO, produto.getId()));
+        List<ProdutoResponseDTO> respostas = salvos.stream()
                 .map(produtoMapper::toDTO)
                 .toList();
+        respostas.forEach(resposta -> eventoOutboxService.registrarCriacao(RecursoCatalogoEnum.PRODUTO, resposta.id(), resposta));
+        return respostas;
+    }
+
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProdutoResponseDTO> listarTodos() {
+        return armazenamento.listarTodos();
+    }
+
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public String listarTodosJson() {
+        return armazenamento.listarTodosJson();
+    }
+
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public ProdutosNormalizadosResponseDTO listarTodosNormalizado() {
+        return armazenamento.listarTodosNormalizado();
     }
 
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
     @Override
     public ProdutoResponseDTO buscarPorId(Long id) {
-        Produto produto = produtoRepository.findById(id)
+        return armazenamento.buscarPorId(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Produto não encontrado"));
-        return produtoMapper.toDTO(produto);
     }
 
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
     @Override
-    public ProdutoResponseDTO atualizar(Long id, ProdutoRequestDTO dto) {
-        Produto produto = produtoRepository.findById(id)
+    public String buscarPorIdJson(Long id) {
+        return armazenamento.buscarJsonPorId(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Produto não encontrado"));
+    }
 
-        produto.setNome(dto.nome());
-        produto.setPreco(dto.preco());
-        produto.setDescricao(dto.descricao());
-        produto.setQuantidadeEstoque(dto.quantidadeEstoque());
-        produto.setFornecedor(buscarFornecedor(dto.fornecedorId()));
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public BuscaMultiplaResponseDTO<ProdutoResponseDTO> buscarPorIds(List<Long> ids) {
+        return BuscaMultipla.resolver(ids, armazenamento::buscarPelosIds, ProdutoResponseDTO::id, Function.identity());
+    }
 
-        return produtoMapper.toDTO(produtoRepository.save(produto));
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public AlteracoesResponseDTO<ProdutoResponseDTO> listarAlteracoes(String since, Integer limite) {
+        return alteracaoCatalogoService.listar(RecursoCatalogoEnum.PRODUTO, since, limite,
+                armazenamento::buscarPelosIds, ProdutoResponseDTO::id, Function.identity());
     }
 
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public List<Map<String, Object>> listarCampos(String fields) {
+        return armazenamento.listarCampos(fields);
+    }
+
+    @Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Object> buscarCampos(Long id, String fields) {
+        return armazenamento.buscarCampos(id, fields);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long contarProdutos() {
+        return armazenamento.contar();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public boolean existemProdutosDoFornecedor(Long fornecedorId) {
+        return armazenamento.existeDoFornecedor(fornecedorId);
+    }
+
+    @Transactional
+    @Override
+    public ProdutoResponseDTO atualizar(Long id, ProdutoRequestDTO dto) {
+        Produto produto = buscarParaAlterar(id);
+        aplicar(produto, dto);
+        return registrarAlteracao(produto);
+    }
+
+    /**
+     * 📌 JSON Merge Patch: só os campos enviados mudam, e o UPDATE (`@DynamicUpdate`) leva só as colunas alteradas.
+     */
+    @Transactional
+    @Override
+    public ProdutoResponseDTO atualizarParcialmente(Long id, JsonNode patch) {
+        Produto produto = buscarParaAlterar(id);
+        aplicar(produto, mergePatchMapper.aplicar(produtoMapper.toRequestDTO(produto), patch, ProdutoRequestDTO.class));
+        return registrarAlteracao(produto);
+    }
+
+    @Transactional
     @Override
     public void deletar(Long id) {
-        if (!produtoRepository.existsById(id)) {
+        if (armazenamento.deletar(List.of(id)).isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Produto não encontrado");
         }
-        produtoRepository.deleteById(id);
+        alteracaoCatalogoService.registrarRemocao(RecursoCatalogoEnum.PRODUTO, id);
+        eventoOutboxService.registrarRemocao(RecursoCatalogoEnum.PRODUTO, id);
+    }
+
+    /**
+     * 📌 Exclui vários produtos numa única transação.
+     * 🔹 IDs repetidos são ignorados; IDs inexistentes apenas não entram na contagem de removidos.
+     */
+    @Transactional
+    @Override
+    public ExclusaoEmLoteResponseDTO deletarEmLote(List<Long> ids) {
+        List<Long> distintos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distintos.isEmpty() || distintos.size() > MAXIMO_IDS_EXCLUSAO) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Informe entre 1 e " + MAXIMO_IDS_EXCLUSAO + " IDs");
+        }
+
+        List<Long> removidos = armazenamento.deletar(distintos);
+        removidos.forEach(id -> {
+            alteracaoCatalogoService.registrarRemocao(RecursoCatalogoEnum.PRODUTO, id);
+            eventoOutboxService.registrarRemocao(RecursoCatalogoEnum.PRODUTO, id);
+        });
+        return new ExclusaoEmLoteResponseDTO(distintos.size(), removidos.size());
+    }
+
+    private Produto buscarParaAlterar(Long id) {
+        return armazenamento.buscarParaAlterar(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Produto não encontrado"));
     }
 
+    // O fornecedor só é buscado quando o ID muda; o armazenamento grava a partir do estado anterior
+    private void aplicar(Produto produto, ProdutoRequestDTO dto) {
+        alteracaoCatalogoService.registrarAlteracao(RecursoCatalogoEnum.PRODUTO, produto.getId());
+        Produto anterior = produto.toBuilder().build();
+        boolean estoqueOuPrecoMudou = !Objects.equals(produto.getQuantidadeEstoque(), dto.quantidadeEstoque())
+                || produto.getPreco() == null || dto.preco() == null || produto.getPreco().compareTo(dto.preco()) != 0;
+        produto.setNome(dto.nome());
+        produto.setPreco(dto.preco());
+        produto.setDescricao(dto.descricao());
+        produto.setQuantidadeEstoque(dto.quantidadeEstoque());
+        if (produto.getFornecedor() == null || !produto.getFornecedor().getId().equals(dto.fornecedorId())) {
+            produto.setFornecedor(buscarFornecedor(dto.fornecedorId()));
+        }
+        armazenamento.gravarAlteracao(produto, anterior);
+        if (estoqueOuPrecoMudou) {
+            notificacaoEstoqueService.publicarAposCommit(new EventoEstoqueDTO(produto.getId(), dto.fornecedorId(),
+                    dto.preco(), dto.quantidadeEstoque()));
+        }
+    }
+
+    // O evento do outbox leva o mesmo estado devolvido na resposta
+    private ProdutoResponseDTO registrarAlteracao(Produto produto) {
+        ProdutoResponseDTO resposta = produtoMapper.toDTO(produto);
+        eventoOutboxService.registrarAlteracao(RecursoCatalogoEnum.PRODUTO, produto.getId(), resposta);
+        return resposta;
+    }
+
+    // Só a referência (proxy) para preencher a FK; no banco principal a constraint barra um fornecedor excluído
+    // nesse meio-tempo, e entre shards (sem FK) o armazenamento trava o fornecedor contra exclusão antes de gravar
     private Fornecedor buscarFornecedor(Long id) {
-        return fornecedorRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Fornecedor não encontrado"));
+        if (!existenciaFornecedorService.existe(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fornecedor não encontrado");
+        }
+        return fornecedorRepository.getReferenceById(id);
     }
 }
@@ -0,0 +1,187 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.lang.reflect.RecordComponent;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📌 Campos esparsos (`?fields=`): consulta só as colunas pedidas, sem montar entidades nem DTOs.
+ *
+ * ✅ Os campos válidos são os do DTO de resposta do recurso, com `.` para os aninhados
+ *    (ex: `id,nome,preco,fornecedor.nome`); um campo aninhado sem folha (`fornecedor`) traz o objeto inteiro.
+ * ✅ Cada campo vira uma coluna de uma consulta de tuplas; os joins (`left join`) só entram quando
+ *    algum campo daquela associação foi pedido.
+ * ✅ O resultado mantém o formato do DTO: campos aninhados viram objetos aninhados (ou `null`, se a associação não existir).
+ */
+@Service
+@Bulkhead(CargaTrabalhoEnum.CATALOGO_LEITURA)
+public class ProjecaoService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Class<?>, List<String>> camposPorDto = new ConcurrentHashMap<>();
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> listar(Class<?> entidade, Class<? extends Record> dto, String fields) {
+        return consultar(entidade, dto, fields, null);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> buscarPorId(Class<?> entidade, Class<? extends Record> dto, Long id, String fields) {
+        return consultar(entidade, dto, fields, id).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Registro não encontrado"));
+    }
+
+    /**
+     * 📌 Mesmo formato de saída, mas a partir de DTOs já montados (para recursos que não estão no banco principal).
+     */
+    public List<Map<String, Object>> filtrar(List<? extends Record> registros, Class<? extends Record> dto, String fields) {
+        List<String> campos = resolverCampos(dto, fields);
+        return registros.stream()
+                .map(registro -> {
+                    Map<String, Object> raiz = new LinkedHashMap<>();
+                    for (String campo : campos) {
+                        colocar(raiz, campo, ler(registro, campo));
+                    }
+                    anularVazios(raiz);
+                    return raiz;
+                })
+                .toList();
+    }
+
+    private List<Map<String, Object>> consultar(Class<?> entidade, Class<? extends Record> dto, String fields, Long id) {
+        List<String> campos = resolverCampos(dto, fields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<?> raiz = consulta.from(entidade);
+        Map<String, From<?, ?>> joins = new HashMap<>();
+
+        List<Selection<?>> selecao = new ArrayList<>();
+        for (String campo : campos) {
+            selecao.add(caminho(raiz, joins, campo).alias(campo));
+        }
+        consulta.multiselect(selecao);
+        if (id != null) {
+            consulta.where(cb.equal(raiz.get("id"), id));
+        }
+        consulta.orderBy(cb.asc(raiz.get("id")));
+
+        return entityManager.createQuery(consulta).getResultList().stream()
+                .map(ProjecaoService::montar)
+                .toList();
+    }
+
+    /**
+     * 📌 Valida e expande os campos pedidos; sem nenhum campo válido, responde 400 listando os aceitos.
+     */
+    private List<String> resolverCampos(Class<? extends Record> dto, String fields) {
+        List<String> disponiveis = camposPorDto.computeIfAbsent(dto, tipo -> folhas(tipo, ""));
+        Set<String> campos = new LinkedHashSet<>();
+        for (String pedido : fields.split(",")) {
+            String campo = pedido.trim();
+            if (campo.isEmpty()) {
+                continue;
+            }
+            List<String> encontrados = disponiveis.stream()
+                    .filter(disponivel -> disponivel.equals(campo) || disponivel.startsWith(campo + "."))
+                    .toList();
+            if (encontrados.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Campo inválido: " + campo + ". Campos aceitos: " + String.join(",", disponiveis));
+            }
+            campos.addAll(encontrados);
+        }
+        if (campos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos um campo em fields");
+        }
+        return List.copyOf(campos);
+    }
+
+    private static List<String> folhas(Class<?> tipo, String prefixo) {
+        List<String> campos = new ArrayList<>();
+        for (RecordComponent componente : tipo.getRecordComponents()) {
+            String nome = prefixo + componente.getName();
+            if (componente.getType().isRecord()) {
+                campos.addAll(folhas(componente.getType(), nome + "."));
+            } else {
+                campos.add(nome);
+            }
+        }
+        return campos;
+    }
+
+    private static Path<?> caminho(Root<?> raiz, Map<String, From<?, ?>> joins, String campo) {
+        String[] partes = campo.split("\\.");
+        From<?, ?> origem = raiz;
+        String prefixo = "";
+        for (int i = 0; i < partes.length - 1; i++) {
+            prefixo = prefixo + partes[i] + ".";
+            From<?, ?> pai = origem;
+            String associacao = partes[i];
+            origem = joins.computeIfAbsent(prefixo, chave -> pai.join(associacao, JoinType.LEFT));
+        }
+        return origem.get(partes[partes.length - 1]);
+    }
+
+    private static Map<String, Object> montar(Tuple tupla) {
+        Map<String, Object> raiz = new LinkedHashMap<>();
+        for (TupleElement<?> elemento : tupla.getElements()) {
+            colocar(raiz, elemento.getAlias(), tupla.get(elemento));
+        }
+        anularVazios(raiz);
+        return raiz;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void colocar(Map<String, Object> raiz, String campo, Object valor) {
+        String[] partes = campo.split("\\.");
+        Map<String, Object> atual = raiz;
+        for (int i = 0; i < partes.length - 1; i++) {
+            atual = (Map<String, Object>) atual.computeIfAbsent(partes[i], chave -> new LinkedHashMap<>());
+        }
+        atual.put(partes[partes.length - 1], valor);
+    }
+
+    // Segue o caminho pelos componentes dos records; um objeto aninhado nulo deixa o campo nulo
+    private static Object ler(Object registro, String campo) {
+        Object atual = registro;
+        for (String parte : campo.split("\\.")) {
+            if (atual == null) {
+                return null;
+            }
+            try {
+                atual = atual.getClass().getMethod(parte).invoke(atual);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Campo " + campo + " não encontrado em " + registro.getClass().getSimpleName(), e);
+            }
+        }
+        return atual;
+    }
+
+    // Associação ausente (left join sem par) aparece como `null`, igual ao DTO completo
+    @SuppressWarnings("unchecked")
+    private static void anularVazios(Map<String, Object> objeto) {
+        objeto.replaceAll((chave, valor) -> {
+            if (!(valor instanceof Map<?, ?> aninhado)) {
+                return valor;
+            }
+            anularVazios((Map<String, Object>) aninhado);
+            return aninhado.values().stream().allMatch(Objects::isNull) ? null : aninhado;
+        });
+    }
+}
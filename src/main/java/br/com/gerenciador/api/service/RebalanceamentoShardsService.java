@@ -0,0 +1,84 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.ShardProperties;
+import br.com.gerenciador.api.dto.RebalanceamentoResponseDTO;
+import br.com.gerenciador.api.repository.ProdutoShardRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 📌 Rebalanceamento online: muda os produtos de um fornecedor de shard sem parar a aplicação.
+ *
+ * 1️⃣ Marca o fornecedor como "em movimento" e espera todas as instâncias relerem o mapa:
+ *    a partir daí as escritas dele recebem 503, e as leituras continuam na origem.
+ * 2️⃣ Copia os produtos para o destino em lotes pela chave primária.
+ * 3️⃣ Aponta o mapa para o destino e espera de novo, para as leituras migrarem.
+ * 4️⃣ Apaga as linhas da origem.
+ *
+ * 🔹 Se a cópia falhar, o que foi copiado é apagado do destino e o fornecedor volta ao normal na origem.
+ * 🔹 As escritas do fornecedor ficam indisponíveis por cerca de `2 × intervaloAtualizacaoMapa` + tempo da cópia.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.shards", name = "habilitado", havingValue = "true")
+public class RebalanceamentoShardsService {
+
+    private final MapaShards mapa;
+    private final ProdutoShardRepository produtoShardRepository;
+    private final ShardProperties properties;
+    private final RegistroAssincronoService registro;
+
+    public RebalanceamentoShardsService(MapaShards mapa, ProdutoShardRepository produtoShardRepository,
+                                        ShardProperties properties, RegistroAssincronoService registro) {
+        this.mapa = mapa;
+        this.produtoShardRepository = produtoShardRepository;
+        this.properties = properties;
+        this.registro = registro;
+    }
+
+    public Map<String, Long> distribuicao() {
+        return produtoShardRepository.contarPorShard();
+    }
+
+    public RebalanceamentoResponseDTO moverFornecedor(Long fornecedorId, String destino) {
+        String origem = mapa.shardParaLeitura(fornecedorId);
+        if (origem.equals(destino)) {
+            return new RebalanceamentoResponseDTO(fornecedorId, origem, destino, 0);
+        }
+
+        mapa.iniciarMovimento(fornecedorId, destino);
+        int copiados;
+        try {
+            aguardarPropagacao();
+            copiados = produtoShardRepository.copiarFornecedor(fornecedorId, origem, destino, properties.tamanhoLoteMigracao());
+        } catch (RuntimeException e) {
+            produtoShardRepository.removerFornecedor(fornecedorId, destino);
+            mapa.cancelarMovimento(fornecedorId);
+            throw e;
+        }
+
+        mapa.concluirMovimento(fornecedorId, destino);
+        aguardarPropagacao();
+        produtoShardRepository.removerFornecedor(fornecedorId, origem);
+
+        if (registro.deveRegistrar("manutencao")) {
+            registro.registrar("manutencao", "Fornecedor mudou de shard", Map.of(
+                    "fornecedorId", fornecedorId, "origem", origem, "destino", destino, "produtos", copiados));
+        }
+        return new RebalanceamentoResponseDTO(fornecedorId, origem, destino, copiados);
+    }
+
+    private void aguardarPropagacao() {
+        Duration espera = properties.esperaPropagacao();
+        try {
+            Thread.sleep(espera.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Rebalanceamento interrompido");
+        }
+    }
+}
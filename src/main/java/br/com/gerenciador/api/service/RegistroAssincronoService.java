@@ -0,0 +1,241 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.RegistroProperties;
+import br.com.gerenciador.api.dto.DepuracaoRequestDTO;
+import br.com.gerenciador.api.dto.RegistroMetricasDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📌 Pipeline assíncrono de logs estruturados.
+ *
+ * ✅ As threads de requisição apenas enfileiram eventos num buffer circular limitado; um único worker
+ *    serializa em JSON e escreve no logger `registro.estruturado`.
+ * ✅ Buffer cheio nunca bloqueia a requisição: o evento é descartado e contado por categoria.
+ * ✅ Cada categoria tem sua taxa de amostragem, ajustável em tempo de execução.
+ * ✅ A depuração detalhada (SQL e parâmetros) pode ser ligada só para um usuário ou um request id.
+ */
+@Service
+public class RegistroAssincronoService {
+
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USUARIO = "usuario";
+
+    private static final Logger SAIDA = LoggerFactory.getLogger("registro.estruturado");
+
+    private final RegistroProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ArrayBlockingQueue<EventoRegistro> buffer;
+    private final Map<String, Double> amostragem = new ConcurrentHashMap<>();
+    private final Map<String, Counter> aceitos = new ConcurrentHashMap<>();
+    private final Map<String, Counter> descartados = new ConcurrentHashMap<>();
+    private final Map<String, Instant> depuracaoPorUsuario = new ConcurrentHashMap<>();
+    private final Map<String, Instant> depuracaoPorRequisicao = new ConcurrentHashMap<>();
+
+    private volatile boolean ativo = true;
+    private Thread worker;
+
+    public RegistroAssincronoService(RegistroProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.buffer = new ArrayBlockingQueue<>(properties.capacidadeBuffer());
+        this.amostragem.putAll(properties.amostragem());
+    }
+
+    @PostConstruct
+    void iniciar() {
+        Gauge.builder("registro.buffer.ocupacao", buffer, ArrayBlockingQueue::size).register(meterRegistry);
+        worker = new Thread(this::drenar, "registro-assincrono");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 📌 Indica se um evento da categoria deve ser registrado (amostragem ou depuração ativa).
+     * 🔹 Chame antes de montar os campos do evento para não pagar o custo quando ele for descartado.
+     */
+    public boolean deveRegistrar(String categoria) {
+        return depuracaoAtiva() || amostrar(categoria);
+    }
+
+    /**
+     * 📌 Enfileira um evento sem bloquear; se o buffer estiver cheio o evento é descartado e contado.
+     */
+    public void registrar(String categoria, String mensagem, Map<String, Object> campos) {
+        EventoRegistro evento = new EventoRegistro(categoria, Instant.now(), MDC.get(MDC_REQUEST_ID),
+                MDC.get(MDC_USUARIO), mensagem, campos);
+        if (buffer.offer(evento)) {
+            contador(aceitos, "registro.eventos.aceitos", categoria).increment();
+        } else {
+            contador(descartados, "registro.eventos.descartados", categoria).increment();
+        }
+    }
+
+    /**
+     * 📌 Se a categoria pode sair em alguma amostra (taxa maior que zero), sem sortear nada.
+     */
+    public boolean amostravel(String categoria) {
+        return amostragem.getOrDefault(categoria, 1.0) > 0.0;
+    }
+
+    public boolean amostrar(String categoria) {
+        double taxa = amostragem.getOrDefault(categoria, 1.0);
+        return taxa >= 1.0 || (taxa > 0.0 && ThreadLocalRandom.current().nextDouble() < taxa);
+    }
+
+    /**
+     * 📌 Verifica se a requisição atual (via MDC) está com depuração detalhada ligada.
+     * 🔹 Caminho rápido: sem depurações cadastradas, não consulta nada.
+     */
+    public boolean depuracaoAtiva() {
+        if (depuracaoPorUsuario.isEmpty() && depuracaoPorRequisicao.isEmpty()) {
+            return false;
+        }
+        return vigente(depuracaoPorRequisicao, MDC.get(MDC_REQUEST_ID))
+                || vigente(depuracaoPorUsuario, MDC.get(MDC_USUARIO));
+    }
+
+    public void definirAmostragem(String categoria, double taxa) {
+        amostragem.put(categoria, taxa);
+    }
+
+    public void ativarDepuracao(DepuracaoRequestDTO dto) {
+        if (isBlank(dto.usuario()) && isBlank(dto.requestId())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe o usuário ou o request id");
+        }
+        Instant expiraEm = Instant.now().plus(Duration.ofSeconds(dto.duracaoSegundos()));
+        if (!isBlank(dto.usuario())) {
+            depuracaoPorUsuario.put(dto.usuario(), expiraEm);
+        }
+        if (!isBlank(dto.requestId())) {
+            depuracaoPorRequisicao.put(dto.requestId(), expiraEm);
+        }
+    }
+
+    public void desativarDepuracoes() {
+        depuracaoPorUsuario.clear();
+        depuracaoPorRequisicao.clear();
+    }
+
+    public RegistroMetricasDTO metricas() {
+        return new RegistroMetricasDTO(
+                properties.capacidadeBuffer(),
+                buffer.size(),
+                totais(aceitos),
+                totais(descartados),
+                new TreeMap<>(amostragem),
+                new TreeMap<>(depuracaoPorUsuario),
+                new TreeMap<>(depuracaoPorRequisicao)
+        );
+    }
+
+    private void drenar() {
+        List<EventoRegistro> lote = new ArrayList<>(properties.tamanhoLote());
+        while (ativo || !buffer.isEmpty()) {
+            try {
+                EventoRegistro primeiro = buffer.poll(500, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                buffer.drainTo(lote, properties.tamanhoLote() - 1);
+                lote.forEach(this::escrever);
+                lote.clear();
+            } catch (InterruptedException e) {
+                if (!ativo) {
+                    buffer.drainTo(lote);
+                    lote.forEach(this::escrever);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void escrever(EventoRegistro evento) {
+        Map<String, Object> linha = new LinkedHashMap<>();
+        linha.put("instante", evento.instante().toString());
+        linha.put("categoria", evento.categoria());
+        linha.put("requestId", evento.requestId());
+        linha.put("usuario", evento.usuario());
+        linha.put("mensagem", evento.mensagem());
+        if (evento.campos() != null) {
+            linha.putAll(evento.campos());
+        }
+        try {
+            SAIDA.info(objectMapper.writeValueAsString(linha));
+        } catch (JsonProcessingException e) {
+            SAIDA.warn("Falha ao serializar evento da categoria {}: {}", evento.categoria(), e.getMessage());
+        }
+    }
+
+    private Counter contador(Map<String, Counter> contadores, String nome, String categoria) {
+        return contadores.computeIfAbsent(categoria, c -> meterRegistry.counter(nome, "categoria", c));
+    }
+
+    private static Map<String, Long> totais(Map<String, Counter> contadores) {
+        Map<String, Long> totais = new TreeMap<>();
+        contadores.forEach((categoria, contador) -> totais.put(categoria, (long) contador.count()));
+        return totais;
+    }
+
+    private static boolean vigente(Map<String, Instant> depuracoes, String chave) {
+        if (chave == null) {
+            return false;
+        }
+        Instant expiraEm = depuracoes.get(chave);
+        if (expiraEm == null) {
+            return false;
+        }
+        if (expiraEm.isBefore(Instant.now())) {
+            depuracoes.remove(chave, expiraEm);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    private record EventoRegistro(
+            String categoria,
+            Instant instante,
+            String requestId,
+            String usuario,
+            String mensagem,
+            Map<String, Object> campos
+    ) {}
+}
@@ -0,0 +1,186 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.config.BulkheadConexoes;
+import br.com.gerenciador.api.config.OutboxProperties;
+import br.com.gerenciador.api.dto.EventoDominioDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import br.com.gerenciador.api.model.EventoOutbox;
+import br.com.gerenciador.api.repository.EventoOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 📌 Relay do outbox: drena `evento_outbox` em lotes e entrega ao `DestinoEventos` configurado.
+ *
+ * ✅ A tabela é dividida em `paralelismo` partições (`registro_id mod paralelismo`), cada uma drenada por uma thread;
+ *    os eventos de um mesmo registro ficam sempre na mesma partição e saem na ordem dos commits (`ordem`).
+ *
+ * 🚀 **Cada lote:**
+ * 1️⃣ Transação curta: `pg_try_advisory_xact_lock` na partição (só um relay por vez reserva nela); se não há
+ *    lote em entrega (`reservado_ate` no futuro), separa os próximos eventos e marca `reservado_ate`.
+ * 2️⃣ Entrega ao destino fora de transação, sem segurar conexão nem lock.
+ * 3️⃣ Sucesso: apaga o lote com um único DELETE. Falha: limpa a reserva e o lote volta na próxima drenagem.
+ *
+ * ✅ Várias instâncias podem rodar o relay ao mesmo tempo: cada partição tem um lote em entrega por vez, então a
+ *    ordem se mantém. Uma entrega mais longa que `tempoReserva` pode ser repetida por outro relay (ao menos uma vez).
+ * ✅ Carga `MANUTENCAO`: as threads das partições herdam a marca (`BulkheadConexoes.propagar`) e disputam as vagas
+ *    desse bulkhead, sem tirar conexões das requisições.
+ *
+ * 📊 Métricas: `outbox.eventos.entregues`, `outbox.lotes.falhas`.
+ */
+@Service
+@Bulkhead(CargaTrabalhoEnum.MANUTENCAO)
+@ConditionalOnProperty(prefix = "app.outbox", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class RelayOutboxService {
+
+    // Primeira metade da chave do advisory lock (a segunda é a partição)
+    private static final int TRAVA_PARTICOES = "evento_outbox".hashCode();
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final DestinoEventos destino;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final RegistroAssincronoService registro;
+    private final TransactionTemplate transacao;
+    private final BulkheadConexoes bulkhead;
+    private final ExecutorService particoes;
+    private final Counter entregues;
+    private final Counter falhas;
+
+    public RelayOutboxService(EventoOutboxRepository eventoOutboxRepository,
+                              DestinoEventos destino,
+                              OutboxProperties properties,
+                              ObjectMapper objectMapper,
+                              RegistroAssincronoService registro,
+                              PlatformTransactionManager transactionManager,
+                              BulkheadConexoes bulkhead,
+                              MeterRegistry meterRegistry) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.destino = destino;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.registro = registro;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.bulkhead = bulkhead;
+        this.particoes = Executors.newFixedThreadPool(properties.paralelismo(), tarefa -> {
+            Thread thread = new Thread(tarefa, "relay-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.entregues = Counter.builder("outbox.eventos.entregues").register(meterRegistry);
+        this.falhas = Counter.builder("outbox.lotes.falhas").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        particoes.shutdownNow();
+    }
+
+    @Scheduled(initialDelayString = "${app.outbox.intervalo:1s}", fixedDelayString = "${app.outbox.intervalo:1s}")
+    public void executarAgendado() throws InterruptedException {
+        drenar();
+    }
+
+    /**
+     * 📌 Drena todas as partições em paralelo e devolve quantos eventos foram entregues.
+     */
+    public int drenar() throws InterruptedException {
+        List<Callable<Integer>> tarefas = new ArrayList<>(properties.paralelismo());
+        for (int particao = 0; particao < properties.paralelismo(); particao++) {
+            int atual = particao;
+            tarefas.add(bulkhead.propagar(() -> drenarParticao(atual)));
+        }
+
+        int total = 0;
+        for (Future<Integer> resultado : particoes.invokeAll(tarefas)) {
+            try {
+                total += resultado.get();
+            } catch (ExecutionException e) {
+                falhas.increment();
+                if (registro.deveRegistrar("outbox")) {
+                    registro.registrar("outbox", "Falha ao drenar partição do outbox",
+                            Map.of("erro", String.valueOf(e.getCause())));
+                }
+            }
+        }
+        return total;
+    }
+
+    private int drenarParticao(int particao) {
+        int total = 0;
+        for (int lote = 0; lote < properties.maximoLotes(); lote++) {
+            List<EventoOutbox> reservados = transacao.execute(status -> reservarLote(particao));
+            if (reservados.isEmpty()) {
+                break;
+            }
+            entregar(reservados);
+            total += reservados.size();
+            if (reservados.size() < properties.tamanhoLote()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private List<EventoOutbox> reservarLote(int particao) {
+        if (!eventoOutboxRepository.travarParticao(TRAVA_PARTICOES, particao)
+                || eventoOutboxRepository.particaoReservada(properties.paralelismo(), particao)) {
+            return List.of();
+        }
+        List<EventoOutbox> lote = eventoOutboxRepository.proximoLote(
+                properties.paralelismo(), particao, Limit.of(properties.tamanhoLote()));
+        if (!lote.isEmpty()) {
+            eventoOutboxRepository.reservar(ids(lote), properties.tempoReserva().toMillis() / 1000.0);
+        }
+        return lote;
+    }
+
+    private void entregar(List<EventoOutbox> lote) {
+        List<Long> ids = ids(lote);
+        try {
+            List<EventoDominioDTO> eventos = new ArrayList<>(lote.size());
+            for (EventoOutbox evento : lote) {
+                eventos.add(paraDTO(evento));
+            }
+            destino.entregar(eventos);
+        } catch (Exception e) {
+            transacao.executeWithoutResult(status -> eventoOutboxRepository.liberar(ids));
+            throw e instanceof RuntimeException erro ? erro : new IllegalStateException("Falha ao entregar lote do outbox", e);
+        }
+        transacao.executeWithoutResult(status -> eventoOutboxRepository.deleteAllByIdInBatch(ids));
+        entregues.increment(lote.size());
+    }
+
+    private static List<Long> ids(List<EventoOutbox> lote) {
+        return lote.stream().map(EventoOutbox::getId).toList();
+    }
+
+    private EventoDominioDTO paraDTO(EventoOutbox evento) {
+        try {
+            return new EventoDominioDTO(evento.getId(), evento.getRecurso(), evento.getRegistroId(), evento.getTipo(),
+                    evento.getDados() == null ? null : objectMapper.readTree(evento.getDados()),
+                    evento.getOcorridoEm());
+        } catch (IOException e) {
+            throw new IllegalStateException("Evento " + evento.getId() + " do outbox com JSON inválido", e);
+        }
+    }
+}
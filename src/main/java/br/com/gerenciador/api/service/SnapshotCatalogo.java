@@ -0,0 +1,368 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.EnderecoDTO;
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.enums.TipoFornecedorEnum;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * 📌 Arquivo de snapshot do catálogo (produtos e fornecedores), lido direto da memória mapeada.
+ *
+ * ✅ Cabeçalho fixo (64 bytes) com versão do formato, os tokens do feed de alterações já aplicados e o CRC32C
+ *    do corpo: um arquivo corrompido ou cortado é recusado ao abrir, nunca servido.
+ * ✅ Registros de largura fixa ordenados por ID: a busca é uma pesquisa binária sobre o próprio arquivo (o índice).
+ * ✅ Textos em UTF-8 numa área separada, referenciados por (deslocamento, tamanho); o produto guarda também o JSON
+ *    da resposta já renderizado, devolvido sem serializar nada.
+ * 🔹 Imutável: atualizar é gravar um arquivo novo e trocar a referência (`SnapshotCatalogoService`).
+ */
+final class SnapshotCatalogo {
+
+    static final int MAGICO = 0x47435331; // "GCS1"
+    static final int VERSAO_FORMATO = 2;
+
+    private static final int TAMANHO_CABECALHO = 64;
+    private static final int TAMANHO_FORNECEDOR = 96; // id, tipo, tem endereço, 10 textos
+    private static final int TAMANHO_PRODUTO = 56; // id, índice do fornecedor, estoque, preço (unscaled + escala), 3 textos
+    private static final TipoFornecedorEnum[] TIPOS = TipoFornecedorEnum.values();
+    // Outras instâncias (leitoras do volume compartilhado) precisam ler o arquivo; o temporário nasce só para o dono
+    private static final Set<PosixFilePermission> PERMISSOES = PosixFilePermissions.fromString("rw-r--r--");
+
+    private final ByteBuffer dados;
+    private final long sequenciaProdutos;
+    private final long sequenciaFornecedores;
+    private final Instant geradoEm;
+    private final int quantidadeFornecedores;
+    private final int quantidadeProdutos;
+    private final int inicioFornecedores;
+    private final int inicioProdutos;
+    private final int inicioTextos;
+
+    private SnapshotCatalogo(ByteBuffer dados) {
+        if (dados.capacity() < TAMANHO_CABECALHO || dados.getInt(0) != MAGICO) {
+            throw new IllegalStateException("Arquivo não é um snapshot do catálogo");
+        }
+        if (dados.getInt(4) != VERSAO_FORMATO) {
+            throw new IllegalStateException("Versão do snapshot não suportada: " + dados.getInt(4));
+        }
+        this.dados = dados;
+        this.sequenciaProdutos = dados.getLong(8);
+        this.sequenciaFornecedores = dados.getLong(16);
+        this.geradoEm = Instant.ofEpochMilli(dados.getLong(24));
+        this.quantidadeFornecedores = dados.getInt(32);
+        this.quantidadeProdutos = dados.getInt(36);
+        this.inicioFornecedores = dados.getInt(40);
+        this.inicioProdutos = dados.getInt(44);
+        this.inicioTextos = dados.getInt(48);
+        long fim = (long) inicioTextos + dados.getInt(52);
+        if (inicioTextos < TAMANHO_CABECALHO || fim > dados.capacity()) {
+            throw new IllegalStateException("Snapshot do catálogo truncado");
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(dados.slice(TAMANHO_CABECALHO, (int) fim - TAMANHO_CABECALHO));
+        if ((int) checksum.getValue() != dados.getInt(56)) {
+            throw new IllegalStateException("Snapshot do catálogo corrompido (checksum não confere)");
+        }
+    }
+
+    /**
+     * 📌 Mapeia o arquivo em memória (somente leitura); o mapeamento continua válido depois de o arquivo ser substituído.
+     */
+    static SnapshotCatalogo abrir(Path arquivo) {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            return new SnapshotCatalogo(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o snapshot do catálogo " + arquivo, e);
+        }
+    }
+
+    /**
+     * 📌 Grava um snapshot novo num temporário exclusivo ao lado do arquivo, força para o disco e troca pelo atual
+     *    com um rename atômico.
+     * 🔹 O fornecedor da lista prevalece sobre o embutido no produto (inclusive no JSON); os ausentes da lista
+     *    entram com os dados embutidos.
+     */
+    static void gravar(Path arquivo, long sequenciaProdutos, long sequenciaFornecedores,
+                       List<FornecedorResponseDTO> fornecedores, List<ProdutoResponseDTO> produtos,
+                       Function<ProdutoResponseDTO, String> json) {
+        Map<Long, FornecedorResponseDTO> porId = new HashMap<>();
+        fornecedores.forEach(fornecedor -> porId.put(fornecedor.id(), fornecedor));
+        produtos.forEach(produto -> porId.putIfAbsent(produto.fornecedor().id(), produto.fornecedor()));
+        List<FornecedorResponseDTO> ordenados = porId.values().stream()
+                .sorted(Comparator.comparing(FornecedorResponseDTO::id))
+                .toList();
+        Map<Long, Integer> indices = new HashMap<>();
+        for (int i = 0; i < ordenados.size(); i++) {
+            indices.put(ordenados.get(i).id(), i);
+        }
+        List<ProdutoResponseDTO> produtosOrdenados = produtos.stream()
+                .sorted(Comparator.comparing(ProdutoResponseDTO::id))
+                .toList();
+
+        Textos textos = new Textos();
+        ByteBuffer registros = ByteBuffer.allocate(TAMANHO_CABECALHO
+                + ordenados.size() * TAMANHO_FORNECEDOR + produtosOrdenados.size() * TAMANHO_PRODUTO);
+        registros.position(TAMANHO_CABECALHO);
+        for (FornecedorResponseDTO fornecedor : ordenados) {
+            EnderecoDTO endereco = fornecedor.endereco();
+            registros.putLong(fornecedor.id());
+            registros.putInt(fornecedor.tipoFornecedor() == null ? -1 : fornecedor.tipoFornecedor().ordinal());
+            registros.putInt(endereco == null ? 0 : 1);
+            textos.referenciar(registros, fornecedor.nome());
+            textos.referenciar(registros, fornecedor.cnpj());
+            textos.referenciar(registros, endereco == null ? null : endereco.logradouro());
+            textos.referenciar(registros, endereco == null ? null : endereco.numero());
+            textos.referenciar(registros, endereco == null ? null : endereco.complemento());
+            textos.referenciar(registros, endereco == null ? null : endereco.bairro());
+            textos.referenciar(registros, endereco == null ? null : endereco.cidade());
+            textos.referenciar(registros, endereco == null ? null : endereco.estado());
+            textos.referenciar(registros, endereco == null ? null : endereco.pais());
+            textos.referenciar(registros, endereco == null ? null : endereco.cep());
+        }
+        for (ProdutoResponseDTO produto : produtosOrdenados) {
+            int indice = indices.get(produto.fornecedor().id());
+            FornecedorResponseDTO fornecedor = ordenados.get(indice);
+            ProdutoResponseDTO atualizado = fornecedor.equals(produto.fornecedor()) ? produto : new ProdutoResponseDTO(
+                    produto.id(), produto.nome(), produto.preco(), produto.descricao(), produto.quantidadeEstoque(), fornecedor);
+            registros.putLong(produto.id());
+            registros.putInt(indice);
+            registros.putInt(produto.quantidadeEstoque());
+            registros.putLong(produto.preco().unscaledValue().longValueExact());
+            registros.putInt(produto.preco().scale());
+            registros.putInt(0); // reservado
+            textos.referenciar(registros, produto.nome());
+            textos.referenciar(registros, produto.descricao());
+            textos.referenciar(registros, json.apply(atualizado));
+        }
+
+        int inicioFornecedores = TAMANHO_CABECALHO;
+        int inicioProdutos = inicioFornecedores + ordenados.size() * TAMANHO_FORNECEDOR;
+        int inicioTextos = inicioProdutos + produtosOrdenados.size() * TAMANHO_PRODUTO;
+        registros.putInt(0, MAGICO)
+                .putInt(4, VERSAO_FORMATO)
+                .putLong(8, sequenciaProdutos)
+                .putLong(16, sequenciaFornecedores)
+                .putLong(24, System.currentTimeMillis())
+                .putInt(32, ordenados.size())
+                .putInt(36, produtosOrdenados.size())
+                .putInt(40, inicioFornecedores)
+                .putInt(44, inicioProdutos)
+                .putInt(48, inicioTextos)
+                .putInt(52, textos.tamanho());
+        ByteBuffer conteudoTextos = textos.buffer();
+        CRC32C checksum = new CRC32C();
+        checksum.update(registros.array(), TAMANHO_CABECALHO, registros.position() - TAMANHO_CABECALHO);
+        checksum.update(conteudoTextos.array());
+        registros.putInt(56, (int) checksum.getValue());
+        registros.flip();
+
+        Path temporario = null;
+        try {
+            temporario = Files.createTempFile(arquivo.toAbsolutePath().getParent(), arquivo.getFileName() + ".", ".tmp");
+            if (Files.getFileStore(temporario).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(temporario, PERMISSOES);
+            }
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                while (registros.hasRemaining()) {
+                    canal.write(registros);
+                }
+                while (conteudoTextos.hasRemaining()) {
+                    canal.write(conteudoTextos);
+                }
+                canal.force(true);
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            apagar(temporario);
+            throw new UncheckedIOException("Falha ao gravar o snapshot do catálogo " + arquivo, e);
+        }
+    }
+
+    // Best effort: o erro original é o que importa
+    private static void apagar(Path temporario) {
+        if (temporario == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporario);
+        } catch (IOException e) {
+            // O temporário órfão não atrapalha: cada gravação cria o seu
+        }
+    }
+
+    long sequenciaProdutos() {
+        return sequenciaProdutos;
+    }
+
+    long sequenciaFornecedores() {
+        return sequenciaFornecedores;
+    }
+
+    Instant geradoEm() {
+        return geradoEm;
+    }
+
+    int quantidadeProdutos() {
+        return quantidadeProdutos;
+    }
+
+    Optional<ProdutoResponseDTO> buscarPorId(long id) {
+        int indice = indiceDoProduto(id);
+        return indice < 0 ? Optional.empty() : Optional.of(produto(indice, new HashMap<>()));
+    }
+
+    Optional<String> buscarJson(long id) {
+        int indice = indiceDoProduto(id);
+        return indice < 0 ? Optional.empty() : Optional.of(texto(posicaoProduto(indice) + 48));
+    }
+
+    /**
+     * 📌 Todos os produtos em ordem de ID; cada fornecedor é montado uma vez só e reaproveitado.
+     */
+    List<ProdutoResponseDTO> listarTodos() {
+        Map<Integer, FornecedorResponseDTO> fornecedores = new HashMap<>();
+        List<ProdutoResponseDTO> produtos = new ArrayList<>(quantidadeProdutos);
+        for (int i = 0; i < quantidadeProdutos; i++) {
+            produtos.add(produto(i, fornecedores));
+        }
+        return produtos;
+    }
+
+    /**
+     * 📌 A listagem em JSON é a concatenação dos documentos gravados, byte a byte.
+     */
+    String listarJson() {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        saida.write('[');
+        for (int i = 0; i < quantidadeProdutos; i++) {
+            if (i > 0) {
+                saida.write(',');
+            }
+            int referencia = posicaoProduto(i) + 48;
+            int tamanho = dados.getInt(referencia + 4);
+            byte[] documento = new byte[tamanho];
+            dados.get(inicioTextos + dados.getInt(referencia), documento);
+            saida.writeBytes(documento);
+        }
+        saida.write(']');
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    Map<Long, FornecedorResponseDTO> fornecedores() {
+        Map<Long, FornecedorResponseDTO> fornecedores = new LinkedHashMap<>();
+        for (int i = 0; i < quantidadeFornecedores; i++) {
+            FornecedorResponseDTO fornecedor = fornecedor(i);
+            fornecedores.put(fornecedor.id(), fornecedor);
+        }
+        return fornecedores;
+    }
+
+    // Pesquisa binária sobre a coluna de IDs dos registros de produto
+    private int indiceDoProduto(long id) {
+        int inicio = 0;
+        int fim = quantidadeProdutos - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            long atual = dados.getLong(posicaoProduto(meio));
+            if (atual < id) {
+                inicio = meio + 1;
+            } else if (atual > id) {
+                fim = meio - 1;
+            } else {
+                return meio;
+            }
+        }
+        return -1;
+    }
+
+    private int posicaoProduto(int indice) {
+        return inicioProdutos + indice * TAMANHO_PRODUTO;
+    }
+
+    private ProdutoResponseDTO produto(int indice, Map<Integer, FornecedorResponseDTO> fornecedores) {
+        int posicao = posicaoProduto(indice);
+        return new ProdutoResponseDTO(
+                dados.getLong(posicao),
+                texto(posicao + 32),
+                BigDecimal.valueOf(dados.getLong(posicao + 16), dados.getInt(posicao + 24)),
+                texto(posicao + 40),
+                dados.getInt(posicao + 12),
+                fornecedores.computeIfAbsent(dados.getInt(posicao + 8), this::fornecedor)
+        );
+    }
+
+    private FornecedorResponseDTO fornecedor(int indice) {
+        int posicao = inicioFornecedores + indice * TAMANHO_FORNECEDOR;
+        int tipo = dados.getInt(posicao + 8);
+        int textos = posicao + 16;
+        EnderecoDTO endereco = dados.getInt(posicao + 12) == 0 ? null : new EnderecoDTO(
+                texto(textos + 16), texto(textos + 24), texto(textos + 32), texto(textos + 40),
+                texto(textos + 48), texto(textos + 56), texto(textos + 64), texto(textos + 72));
+        return new FornecedorResponseDTO(
+                dados.getLong(posicao),
+                texto(textos),
+                texto(textos + 8),
+                tipo < 0 ? null : TIPOS[tipo],
+                endereco
+        );
+    }
+
+    // Referência (deslocamento, tamanho) gravada em `posicao`; tamanho -1 = nulo
+    private String texto(int posicao) {
+        int tamanho = dados.getInt(posicao + 4);
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        dados.get(inicioTextos + dados.getInt(posicao), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Textos {
+
+        private final ByteArrayOutputStream conteudo = new ByteArrayOutputStream();
+
+        void referenciar(ByteBuffer registros, String texto) {
+            if (texto == null) {
+                registros.putInt(0).putInt(-1);
+                return;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            registros.putInt(conteudo.size()).putInt(bytes.length);
+            conteudo.writeBytes(bytes);
+        }
+
+        int tamanho() {
+            return conteudo.size();
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(conteudo.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.config.SnapshotCatalogoProperties;
+import br.com.gerenciador.api.dto.AlteracaoDTO;
+import br.com.gerenciador.api.dto.AlteracoesResponseDTO;
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 📌 Snapshot do catálogo em arquivo mapeado em memória (`app.snapshot-catalogo.*`).
+ *
+ * 🚀 **Fluxo:**
+ * 1️⃣ Na subida, se o arquivo já existe, ele é só mapeado: o catálogo fica disponível antes de qualquer consulta ao banco.
+ * 2️⃣ A instância exportadora grava o catálogo inteiro uma vez e depois aplica o feed de alterações
+ *    (`/changes`) a cada `intervalo`, regravando o arquivo e trocando a referência de forma atômica.
+ * 3️⃣ As demais instâncias só releem o arquivo quando ele muda (volume compartilhado).
+ * 4️⃣ Leituras de produto saem do snapshot quando `servirLeituras`; senão, só quando o banco está fora do ar.
+ *
+ * 📊 Métricas: `snapshot.catalogo.produtos`, `snapshot.catalogo.idade` e `snapshot.catalogo.leituras` (tag `origem`).
+ */
+@Service
+public class SnapshotCatalogoService {
+
+    private final SnapshotCatalogoProperties properties;
+    private final ProdutoService produtoService;
+    private final FornecedorService fornecedorService;
+    private final AlteracaoCatalogoService alteracaoCatalogoService;
+    private final ObjectMapper objectMapper;
+    private final RegistroAssincronoService registro;
+    private final TransactionTemplate leitura;
+    private final AtomicReference<SnapshotCatalogo> atual = new AtomicReference<>();
+    private final Counter servidasDiretamente;
+    private final Counter servidasSemBanco;
+    private volatile FileTime modificadoEm;
+
+    public SnapshotCatalogoService(SnapshotCatalogoProperties properties,
+                                   ProdutoService produtoService,
+                                   FornecedorService fornecedorService,
+                                   AlteracaoCatalogoService alteracaoCatalogoService,
+                                   ObjectMapper objectMapper,
+                                   RegistroAssincronoService registro,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.produtoService = produtoService;
+        this.fornecedorService = fornecedorService;
+        this.alteracaoCatalogoService = alteracaoCatalogoService;
+        this.objectMapper = objectMapper;
+        this.registro = registro;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.servidasDiretamente = Counter.builder("snapshot.catalogo.leituras").tag("origem", "snapshot").register(meterRegistry);
+        this.servidasSemBanco = Counter.builder("snapshot.catalogo.leituras").tag("origem", "banco-indisponivel").register(meterRegistry);
+        Gauge.builder("snapshot.catalogo.produtos", atual, ref -> ref.get() == null ? 0 : ref.get().quantidadeProdutos())
+                .register(meterRegistry);
+        Gauge.builder("snapshot.catalogo.idade", atual,
+                        ref -> ref.get() == null ? -1 : Duration.between(ref.get().geradoEm(), Instant.now()).toSeconds())
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 📌 Mapeia o snapshot existente sem passar pelo banco; um arquivo inválido é ignorado e gerado de novo.
+     */
+    @PostConstruct
+    void carregar() {
+        if (!properties.habilitado() || !Files.exists(properties.arquivo())) {
+            return;
+        }
+        try {
+            recarregar();
+        } catch (IllegalStateException | UncheckedIOException e) {
+            registrarFalha("Snapshot do catálogo ignorado na subida", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.snapshot-catalogo.intervalo:10s}",
+            fixedDelayString = "${app.snapshot-catalogo.intervalo:10s}")
+    @Bulkhead(CargaTrabalhoEnum.MANUTENCAO)
+    public void executarAgendado() {
+        if (!properties.habilitado()) {
+            return;
+        }
+        try {
+            atualizar();
+        } catch (RuntimeException e) {
+            registrarFalha("Falha ao atualizar o snapshot do catálogo", e);
+        }
+    }
+
+    /**
+     * 📌 Exportadora: gera ou atualiza o arquivo pelo feed. Demais instâncias: relê o arquivo se ele mudou.
+     */
+    public void atualizar() {
+        if (!properties.exportar()) {
+            recarregarSeMudou();
+            return;
+        }
+        SnapshotCatalogo snapshot = atual.get();
+        if (snapshot == null) {
+            exportarCompleto();
+        } else {
+            aplicarAlteracoes(snapshot);
+        }
+    }
+
+    public ResponseEntity<ProdutoResponseDTO> buscarPorId(Long id, Supplier<ResponseEntity<ProdutoResponseDTO>> banco) {
+        return ler(snapshot -> snapshot.buscarPorId(id), banco);
+    }
+
+    public ResponseEntity<String> buscarJson(Long id, Supplier<ResponseEntity<String>> banco) {
+        return ler(snapshot -> snapshot.buscarJson(id), banco);
+    }
+
+    public ResponseEntity<List<ProdutoResponseDTO>> listarTodos(Supplier<ResponseEntity<List<ProdutoResponseDTO>>> banco) {
+        return ler(snapshot -> Optional.of(snapshot.listarTodos()), banco);
+    }
+
+    public ResponseEntity<String> listarJson(Supplier<ResponseEntity<String>> banco) {
+        return ler(snapshot -> Optional.of(snapshot.listarJson()), banco);
+    }
+
+    // Snapshot primeiro quando `servirLeituras`; senão banco, com o snapshot no lugar do 503 quando não há conexão
+    private <T> ResponseEntity<T> ler(Function<SnapshotCatalogo, Optional<T>> local, Supplier<ResponseEntity<T>> banco) {
+        SnapshotCatalogo snapshot = atual.get();
+        if (snapshot != null && properties.servirLeituras()) {
+            Optional<T> valor = local.apply(snapshot);
+            if (valor.isPresent()) {
+                servidasDiretamente.increment();
+                return resposta(snapshot, valor.get());
+            }
+        }
+        try {
+            return banco.get();
+        } catch (RuntimeException e) {
+            if (snapshot == null || !bancoIndisponivel(e)) {
+                throw e;
+            }
+            Optional<T> valor = local.apply(snapshot);
+            if (valor.isEmpty()) {
+                throw e;
+            }
+            servidasSemBanco.increment();
+            return resposta(snapshot, valor.get());
+        }
+    }
+
+    private static <T> ResponseEntity<T> resposta(SnapshotCatalogo snapshot, T valor) {
+        return ResponseEntity.ok()
+                .header("Age", String.valueOf(Math.max(0, Duration.between(snapshot.geradoEm(), Instant.now()).toSeconds())))
+                .header(LeituraResilienteService.CABECALHO_CACHE, "SNAPSHOT")
+                .body(valor);
+    }
+
+    private static boolean bancoIndisponivel(RuntimeException erro) {
+        return LeituraResilienteService.semConexao(erro)
+                || erro instanceof ResponseStatusException status && status.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    // Token lido na mesma transação da cópia: o que for commitado no meio é reaplicado depois pelo feed
+    private void exportarCompleto() {
+        Exportacao exportacao = leitura.execute(status -> new Exportacao(
+                alteracaoCatalogoService.sequenciaAtual(),
+                fornecedorService.listarTodosFornecedores(),
+                produtoService.listarTodos()));
+        publicar(exportacao.sequencia(), exportacao.sequencia(), exportacao.fornecedores(), exportacao.produtos());
+    }
+
+    private void aplicarAlteracoes(SnapshotCatalogo snapshot) {
+        List<AlteracaoDTO<ProdutoResponseDTO>> alteracoesProdutos = new ArrayList<>();
+        long sequenciaProdutos = lerFeed(snapshot.sequenciaProdutos(), produtoService::listarAlteracoes, alteracoesProdutos);
+        List<AlteracaoDTO<FornecedorResponseDTO>> alteracoesFornecedores = new ArrayList<>();
+        long sequenciaFornecedores = lerFeed(snapshot.sequenciaFornecedores(),
+                fornecedorService::listarAlteracoesFornecedores, alteracoesFornecedores);
+        if (alteracoesProdutos.isEmpty() && alteracoesFornecedores.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ProdutoResponseDTO> produtos = new HashMap<>();
+        snapshot.listarTodos().forEach(produto -> produtos.put(produto.id(), produto));
+        Map<Long, FornecedorResponseDTO> fornecedores = snapshot.fornecedores();
+        for (AlteracaoDTO<ProdutoResponseDTO> alteracao : alteracoesProdutos) {
+            if (alteracao.removido()) {
+                produtos.remove(alteracao.id());
+            } else {
+                produtos.put(alteracao.id(), alteracao.dados());
+                fornecedores.put(alteracao.dados().fornecedor().id(), alteracao.dados().fornecedor());
+            }
+        }
+        // O feed de fornecedores foi lido depois: o estado dele prevalece sobre o embutido nos produtos
+        for (AlteracaoDTO<FornecedorResponseDTO> alteracao : alteracoesFornecedores) {
+            if (alteracao.removido()) {
+                fornecedores.remove(alteracao.id());
+            } else {
+                fornecedores.put(alteracao.id(), alteracao.dados());
+            }
+        }
+        publicar(sequenciaProdutos, sequenciaFornecedores, List.copyOf(fornecedores.values()), List.copyOf(produtos.values()));
+    }
+
+    private static <T> long lerFeed(long desde, BiFunction<String, Integer, AlteracoesResponseDTO<T>> feed,
+                                    List<AlteracaoDTO<T>> alteracoes) {
+        String token = Long.toString(desde);
+        AlteracoesResponseDTO<T> pagina;
+        do {
+            pagina = feed.apply(token, AlteracaoCatalogoService.LIMITE_MAXIMO);
+            alteracoes.addAll(pagina.alteracoes());
+            token = pagina.proximo();
+        } while (pagina.temMais());
+        return Long.parseLong(token);
+    }
+
+    private void publicar(long sequenciaProdutos, long sequenciaFornecedores,
+                          List<FornecedorResponseDTO> fornecedores, List<ProdutoResponseDTO> produtos) {
+        SnapshotCatalogo.gravar(properties.arquivo(), sequenciaProdutos, sequenciaFornecedores,
+                fornecedores, produtos, this::serializar);
+        recarregar();
+        if (registro.deveRegistrar("manutencao")) {
+            registro.registrar("manutencao", "Snapshot do catálogo gravado",
+                    Map.of("produtos", produtos.size(), "sequencia", sequenciaProdutos));
+        }
+    }
+
+    private void recarregarSeMudou() {
+        try {
+            if (!Files.getLastModifiedTime(properties.arquivo()).equals(modificadoEm)) {
+                recarregar();
+            }
+        } catch (NoSuchFileException e) {
+            // A instância exportadora ainda não gerou o arquivo
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // O snapshot anterior continua válido para quem já pegou a referência; o mapeamento sai com o GC
+    private void recarregar() {
+        try {
+            FileTime modificacao = Files.getLastModifiedTime(properties.arquivo());
+            atual.set(SnapshotCatalogo.abrir(properties.arquivo()));
+            modificadoEm = modificacao;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String serializar(ProdutoResponseDTO produto) {
+        try {
+            return objectMapper.writeValueAsString(produto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o produto " + produto.id(), e);
+        }
+    }
+
+    private void registrarFalha(String mensagem, RuntimeException erro) {
+        if (registro.deveRegistrar("manutencao")) {
+            registro.registrar("manutencao", mensagem, Map.of("erro", String.valueOf(erro)));
+        }
+    }
+
+    private record Exportacao(long sequencia, List<FornecedorResponseDTO> fornecedores, List<ProdutoResponseDTO> produtos) {}
+}
@@ -1,5 +1,7 @@
 package br.com.gerenciador.api.service;
 
+import br.com.gerenciador.api.config.Bulkhead;
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
 import br.com.gerenciador.api.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.*;
@@ -7,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Bulkhead(CargaTrabalhoEnum.AUTENTICACAO)
 public class UsuarioService implements UserDetailsService {
 
     private final UsuarioRepository usuarioRepository;
@@ -0,0 +1,86 @@
+-- Esquema inicial: o mesmo que o ddl-auto=update gerava a partir das entidades.
+-- Bancos que já existiam entram direto nesta versão (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE endereco (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    logradouro  VARCHAR(150) NOT NULL,
+    numero      VARCHAR(10)  NOT NULL,
+    complemento VARCHAR(50),
+    bairro      VARCHAR(50)  NOT NULL,
+    cidade      VARCHAR(50)  NOT NULL,
+    estado      VARCHAR(50)  NOT NULL,
+    pais        VARCHAR(50)  NOT NULL,
+    cep         VARCHAR(20)  NOT NULL
+);
+
+CREATE TABLE fornecedor (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome            VARCHAR(100) NOT NULL,
+    cnpj            VARCHAR(14)  NOT NULL,
+    tipo_fornecedor VARCHAR(255) NOT NULL CHECK (tipo_fornecedor IN ('COMUM', 'PREMIUM')),
+    endereco_id     BIGINT,
+    criado_em       TIMESTAMP(6) NOT NULL,
+    atualizado_em   TIMESTAMP(6),
+    CONSTRAINT uk_fornecedor_cnpj UNIQUE (cnpj),
+    CONSTRAINT uk_fornecedor_endereco UNIQUE (endereco_id),
+    CONSTRAINT fk_fornecedor_endereco FOREIGN KEY (endereco_id) REFERENCES endereco (id)
+);
+
+CREATE TABLE cliente (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome          VARCHAR(100) NOT NULL,
+    cpf           VARCHAR(11)  NOT NULL,
+    email         VARCHAR(100) NOT NULL,
+    endereco_id   BIGINT,
+    criado_em     TIMESTAMP(6) NOT NULL,
+    atualizado_em TIMESTAMP(6),
+    CONSTRAINT uk_cliente_cpf UNIQUE (cpf),
+    CONSTRAINT uk_cliente_email UNIQUE (email),
+    CONSTRAINT uk_cliente_endereco UNIQUE (endereco_id),
+    CONSTRAINT fk_cliente_endereco FOREIGN KEY (endereco_id) REFERENCES endereco (id)
+);
+
+CREATE TABLE produto (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome               VARCHAR(150)   NOT NULL,
+    preco              NUMERIC(10, 2) NOT NULL,
+    descricao          VARCHAR(500),
+    quantidade_estoque INTEGER        NOT NULL,
+    fornecedor_id      BIGINT         NOT NULL,
+    CONSTRAINT fk_produto_fornecedor FOREIGN KEY (fornecedor_id) REFERENCES fornecedor (id)
+);
+
+CREATE TABLE usuarios (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255),
+    email    VARCHAR(255),
+    senha    VARCHAR(255),
+    role     VARCHAR(255) CHECK (role IN ('ADMIN', 'USER')),
+    CONSTRAINT uk_usuarios_username UNIQUE (username)
+);
+
+CREATE TABLE alteracao_catalogo (
+    recurso     VARCHAR(20)  NOT NULL CHECK (recurso IN ('PRODUTO', 'CLIENTE', 'FORNECEDOR')),
+    registro_id BIGINT       NOT NULL,
+    sequencia   BIGINT       NOT NULL,
+    removido    BOOLEAN      NOT NULL,
+    alterado_em TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (recurso, registro_id),
+    CONSTRAINT uk_alteracao_catalogo_recurso_sequencia UNIQUE (recurso, sequencia)
+);
+
+CREATE TABLE sequencia_alteracao (
+    nome  VARCHAR(30) PRIMARY KEY,
+    valor BIGINT      NOT NULL
+);
+
+CREATE SEQUENCE evento_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE evento_outbox (
+    id          BIGINT PRIMARY KEY,
+    recurso     VARCHAR(20)  NOT NULL CHECK (recurso IN ('PRODUTO', 'CLIENTE', 'FORNECEDOR')),
+    registro_id BIGINT       NOT NULL,
+    tipo        VARCHAR(20)  NOT NULL CHECK (tipo IN ('CRIADO', 'ALTERADO', 'REMOVIDO')),
+    dados       TEXT,
+    ocorrido_em TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,23 @@
+-- Índices de apoio às consultas e às FKs, criados sem bloquear escritas (CONCURRENTLY, fora de transação:
+-- ver V2__indices_desempenho.sql.conf).
+-- Se a migração falhar no meio, um CREATE INDEX CONCURRENTLY interrompido deixa o índice INVÁLIDO
+-- (pg_index.indisvalid = false) e IF NOT EXISTS o pularia. Por isso cada índice é apagado antes de ser criado:
+-- repetir a migração recria os que ficaram pela metade (e também os que já estavam prontos, que são poucos e pequenos).
+-- cliente.email, cliente.endereco_id e fornecedor.endereco_id já têm índice pelas constraints UNIQUE.
+
+-- FK de produto: produtos por fornecedor e checagem da FK ao excluir um fornecedor
+DROP INDEX CONCURRENTLY IF EXISTS idx_produto_fornecedor;
+CREATE INDEX CONCURRENTLY idx_produto_fornecedor ON produto (fornecedor_id);
+
+-- Parcial: só os produtos sem estoque (poucas linhas), por fornecedor
+DROP INDEX CONCURRENTLY IF EXISTS idx_produto_sem_estoque;
+CREATE INDEX CONCURRENTLY idx_produto_sem_estoque ON produto (fornecedor_id) WHERE quantidade_estoque = 0;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_fornecedor_tipo;
+CREATE INDEX CONCURRENTLY idx_fornecedor_tipo ON fornecedor (tipo_fornecedor);
+
+-- Filtros e ordenação por data de alteração
+DROP INDEX CONCURRENTLY IF EXISTS idx_fornecedor_atualizado_em;
+CREATE INDEX CONCURRENTLY idx_fornecedor_atualizado_em ON fornecedor (atualizado_em);
+DROP INDEX CONCURRENTLY IF EXISTS idx_cliente_atualizado_em;
+CREATE INDEX CONCURRENTLY idx_cliente_atualizado_em ON cliente (atualizado_em);
@@ -0,0 +1,10 @@
+-- Particionamento de produtos (app.shards.*): diretório fornecedor -> shard e IDs únicos entre os shards.
+
+CREATE TABLE shard_fornecedor (
+    fornecedor_id BIGINT      PRIMARY KEY,
+    shard         VARCHAR(50) NOT NULL,
+    movendo_para  VARCHAR(50)
+);
+
+-- Reservada em blocos de 50 pela aplicação; ajustada na subida para depois do maior ID existente
+CREATE SEQUENCE produto_shard_seq INCREMENT BY 50;
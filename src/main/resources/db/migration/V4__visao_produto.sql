@@ -0,0 +1,73 @@
+-- Modelo de leitura dos produtos (CQRS): o ProdutoResponseDTO achatado numa linha, mais o JSON já renderizado.
+-- Mantido pelas escritas (ProdutoServiceImpl / FornecedorServiceImpl); a FK apaga a linha junto com o produto.
+
+-- Única definição da linha (e do JSON): usada na carga inicial e nas atualizações feitas pela aplicação
+CREATE VIEW produto_view_origem AS
+SELECT p.id,
+       p.nome,
+       p.preco,
+       p.descricao,
+       p.quantidade_estoque,
+       f.id              AS fornecedor_id,
+       f.nome            AS fornecedor_nome,
+       f.cnpj            AS fornecedor_cnpj,
+       f.tipo_fornecedor AS fornecedor_tipo,
+       e.logradouro      AS endereco_logradouro,
+       e.numero          AS endereco_numero,
+       e.complemento     AS endereco_complemento,
+       e.bairro          AS endereco_bairro,
+       e.cidade          AS endereco_cidade,
+       e.estado          AS endereco_estado,
+       e.pais            AS endereco_pais,
+       e.cep             AS endereco_cep,
+       json_build_object(
+               'id', p.id,
+               'nome', p.nome,
+               'preco', p.preco,
+               'descricao', p.descricao,
+               'quantidadeEstoque', p.quantidade_estoque,
+               'fornecedor', json_build_object(
+                       'id', f.id,
+                       'nome', f.nome,
+                       'cnpj', f.cnpj,
+                       'tipoFornecedor', f.tipo_fornecedor,
+                       'endereco', CASE WHEN e.id IS NULL THEN NULL ELSE json_build_object(
+                               'logradouro', e.logradouro,
+                               'numero', e.numero,
+                               'complemento', e.complemento,
+                               'bairro', e.bairro,
+                               'cidade', e.cidade,
+                               'estado', e.estado,
+                               'pais', e.pais,
+                               'cep', e.cep) END)
+       )::text           AS documento
+FROM produto p
+         JOIN fornecedor f ON f.id = p.fornecedor_id
+         LEFT JOIN endereco e ON e.id = f.endereco_id;
+
+CREATE TABLE produto_view (
+    id                   BIGINT         PRIMARY KEY,
+    nome                 VARCHAR(150)   NOT NULL,
+    preco                NUMERIC(10, 2) NOT NULL,
+    descricao            VARCHAR(500),
+    quantidade_estoque   INTEGER        NOT NULL,
+    fornecedor_id        BIGINT         NOT NULL,
+    fornecedor_nome      VARCHAR(100)   NOT NULL,
+    fornecedor_cnpj      VARCHAR(14)    NOT NULL,
+    fornecedor_tipo      VARCHAR(255)   NOT NULL,
+    endereco_logradouro  VARCHAR(150),
+    endereco_numero      VARCHAR(10),
+    endereco_complemento VARCHAR(50),
+    endereco_bairro      VARCHAR(50),
+    endereco_cidade      VARCHAR(50),
+    endereco_estado      VARCHAR(50),
+    endereco_pais        VARCHAR(50),
+    endereco_cep         VARCHAR(20),
+    documento            TEXT           NOT NULL,
+    CONSTRAINT fk_produto_view_produto FOREIGN KEY (id) REFERENCES produto (id) ON DELETE CASCADE
+);
+
+-- Renomear um fornecedor atualiza os produtos dele num único UPDATE
+CREATE INDEX idx_produto_view_fornecedor ON produto_view (fornecedor_id);
+
+INSERT INTO produto_view SELECT * FROM produto_view_origem;
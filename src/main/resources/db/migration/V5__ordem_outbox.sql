@@ -0,0 +1,16 @@
+-- Ordem de commit dos eventos do outbox e reserva de lote pelo relay (ver RelayOutboxService).
+
+-- `ordem` sai do contador `outbox` de sequencia_alteracao, travado até o commit: segue a ordem dos commits,
+-- ao contrário do ID (blocos de 50 da sequence, reservados no início da transação)
+ALTER TABLE evento_outbox ADD COLUMN ordem BIGINT;
+ALTER TABLE evento_outbox ADD COLUMN reservado_ate TIMESTAMP(6);
+
+-- Eventos ainda não entregues na subida mantêm a ordem antiga (pelo ID)
+UPDATE evento_outbox SET ordem = id;
+ALTER TABLE evento_outbox ALTER COLUMN ordem SET NOT NULL;
+
+INSERT INTO sequencia_alteracao (nome, valor)
+SELECT 'outbox', COALESCE(MAX(id), 0) FROM evento_outbox;
+
+CREATE INDEX idx_evento_outbox_ordem ON evento_outbox (ordem);
+CREATE INDEX idx_evento_outbox_reservado ON evento_outbox (reservado_ate) WHERE reservado_ate IS NOT NULL;
@@ -0,0 +1,15 @@
+-- Tabela de produtos de um shard. Sem FK para fornecedor (ele fica no banco principal):
+-- a existência é conferida pela aplicação (ExistenciaFornecedorService) antes de gravar.
+-- IF NOT EXISTS: um shard pode ser o próprio banco principal, que já tem a tabela.
+
+CREATE TABLE IF NOT EXISTS produto (
+    id                 BIGINT PRIMARY KEY,
+    nome               VARCHAR(150)   NOT NULL,
+    preco              NUMERIC(10, 2) NOT NULL,
+    descricao          VARCHAR(500),
+    quantidade_estoque INTEGER        NOT NULL,
+    fornecedor_id      BIGINT         NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_produto_fornecedor ON produto (fornecedor_id);
+CREATE INDEX IF NOT EXISTS idx_produto_sem_estoque ON produto (fornecedor_id) WHERE quantidade_estoque = 0;
@@ -0,0 +1,91 @@
+package br.com.gerenciador.api.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Token buckets do limite de requisições, com o relógio controlado pelo teste (`agora` em nanos).
+ */
+class BaldesRequisicoesTest {
+
+	private static final long SEGUNDO = 1_000_000_000L;
+	private static final long INTERVALO = SEGUNDO / 2; // 2 tokens por segundo
+	private static final long CAPACIDADE = 3;
+	private static final long EXCESSO_MAXIMO = INTERVALO * CAPACIDADE;
+
+	@Test
+	void rajadaAteACapacidadeDepoisRecusaAteRepor() {
+		BaldesRequisicoes baldes = new BaldesRequisicoes(4, 100, 1, Duration.ofMinutes(10));
+		long agora = 0;
+
+		for (int i = 0; i < CAPACIDADE; i++) {
+			assertThat(consumir(baldes, "ana", 0, agora)).isLessThanOrEqualTo(EXCESSO_MAXIMO);
+		}
+		assertThat(consumir(baldes, "ana", 0, agora)).isGreaterThan(EXCESSO_MAXIMO);
+
+		assertThat(consumir(baldes, "ana", 0, agora + INTERVALO)).isLessThanOrEqualTo(EXCESSO_MAXIMO);
+		assertThat(consumir(baldes, "ana", 0, agora + INTERVALO)).isGreaterThan(EXCESSO_MAXIMO);
+	}
+
+	@Test
+	void baldesDeUsuariosERotasSaoIndependentes() {
+		BaldesRequisicoes baldes = new BaldesRequisicoes(4, 100, 2, Duration.ofMinutes(10));
+		for (int i = 0; i < CAPACIDADE; i++) {
+			consumir(baldes, "ana", 1, 0);
+		}
+
+		assertThat(consumir(baldes, "ana", 1, 0)).isGreaterThan(EXCESSO_MAXIMO);
+		assertThat(consumir(baldes, "ana", 0, 0)).isLessThanOrEqualTo(EXCESSO_MAXIMO);
+		assertThat(consumir(baldes, "bia", 1, 0)).isLessThanOrEqualTo(EXCESSO_MAXIMO);
+	}
+
+	@Test
+	void faixaCheiaDespejaOMaisAntigoSemDividirBalde() {
+		BaldesRequisicoes baldes = new BaldesRequisicoes(1, 2, 1, Duration.ofMinutes(10));
+		consumir(baldes, "ana", 0, 0);
+		consumir(baldes, "bia", 0, 0);
+
+		for (int i = 0; i < CAPACIDADE; i++) {
+			assertThat(consumir(baldes, "caio", 0, 0)).isLessThanOrEqualTo(EXCESSO_MAXIMO);
+		}
+		assertThat(consumir(baldes, "davi", 0, 0)).isLessThanOrEqualTo(EXCESSO_MAXIMO); // balde próprio, não o do caio
+		assertThat(baldes.quantidadeClientes()).isEqualTo(2);
+	}
+
+	@Test
+	void clienteUsadoGanhaSegundaChanceNoDespejo() {
+		BaldesRequisicoes baldes = new BaldesRequisicoes(1, 2, 1, Duration.ofMinutes(10));
+		consumir(baldes, "ana", 0, 0);
+		consumir(baldes, "bia", 0, 0);
+		consumir(baldes, "caio", 0, 0); // sai a ana
+		for (int i = 1; i < CAPACIDADE; i++) {
+			consumir(baldes, "bia", 0, 0);
+		}
+
+		consumir(baldes, "davi", 0, 0); // a bia foi usada de novo: sai o caio
+
+		assertThat(consumir(baldes, "bia", 0, 0)).isGreaterThan(EXCESSO_MAXIMO); // continua sem tokens, não foi recriada
+		assertThat(baldes.quantidadeClientes()).isEqualTo(2);
+	}
+
+	@Test
+	void ociososSaemNaVarreduraDaFaixaCheia() {
+		BaldesRequisicoes baldes = new BaldesRequisicoes(1, 3, 1, Duration.ofSeconds(10));
+		consumir(baldes, "ana", 0, 0);
+		consumir(baldes, "bia", 0, 0);
+		consumir(baldes, "caio", 0, 15 * SEGUNDO);
+
+		long depois = 20 * SEGUNDO;
+		assertThat(consumir(baldes, "davi", 0, depois)).isLessThanOrEqualTo(EXCESSO_MAXIMO);
+		assertThat(baldes.quantidadeClientes()).isEqualTo(2); // ana e bia ociosas saíram juntas
+		assertThat(baldes.removerOciosos(depois + 20 * SEGUNDO)).isEqualTo(2);
+		assertThat(baldes.quantidadeClientes()).isZero();
+	}
+
+	private static long consumir(BaldesRequisicoes baldes, String usuario, int balde, long agora) {
+		return baldes.consumir(usuario, balde, INTERVALO, EXCESSO_MAXIMO, agora);
+	}
+}
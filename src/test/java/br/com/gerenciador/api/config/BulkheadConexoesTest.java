@@ -0,0 +1,124 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.enums.CargaTrabalhoEnum;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vagas do bulkhead presas às conexões de um pool Hikari real (H2 em memória, 10 conexões).
+ */
+class BulkheadConexoesTest {
+
+	private static final int LISTAGENS = 2;
+
+	private HikariDataSource pool;
+	private BulkheadConexoes conexoes;
+	private BulkheadDataSource dataSource;
+	private ExecutorService threads;
+
+	@BeforeEach
+	void configurar() {
+		pool = new HikariDataSource();
+		pool.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		pool.setMaximumPoolSize(10);
+		BulkheadProperties properties = new BulkheadProperties(Map.of(
+				CargaTrabalhoEnum.CATALOGO_LEITURA, new BulkheadProperties.Limite(LISTAGENS, Duration.ofMillis(200)),
+				CargaTrabalhoEnum.ESTATISTICAS, new BulkheadProperties.Limite(1, Duration.ofMillis(200))));
+		conexoes = new BulkheadConexoes(properties, new SimpleMeterRegistry());
+		dataSource = new BulkheadDataSource(pool, conexoes);
+		threads = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	void encerrar() {
+		threads.shutdownNow();
+		pool.close();
+	}
+
+	@Test
+	void listagensAlemDoLimiteNaoPegamConexao() throws Exception {
+		CountDownLatch abertas = new CountDownLatch(LISTAGENS);
+		CountDownLatch soltar = new CountDownLatch(1);
+		List<CompletableFuture<Object>> listagens = new ArrayList<>();
+		for (int i = 0; i <= LISTAGENS; i++) {
+			listagens.add(CompletableFuture.supplyAsync(() -> listar(abertas, soltar), threads));
+		}
+
+		assertThat(abertas.await(2, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Object> recusada = CompletableFuture.anyOf(listagens.toArray(CompletableFuture[]::new));
+		assertThat(recusada.get(2, TimeUnit.SECONDS)).isInstanceOf(SQLTransientConnectionException.class);
+		assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isEqualTo(LISTAGENS);
+
+		soltar.countDown();
+		assertThat(listagens.stream().map(CompletableFuture::join).filter("ok"::equals)).hasSize(LISTAGENS);
+		assertThat(listar(new CountDownLatch(1), soltar)).isEqualTo("ok");
+	}
+
+	@Test
+	void conexaoAninhadaUsaAMesmaVagaEElaVoltaNoUltimoClose() throws Throwable {
+		conexoes.executar(CargaTrabalhoEnum.ESTATISTICAS, () -> {
+			try (Connection externa = dataSource.getConnection()) {
+				try (Connection interna = dataSource.getConnection()) {
+					assertThat(interna.isValid(1)).isTrue();
+				}
+				assertThat(threads.submit(() -> abrirEFechar(CargaTrabalhoEnum.ESTATISTICAS)).get())
+						.isInstanceOf(SQLTransientConnectionException.class);
+				return externa;
+			}
+		});
+
+		assertThat(threads.submit(() -> abrirEFechar(CargaTrabalhoEnum.ESTATISTICAS)).get()).isEqualTo(true);
+	}
+
+	@Test
+	void conexaoForaDeServicoComBulkheadNaoPedeVaga() throws Exception {
+		try (Connection primeira = dataSource.getConnection(); Connection segunda = dataSource.getConnection();
+			 Connection terceira = dataSource.getConnection()) {
+			assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isEqualTo(3);
+		}
+	}
+
+	private Object listar(CountDownLatch abertas, CountDownLatch soltar) {
+		try {
+			return conexoes.executar(CargaTrabalhoEnum.CATALOGO_LEITURA, () -> {
+				try (Connection conexao = dataSource.getConnection()) {
+					abertas.countDown();
+					soltar.await(5, TimeUnit.SECONDS);
+					return conexao.isValid(1) ? "ok" : "invalida";
+				}
+			});
+		} catch (Throwable e) {
+			return e;
+		}
+	}
+
+	private Object abrirEFechar(CargaTrabalhoEnum carga) {
+		try {
+			return conexoes.executar(carga, () -> {
+				try (Connection conexao = dataSource.getConnection()) {
+					return conexao.isValid(1);
+				}
+			});
+		} catch (Throwable e) {
+			return e;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tempo de codificação/decodificação da listagem de `FormatosBinariosTest` em JSON, CBOR e Smile.
+ * Só informativo (impresso) e fora do `mvn test`: rode com `mvn test -Pbenchmark`.
+ */
+@Tag("benchmark")
+class FormatosBinariosBenchmarkTest {
+
+	private static final int AQUECIMENTO = 20;
+	private static final int MEDICOES = 30;
+
+	@Test
+	void tempoDeCodificacaoPorFormato() throws Exception {
+		List<ProdutoResponseDTO> produtos = FormatosBinariosTest.listagem();
+		TypeReference<List<ProdutoResponseDTO>> tipo = new TypeReference<>() {};
+
+		for (Map.Entry<String, ObjectMapper> formato : new TreeMap<>(FormatosBinariosTest.formatos()).entrySet()) {
+			ObjectMapper mapper = formato.getValue();
+			for (int i = 0; i < AQUECIMENTO; i++) {
+				mapper.readValue(mapper.writeValueAsBytes(produtos), tipo);
+			}
+			long codificacao = 0;
+			long decodificacao = 0;
+			int tamanho = 0;
+			for (int i = 0; i < MEDICOES; i++) {
+				long inicio = System.nanoTime();
+				byte[] saida = mapper.writeValueAsBytes(produtos);
+				long meio = System.nanoTime();
+				mapper.readValue(saida, tipo);
+				codificacao += meio - inicio;
+				decodificacao += System.nanoTime() - meio;
+				tamanho = saida.length;
+			}
+			System.out.printf("%-6s %9d bytes  escrita %6.2f ms  leitura %6.2f ms%n", formato.getKey(), tamanho,
+					codificacao / 1e6 / MEDICOES, decodificacao / 1e6 / MEDICOES);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package br.com.gerenciador.api.config;
+
+import br.com.gerenciador.api.dto.EnderecoDTO;
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.enums.TipoFornecedorEnum;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uma listagem de produtos volta igual em JSON, CBOR e Smile, e os formatos binários ficam menores que o JSON.
+ */
+class FormatosBinariosTest {
+
+	private static final int PRODUTOS = 5_000;
+	private static final int FORNECEDORES = 50;
+
+	static Map<String, ObjectMapper> formatos() {
+		return Map.of(
+				"json", Jackson2ObjectMapperBuilder.json().build(),
+				"cbor", Jackson2ObjectMapperBuilder.cbor().build(),
+				"smile", Jackson2ObjectMapperBuilder.smile().build());
+	}
+
+	@Test
+	void formatosBinariosSaoMenoresQueJson() throws Exception {
+		List<ProdutoResponseDTO> produtos = listagem();
+
+		Map<String, Integer> tamanhos = new TreeMap<>();
+		for (Map.Entry<String, ObjectMapper> formato : formatos().entrySet()) {
+			ObjectMapper mapper = formato.getValue();
+			byte[] bytes = mapper.writeValueAsBytes(produtos);
+			List<ProdutoResponseDTO> lidos = mapper.readValue(bytes, new TypeReference<>() {});
+			assertThat(lidos).isEqualTo(produtos);
+			tamanhos.put(formato.getKey(), bytes.length);
+		}
+
+		assertThat(tamanhos.get("cbor")).isLessThan(tamanhos.get("json"));
+		assertThat(tamanhos.get("smile")).isLessThan(tamanhos.get("json"));
+	}
+
+	static List<ProdutoResponseDTO> listagem() {
+		List<FornecedorResponseDTO> fornecedores = new ArrayList<>();
+		for (long i = 1; i <= FORNECEDORES; i++) {
+			EnderecoDTO endereco = new EnderecoDTO("Rua das Flores", String.valueOf(i), null, "Centro",
+					"João Pessoa", "PB", "Brasil", "58000-000");
+			fornecedores.add(new FornecedorResponseDTO(i, "Fornecedor " + i, "11222333000181",
+					TipoFornecedorEnum.COMUM, endereco));
+		}
+		List<ProdutoResponseDTO> produtos = new ArrayList<>();
+		for (long i = 1; i <= PRODUTOS; i++) {
+			produtos.add(new ProdutoResponseDTO(i, "Produto " + i, BigDecimal.valueOf(1999 + i, 2),
+					"Descrição do produto " + i, (int) (i % 100), fornecedores.get((int) (i % FORNECEDORES))));
+		}
+		return produtos;
+	}
+}
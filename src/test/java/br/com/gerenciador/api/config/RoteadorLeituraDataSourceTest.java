@@ -0,0 +1,116 @@
+package br.com.gerenciador.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roteamento primário/réplica com dois bancos H2 embarcados: cada banco tem uma tabela `origem`
+ * com o próprio nome, então basta ler dela para saber para onde a conexão foi.
+ */
+class RoteadorLeituraDataSourceTest {
+
+	private DataSource primario;
+	private DataSource replica;
+	private RoteadorLeituraDataSource roteador;
+	private JdbcTemplate jdbc;
+	private DataSourceTransactionManager transacoes;
+
+	@BeforeEach
+	void configurar() {
+		primario = banco("primario");
+		replica = banco("replica");
+		roteador = novoRoteador("SELECT 0");
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(roteador);
+		jdbc = new JdbcTemplate(dataSource);
+		transacoes = new DataSourceTransactionManager(dataSource);
+	}
+
+	@AfterEach
+	void limpar() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void leituraSomenteLeituraVaiParaReplica() {
+		assertThat(origem(true)).isEqualTo("replica");
+	}
+
+	@Test
+	void escritaVaiParaPrimario() {
+		assertThat(origem(false)).isEqualTo("primario");
+	}
+
+	@Test
+	void usuarioQueEscreveuLeDoPrimarioDuranteAJanela() {
+		autenticar("ana");
+		origem(false);
+		assertThat(origem(true)).isEqualTo("primario");
+
+		autenticar("bruno");
+		assertThat(origem(true)).isEqualTo("replica");
+	}
+
+	@Test
+	void escritaAnonimaNaoPrendeOutrosAnonimosNoPrimario() {
+		SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("chave", "anonymousUser",
+				AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+		origem(false);
+
+		assertThat(origem(true)).isEqualTo("replica");
+	}
+
+	@Test
+	void replicaAtrasadaSaiDoRodizio() {
+		roteador = novoRoteador("SELECT 30");
+		roteador.verificarAtraso();
+		jdbc = new JdbcTemplate(new LazyConnectionDataSourceProxy(roteador));
+		transacoes = new DataSourceTransactionManager(jdbc.getDataSource());
+
+		assertThat(roteador.getReplicasSaudaveis()).isEmpty();
+		assertThat(origem(true)).isEqualTo("primario");
+	}
+
+	private String origem(boolean somenteLeitura) {
+		TransactionTemplate template = new TransactionTemplate(transacoes);
+		template.setReadOnly(somenteLeitura);
+		return template.execute(status -> jdbc.queryForObject("SELECT nome FROM origem", String.class));
+	}
+
+	private RoteadorLeituraDataSource novoRoteador(String consultaAtraso) {
+		ReplicaProperties properties = new ReplicaProperties(true, List.of(), Duration.ofSeconds(5),
+				Duration.ofSeconds(5), Duration.ofSeconds(10), consultaAtraso, 1);
+		return new RoteadorLeituraDataSource(primario, Map.of("replica", replica), properties);
+	}
+
+	private static DataSource banco(String nome) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("CREATE TABLE IF NOT EXISTS origem (nome VARCHAR(20))");
+		jdbc.execute("DELETE FROM origem");
+		jdbc.update("INSERT INTO origem (nome) VALUES (?)", nome);
+		return dataSource;
+	}
+
+	private static void autenticar(String usuario) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(usuario, null, AuthorityUtils.NO_AUTHORITIES));
+	}
+}
@@ -0,0 +1,214 @@
+package br.com.gerenciador.api.repository;
+
+import br.com.gerenciador.api.config.ClusterShards;
+import br.com.gerenciador.api.config.ShardProperties;
+import br.com.gerenciador.api.model.Fornecedor;
+import br.com.gerenciador.api.model.Produto;
+import br.com.gerenciador.api.service.MapaShardsDiretorio;
+import br.com.gerenciador.api.service.MapaShardsHash;
+import br.com.gerenciador.api.service.RebalanceamentoShardsService;
+import br.com.gerenciador.api.service.RegistroAssincronoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Particionamento de produtos com três bancos H2 embarcados como shards e um quarto como banco principal
+ * (diretório de shards e sequence de IDs).
+ */
+class ProdutoShardRepositoryTest {
+
+	private final Map<String, JdbcTemplate> bancos = new LinkedHashMap<>();
+	private ClusterShards shards;
+	private MapaShardsDiretorio mapa;
+	private ProdutoShardRepository repositorio;
+
+	@BeforeEach
+	void configurar() {
+		String execucao = UUID.randomUUID().toString();
+		JdbcTemplate primario = new JdbcTemplate(banco("principal-" + execucao));
+		primario.execute("CREATE TABLE shard_fornecedor (fornecedor_id BIGINT PRIMARY KEY, shard VARCHAR(50) NOT NULL, movendo_para VARCHAR(50))");
+		primario.execute("CREATE SEQUENCE produto_shard_seq INCREMENT BY 50");
+
+		Map<String, DataSource> dataSources = new LinkedHashMap<>();
+		for (String nome : List.of("a", "b", "c")) {
+			DataSource dataSource = banco("shard-" + nome + "-" + execucao);
+			new JdbcTemplate(dataSource).execute("""
+					CREATE TABLE produto (id BIGINT PRIMARY KEY, nome VARCHAR(150) NOT NULL, preco NUMERIC(10, 2) NOT NULL,
+					descricao VARCHAR(500), quantidade_estoque INTEGER NOT NULL, fornecedor_id BIGINT NOT NULL)""");
+			dataSources.put(nome, dataSource);
+			bancos.put(nome, new JdbcTemplate(dataSource));
+		}
+		shards = new ClusterShards(dataSources, List.of(), 3, Duration.ofSeconds(5));
+		mapa = new MapaShardsDiretorio(primario, new MapaShardsHash(shards.nomes(), 64));
+
+		FornecedorRepository fornecedores = mock(FornecedorRepository.class);
+		when(fornecedores.getReferenceById(anyLong())).thenAnswer(chamada -> fornecedor(chamada.<Long>getArgument(0)));
+		repositorio = new ProdutoShardRepository(shards, mapa, primario, fornecedores);
+	}
+
+	@AfterEach
+	void encerrar() throws IOException {
+		shards.close();
+	}
+
+	@Test
+	void produtosDeUmFornecedorFicamNoMesmoShard() {
+		Produto primeiro = repositorio.inserir(produto("Caneta", 7L));
+		Produto segundo = repositorio.inserir(produto("Lápis", 7L));
+
+		String shard = mapa.shardParaLeitura(7L);
+		assertThat(contar(shard, 7L)).isEqualTo(2);
+		assertThat(repositorio.buscarPorId(primeiro.getId())).get()
+				.extracting(Produto::getNome).isEqualTo("Caneta");
+		assertThat(repositorio.buscarPorId(segundo.getId())).get()
+				.extracting(produto -> produto.getFornecedor().getId()).isEqualTo(7L);
+	}
+
+	@Test
+	void listagemIntercalaOsShardsPorId() {
+		for (long fornecedor = 1; fornecedor <= 12; fornecedor++) {
+			repositorio.inserir(produto("Produto " + fornecedor, fornecedor));
+		}
+
+		List<Long> ids = repositorio.listarTodos().stream().map(Produto::getId).toList();
+		assertThat(ids).hasSize(12).isSorted();
+		assertThat(repositorio.contar()).isEqualTo(12);
+		assertThat(repositorio.contarPorShard().values().stream().filter(total -> total > 0)).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void exclusaoEmLoteAlcancaTodosOsShards() {
+		List<Produto> produtos = repositorio.inserirTodos(List.of(produto("A", 1L), produto("B", 2L), produto("C", 3L)));
+		List<Long> ids = produtos.stream().map(Produto::getId).toList();
+
+		List<Produto> removidos = repositorio.deletar(List.of(ids.get(0), ids.get(2), 999_999L));
+
+		assertThat(removidos).extracting(Produto::getId).containsExactly(ids.get(0), ids.get(2));
+		assertThat(repositorio.buscarPelosIds(ids)).extracting(Produto::getId).containsExactly(ids.get(1));
+	}
+
+	@Test
+	void rebalanceamentoMoveOsProdutosDoFornecedor() {
+		repositorio.inserirTodos(List.of(produto("A", 5L), produto("B", 5L), produto("C", 5L)));
+		String origem = mapa.shardParaLeitura(5L);
+		String destino = shards.nomes().stream().filter(nome -> !nome.equals(origem)).findFirst().orElseThrow();
+
+		ShardProperties properties = new ShardProperties(true, List.of(), "diretorio", 5, 3,
+				Duration.ofSeconds(5), Duration.ZERO, 2, 64);
+		var resultado = new RebalanceamentoShardsService(mapa, repositorio, properties, mock(RegistroAssincronoService.class))
+				.moverFornecedor(5L, destino);
+
+		assertThat(resultado.produtosMovidos()).isEqualTo(3);
+		assertThat(mapa.shardParaEscrita(5L)).isEqualTo(destino);
+		assertThat(contar(origem, 5L)).isZero();
+		assertThat(contar(destino, 5L)).isEqualTo(3);
+		assertThat(repositorio.contar()).isEqualTo(3);
+	}
+
+	@Test
+	void copiaDeRebalanceamentoEmAndamentoNaoDuplicaLeituras() {
+		List<Long> ids = repositorio.inserirTodos(List.of(produto("A", 5L), produto("B", 5L))).stream()
+				.map(Produto::getId).toList();
+		String origem = mapa.shardParaLeitura(5L);
+		String destino = shards.nomes().stream().filter(nome -> !nome.equals(origem)).findFirst().orElseThrow();
+		mapa.iniciarMovimento(5L, destino);
+		repositorio.copiarFornecedor(5L, origem, destino, 10);
+
+		assertThat(repositorio.listarTodos()).extracting(Produto::getId).containsExactlyElementsOf(ids);
+		assertThat(repositorio.buscarPelosIds(ids)).hasSize(2);
+		assertThat(repositorio.contar()).isEqualTo(2);
+		assertThat(repositorio.contarPorShard()).containsEntry(origem, 2L).containsEntry(destino, 0L);
+
+		mapa.concluirMovimento(5L, destino);
+
+		assertThat(repositorio.listarTodos()).hasSize(2);
+		assertThat(repositorio.contarPorShard()).containsEntry(origem, 0L).containsEntry(destino, 2L);
+		assertThat(contar(origem, 5L)).isEqualTo(2);
+	}
+
+	@Test
+	void reversaoNaoSobrescreveEscritaPosterior() {
+		Produto produto = repositorio.inserir(produto("Caneta", 7L));
+		Produto anterior = produto.toBuilder().build();
+		produto.setNome("Caneta azul");
+		repositorio.atualizar(produto, 7L);
+		Produto gravado = produto.toBuilder().build();
+		produto.setNome("Caneta preta");
+		repositorio.atualizar(produto, 7L);
+
+		assertThat(repositorio.reverter(gravado, anterior)).isFalse();
+		assertThat(repositorio.buscarPorId(produto.getId())).get().extracting(Produto::getNome).isEqualTo("Caneta preta");
+
+		assertThat(repositorio.reverter(produto, anterior)).isTrue();
+		assertThat(repositorio.buscarPorId(produto.getId())).get().extracting(Produto::getNome).isEqualTo("Caneta");
+	}
+
+	@Test
+	void compensacaoDeExclusaoSoRestauraProdutosAusentes() {
+		List<Produto> produtos = repositorio.inserirTodos(List.of(produto("A", 1L), produto("B", 2L)));
+		List<Produto> removidos = repositorio.deletar(produtos.stream().map(Produto::getId).toList());
+		bancos.get(mapa.shardParaLeitura(1L)).update(
+				"INSERT INTO produto (id, nome, preco, quantidade_estoque, fornecedor_id) VALUES (?, 'Regravado', 1, 1, 1)",
+				removidos.get(0).getId());
+
+		repositorio.restaurarAusentes(removidos);
+
+		assertThat(repositorio.buscarPelosIds(produtos.stream().map(Produto::getId).toList()))
+				.extracting(Produto::getNome).containsExactly("Regravado", "B");
+	}
+
+	@Test
+	void escritaDoFornecedorEmMovimentoERecusada() {
+		String origem = mapa.shardParaEscrita(9L);
+		String destino = shards.nomes().stream().filter(nome -> !nome.equals(origem)).findFirst().orElseThrow();
+		mapa.iniciarMovimento(9L, destino);
+
+		assertThatThrownBy(() -> repositorio.inserir(produto("Bloqueado", 9L)))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						erro -> assertThat(erro.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+		assertThat(mapa.shardParaLeitura(9L)).isEqualTo(origem);
+	}
+
+	private int contar(String shard, long fornecedorId) {
+		return bancos.get(shard).queryForObject("SELECT count(*) FROM produto WHERE fornecedor_id = ?", Integer.class, fornecedorId);
+	}
+
+	private static Produto produto(String nome, long fornecedorId) {
+		return Produto.builder()
+				.nome(nome)
+				.preco(new BigDecimal("9.90"))
+				.quantidadeEstoque(10)
+				.fornecedor(fornecedor(fornecedorId))
+				.build();
+	}
+
+	private static Fornecedor fornecedor(long id) {
+		Fornecedor fornecedor = new Fornecedor();
+		fornecedor.setId(id);
+		return fornecedor;
+	}
+
+	private static DataSource banco(String nome) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + nome + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+	}
+}
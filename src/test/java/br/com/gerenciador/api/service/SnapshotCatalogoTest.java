@@ -0,0 +1,113 @@
+package br.com.gerenciador.api.service;
+
+import br.com.gerenciador.api.dto.EnderecoDTO;
+import br.com.gerenciador.api.dto.FornecedorResponseDTO;
+import br.com.gerenciador.api.dto.ProdutoResponseDTO;
+import br.com.gerenciador.api.enums.TipoFornecedorEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Formato do snapshot do catálogo: grava com `SnapshotCatalogo.gravar` e lê de volta pelo arquivo mapeado.
+ */
+class SnapshotCatalogoTest {
+
+	private static final EnderecoDTO ENDERECO =
+			new EnderecoDTO("Rua das Acácias", "12A", null, "Centro", "São Paulo", "SP", "Brasil", "01001-000");
+	private static final FornecedorResponseDTO FORNECEDOR =
+			new FornecedorResponseDTO(7L, "Distribuidora", "12345678000199", TipoFornecedorEnum.PREMIUM, ENDERECO);
+	private static final FornecedorResponseDTO SEM_ENDERECO =
+			new FornecedorResponseDTO(3L, "Atacado", "98765432000111", TipoFornecedorEnum.COMUM, null);
+
+	@TempDir
+	Path pasta;
+
+	@Test
+	void buscaPorIdDevolveOMesmoProdutoGravado() {
+		ProdutoResponseDTO cafe = new ProdutoResponseDTO(10L, "Café", new BigDecimal("12.50"), null, 5, FORNECEDOR);
+		ProdutoResponseDTO cha = new ProdutoResponseDTO(2L, "Chá", new BigDecimal("1.00"), "Caixa", 0, SEM_ENDERECO);
+
+		SnapshotCatalogo snapshot = gravarEAbrir(List.of(), List.of(cafe, cha));
+
+		assertThat(snapshot.buscarPorId(10L)).contains(cafe);
+		assertThat(snapshot.buscarPorId(2L)).contains(cha);
+		assertThat(snapshot.buscarPorId(99L)).isEmpty();
+		assertThat(snapshot.listarTodos()).containsExactly(cha, cafe);
+		assertThat(snapshot.sequenciaProdutos()).isEqualTo(41L);
+		assertThat(snapshot.sequenciaFornecedores()).isEqualTo(42L);
+	}
+
+	@Test
+	void jsonGravadoSaiSemSerializarDeNovo() {
+		ProdutoResponseDTO cafe = new ProdutoResponseDTO(10L, "Café", new BigDecimal("12.50"), null, 5, FORNECEDOR);
+		ProdutoResponseDTO cha = new ProdutoResponseDTO(2L, "Chá", new BigDecimal("1.00"), "Caixa", 0, SEM_ENDERECO);
+
+		SnapshotCatalogo snapshot = gravarEAbrir(List.of(), List.of(cafe, cha));
+
+		assertThat(snapshot.buscarJson(10L)).contains("{\"id\":10,\"fornecedor\":\"Distribuidora\"}");
+		assertThat(snapshot.listarJson())
+				.isEqualTo("[{\"id\":2,\"fornecedor\":\"Atacado\"},{\"id\":10,\"fornecedor\":\"Distribuidora\"}]");
+	}
+
+	@Test
+	void fornecedorDaListaPrevaleceSobreOEmbutidoNoProduto() {
+		FornecedorResponseDTO renomeado = new FornecedorResponseDTO(7L, "Distribuidora Nova", "12345678000199",
+				TipoFornecedorEnum.PREMIUM, ENDERECO);
+		ProdutoResponseDTO cafe = new ProdutoResponseDTO(10L, "Café", new BigDecimal("12.50"), null, 5, FORNECEDOR);
+
+		SnapshotCatalogo snapshot = gravarEAbrir(List.of(renomeado), List.of(cafe));
+
+		assertThat(snapshot.buscarPorId(10L)).get().extracting(ProdutoResponseDTO::fornecedor).isEqualTo(renomeado);
+		assertThat(snapshot.buscarJson(10L)).contains("{\"id\":10,\"fornecedor\":\"Distribuidora Nova\"}");
+		assertThat(snapshot.fornecedores()).containsOnlyKeys(7L);
+	}
+
+	@Test
+	void mapeamentoAntigoContinuaValidoDepoisDaTroca() {
+		ProdutoResponseDTO cafe = new ProdutoResponseDTO(10L, "Café", new BigDecimal("12.50"), null, 5, FORNECEDOR);
+		SnapshotCatalogo antigo = gravarEAbrir(List.of(), List.of(cafe));
+
+		SnapshotCatalogo novo = gravarEAbrir(List.of(), List.of());
+
+		assertThat(antigo.buscarPorId(10L)).contains(cafe);
+		assertThat(novo.buscarPorId(10L)).isEmpty();
+		assertThat(pasta.toFile().list()).containsExactly("catalogo.snapshot");
+	}
+
+	@Test
+	void arquivoCorrompidoEhRecusadoPeloChecksum() throws Exception {
+		ProdutoResponseDTO cafe = new ProdutoResponseDTO(10L, "Café", new BigDecimal("12.50"), null, 5, FORNECEDOR);
+		gravarEAbrir(List.of(), List.of(cafe));
+		Path arquivo = pasta.resolve("catalogo.snapshot");
+		byte[] conteudo = Files.readAllBytes(arquivo);
+		conteudo[conteudo.length - 2] ^= 1;
+		Files.write(arquivo, conteudo);
+
+		assertThatThrownBy(() -> SnapshotCatalogo.abrir(arquivo))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("checksum");
+	}
+
+	@Test
+	void arquivoQueNaoEhSnapshotEhRecusado() throws Exception {
+		Path arquivo = Files.writeString(pasta.resolve("outro.bin"), "nao sou um snapshot do catalogo, so texto");
+
+		assertThatThrownBy(() -> SnapshotCatalogo.abrir(arquivo))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private SnapshotCatalogo gravarEAbrir(List<FornecedorResponseDTO> fornecedores, List<ProdutoResponseDTO> produtos) {
+		Path arquivo = pasta.resolve("catalogo.snapshot");
+		SnapshotCatalogo.gravar(arquivo, 41L, 42L, fornecedores, produtos,
+				produto -> "{\"id\":" + produto.id() + ",\"fornecedor\":\"" + produto.fornecedor().nome() + "\"}");
+		return SnapshotCatalogo.abrir(arquivo);
+	}
+}